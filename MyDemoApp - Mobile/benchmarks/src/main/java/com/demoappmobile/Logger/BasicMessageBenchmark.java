@@ -0,0 +1,57 @@
+package com.demoappmobile.Logger;
+
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import io.appium.java_client.AppiumBy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures describing an element or locator for a log line, which every logged action does:
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar BasicMessageBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicMessageBenchmark {
+
+    private final By locator = By.xpath("//android.widget.Button[@content-desc=\"Login button\"]");
+    private final By accessibilityLocator = AppiumBy.accessibilityId("Login button");
+    private WebElement element;
+
+    @Setup
+    public void findElement() {
+        element = new FakeAndroidSession().recordCommands(false).getDriver().findElement(locator);
+    }
+
+    @Benchmark
+    public String xpathFromWebElement() {
+        return BasicMessage.getXpathFromWebElement(element);
+    }
+
+    @Benchmark
+    public String xpathFromLocator() {
+        return BasicMessage.getXpathFromLocator(locator);
+    }
+
+    @Benchmark
+    public String descriptionFromAccessibilityLocator() {
+        return BasicMessage.getXpathFromLocator(accessibilityLocator);
+    }
+}
@@ -0,0 +1,41 @@
+package com.demoappmobile.ansi.colors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures colouring a log line, which every logged action does at least once:
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar AnsiColorPaletteBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AnsiColorPaletteBenchmark {
+
+    // Not a constant, so the concatenation cannot be folded at compile time
+    private String text = "clickElement -> //android.widget.Button[@content-desc=\"Login button\"]";
+
+    @Benchmark
+    public String textColor() {
+        return AnsiColorPalette.applyColor(text, AnsiColorPalette.GREEN_BOLD);
+    }
+
+    @Benchmark
+    public String textAndBackgroundColor() {
+        return AnsiColorPalette.applyColor(text, AnsiColorPalette.BLACK, AnsiColorPalette.RED_BACKGROUND);
+    }
+}
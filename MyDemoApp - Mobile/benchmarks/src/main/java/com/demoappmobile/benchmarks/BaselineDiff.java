@@ -0,0 +1,113 @@
+package com.demoappmobile.benchmarks;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares two JSON results of the {@link BenchmarkRunner}, e.g. the baseline of the main branch and the results of a
+ * change. Prints the score and the allocated bytes per operation of every benchmark in both results and marks the
+ * ones that got worse by more than the threshold. Exits with status 1 if any did, so CI can fail on regressions.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * java -cp benchmarks/target/benchmarks.jar com.demoappmobile.benchmarks.BaselineDiff baseline.json current.json 10
+ * }</pre>
+ */
+public final class BaselineDiff {
+
+    private static final double DEFAULT_THRESHOLD_PERCENT = 10;
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    // Allocation-free benchmarks report fractions of a byte that vary by large percentages between runs
+    private static final double ALLOCATION_NOISE_BYTES = 8;
+
+    private BaselineDiff() { }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: BaselineDiff <baseline.json> <current.json> [threshold percent, default 10]");
+            System.exit(2);
+        }
+        double thresholdPercent = args.length > 2 ? Double.parseDouble(args[2]) : DEFAULT_THRESHOLD_PERCENT;
+        Map<String, Result> baseline = read(Path.of(args[0]));
+        Map<String, Result> current = read(Path.of(args[1]));
+
+        int regressions = 0;
+        System.out.printf("%-90s %24s %24s%n", "Benchmark", "Score", "Allocated");
+        for (Map.Entry<String, Result> entry : current.entrySet()) {
+            Result before = baseline.get(entry.getKey());
+            Result after = entry.getValue();
+            if (before == null) {
+                System.out.printf("%-90s %24s %24s%n", entry.getKey(), format(after.score) + " " + after.unit + " (new)",
+                        format(after.allocatedBytes) + " B/op");
+                continue;
+            }
+            double scoreChange = change(before.score, after.score);
+            double allocationChange = change(before.allocatedBytes, after.allocatedBytes);
+            // Throughput gets worse when it drops, all time based modes when they rise
+            double scoreRegression = after.throughput ? -scoreChange : scoreChange;
+            boolean allocationRegressed = allocationChange > thresholdPercent
+                    && after.allocatedBytes - before.allocatedBytes > ALLOCATION_NOISE_BYTES;
+            boolean regressed = scoreRegression > thresholdPercent || allocationRegressed;
+            if (regressed) {
+                regressions++;
+            }
+            System.out.printf("%-90s %24s %24s%s%n", entry.getKey(),
+                    format(after.score) + " " + after.unit + " (" + formatChange(scoreChange) + ")",
+                    format(after.allocatedBytes) + " B/op (" + formatChange(allocationChange) + ")",
+                    regressed ? "  REGRESSION" : "");
+        }
+        baseline.keySet().stream().filter(key -> !current.containsKey(key)).forEach(key -> System.out.printf("%-90s %24s%n", key, "(removed)"));
+        System.out.printf("%d of %d benchmarks regressed by more than %s%%%n", regressions, current.size(), thresholdPercent);
+        if (regressions > 0) {
+            System.exit(1);
+        }
+    }
+
+    static Map<String, Result> read(Path resultFile) throws IOException {
+        List<Map<String, Object>> benchmarks = new Json().toType(Files.readString(resultFile, StandardCharsets.UTF_8), Json.LIST_OF_MAPS_TYPE);
+        Map<String, Result> results = new TreeMap<>();
+        for (Map<String, Object> benchmark : benchmarks) {
+            Map<?, ?> primaryMetric = (Map<?, ?>) benchmark.get("primaryMetric");
+            Map<?, ?> secondaryMetrics = (Map<?, ?>) benchmark.getOrDefault("secondaryMetrics", Map.of());
+            Map<?, ?> allocation = (Map<?, ?>) secondaryMetrics.get(ALLOCATION_METRIC);
+            results.put(key(benchmark), new Result(((Number) primaryMetric.get("score")).doubleValue(),
+                    String.valueOf(primaryMetric.get("scoreUnit")),
+                    "thrpt".equals(benchmark.get("mode")),
+                    allocation == null ? Double.NaN : ((Number) allocation.get("score")).doubleValue()));
+        }
+        return results;
+    }
+
+    private static String key(Map<String, Object> benchmark) {
+        StringBuilder key = new StringBuilder(String.valueOf(benchmark.get("benchmark")).replace("com.demoappmobile.", ""));
+        if (benchmark.get("params") instanceof Map<?, ?> params && !params.isEmpty()) {
+            key.append(new LinkedHashMap<>(params));
+        }
+        return key.append(" [").append(benchmark.get("mode")).append(']').toString();
+    }
+
+    private static double change(double before, double after) {
+        if (Double.isNaN(before) || Double.isNaN(after) || before == 0) {
+            return after == before ? 0 : Double.NaN;
+        }
+        return (after - before) / before * 100;
+    }
+
+    private static String formatChange(double change) {
+        return Double.isNaN(change) ? "n/a" : String.format("%+.1f%%", change);
+    }
+
+    private static String format(double value) {
+        return Double.isNaN(value) ? "n/a" : String.format("%.3f", value);
+    }
+
+    record Result(double score, String unit, boolean throughput, double allocatedBytes) { }
+}
@@ -0,0 +1,43 @@
+package com.demoappmobile.benchmarks;
+
+import org.openjdk.jmh.Main;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * The entry point of the benchmark jar. Runs the selected benchmarks like the JMH launcher, always with the GC
+ * profiler so every result carries its allocation rate ({@code gc.alloc.rate.norm}, bytes per operation), and writes
+ * the results as JSON to {@code jmh-baseline.json} unless another file is given with {@code -rff}.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar -rff baseline/main.json
+ * java -jar benchmarks/target/benchmarks.jar ActionHandler -rff target/current.json
+ * java -cp benchmarks/target/benchmarks.jar com.demoappmobile.benchmarks.BaselineDiff baseline/main.json target/current.json
+ * }</pre>
+ */
+public final class BenchmarkRunner {
+
+    static final String DEFAULT_RESULT_FILE = "jmh-baseline.json";
+
+    private BenchmarkRunner() { }
+
+    public static void main(String[] args) throws Exception {
+        CommandLineOptions commandLine = new CommandLineOptions(args);
+        if (commandLine.shouldHelp() || commandLine.shouldList() || commandLine.shouldListWithParams()
+                || commandLine.shouldListProfilers() || commandLine.shouldListResultFormats()) {
+            Main.main(args);
+            return;
+        }
+        Options options = new OptionsBuilder().parent(commandLine)
+                                              .addProfiler(GCProfiler.class)
+                                              .resultFormat(ResultFormatType.JSON)
+                                              .result(commandLine.getResult().orElse(DEFAULT_RESULT_FILE))
+                                              .build();
+        new Runner(options).run();
+    }
+}
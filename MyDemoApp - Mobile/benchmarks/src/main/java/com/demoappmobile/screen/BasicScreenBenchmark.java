@@ -0,0 +1,69 @@
+package com.demoappmobile.screen;
+
+import com.demoappmobile.screen.nativecontext.Catalog;
+import com.demoappmobile.screen.nativecontext.Login;
+import com.demoappmobile.screenutilities.ScreenRegistry;
+import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.WebDriver;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures creating screens, which decorates every element field through the PageFactory, and looking up a screen
+ * that the session's registry already created:
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar BasicScreenBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class BasicScreenBenchmark {
+
+    private FakeAndroidSession session;
+    private WebDriver driver;
+    private ScreenRegistry screens;
+
+    @Setup
+    public void attachSession() {
+        // Benchmark threads run the @Setup methods of Scope.Thread states, so the session is bound to the measuring thread
+        session = new FakeAndroidSession().recordCommands(false).attach();
+        driver = session.getDriver();
+        screens = DriverManager.getInstance().getScreenRegistry();
+    }
+
+    @TearDown
+    public void detachSession() {
+        session.detach();
+    }
+
+    @Benchmark
+    public Login newLoginScreen() {
+        return new Login(driver);
+    }
+
+    @Benchmark
+    public Catalog newCatalogScreen() {
+        return new Catalog(driver);
+    }
+
+    @Benchmark
+    public Catalog registeredCatalogScreen() {
+        return screens.get(Catalog.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.demoappmobile.screenutilities.action;
+
+import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures a click through CommonMethods against a driver answering every command in memory, so the result is the
+ * framework's own share of a click: waiting for the element, retry handling, logging and command serialization.
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar CommonMethodsBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CommonMethodsBenchmark {
+
+    private final By locator = By.xpath("//android.view.ViewGroup[@content-desc=\"Login button\"]");
+    private FakeAndroidSession session;
+    private CommonMethods commonMethods;
+    private WebElement element;
+
+    @Setup
+    public void attachSession() {
+        session = new FakeAndroidSession().recordCommands(false).attach();
+        commonMethods = DriverManager.getInstance().getSessionContext().getCommonMethods();
+        element = session.getDriver().findElement(locator);
+    }
+
+    @TearDown
+    public void detachSession() {
+        session.detach();
+    }
+
+    @Benchmark
+    public WebElement clickElement() {
+        commonMethods.clickElement(element);
+        return element;
+    }
+
+    @Benchmark
+    public By clickElementByLocator() {
+        commonMethods.clickElement(locator);
+        return locator;
+    }
+}
@@ -0,0 +1,105 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the overhead ActionHandler adds to an action that succeeds on its first attempt, which is the common case
+ * for every click, text read and key press in the tests, and to an action that needs one immediate retry:
+ * <pre>{@code
+ * java -jar benchmarks/target/benchmarks.jar ActionHandlerBenchmark
+ * }</pre>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ActionHandlerBenchmark {
+
+    private static final RetryPolicy RETRY_POLICY = RetryPolicy.exponential(3);
+    private static final RetryPolicy IMMEDIATE_RETRY_POLICY = RetryPolicy.immediate(3);
+    private static final RetryableExceptions CLICK_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class, ElementClickInterceptedException.class);
+
+    private final Element element = new Element();
+    private final FlakyElement flakyElement = new FlakyElement();
+
+    @Benchmark
+    public Element capturingLambdaWithVarargs() {
+        ActionHandler.executeVoidWithRetry(() -> element.click(), RETRY_POLICY,
+                StaleElementReferenceException.class, ElementClickInterceptedException.class);
+        return element;
+    }
+
+    @Benchmark
+    public Element capturingLambdaWithPrecompiledExceptions() {
+        ActionHandler.executeVoidWithRetry(() -> element.click(), RETRY_POLICY, CLICK_EXCEPTIONS);
+        return element;
+    }
+
+    @Benchmark
+    public Element nonCapturingAction() {
+        ActionHandler.executeVoidWithRetry("click", element, Element::click, RETRY_POLICY, CLICK_EXCEPTIONS);
+        return element;
+    }
+
+    @Benchmark
+    public String nonCapturingFunction() {
+        return ActionHandler.executeWithRetry("getText", element, Element::getText, RETRY_POLICY, CLICK_EXCEPTIONS);
+    }
+
+    @Benchmark
+    public FlakyElement retriedOnceAction() {
+        flakyElement.failNextClick();
+        ActionHandler.executeVoidWithRetry("click", flakyElement, FlakyElement::click, IMMEDIATE_RETRY_POLICY, CLICK_EXCEPTIONS);
+        return flakyElement;
+    }
+
+    public static class Element {
+
+        private int clicks;
+
+        void click() {
+            clicks++;
+        }
+
+        String getText() {
+            return "Products";
+        }
+    }
+
+    /**
+     * Fails its next click with an exception created once, so only the retry itself is measured.
+     */
+    public static class FlakyElement {
+
+        private static final StaleElementReferenceException STALE = new StaleElementReferenceException("Re-rendered");
+
+        private boolean failNextClick;
+        private int clicks;
+
+        void failNextClick() {
+            failNextClick = true;
+        }
+
+        void click() {
+            if (failNextClick) {
+                failNextClick = false;
+                throw STALE;
+            }
+            clicks++;
+        }
+    }
+}
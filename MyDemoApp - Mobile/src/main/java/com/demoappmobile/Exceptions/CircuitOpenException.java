@@ -0,0 +1,26 @@
+package com.demoappmobile.Exceptions;
+
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Thrown instead of sending a command to the Appium server while the circuit breaker of the session is open, i.e.
+ * after several consecutive transport failures or timeouts. Failing immediately keeps a hung server or a dead device
+ * from costing a full wait timeout and every retry of every remaining action.
+ * <p>
+ * This class extends {@link WebDriverException} rather than {@link RuntimeException} directly, because it is thrown
+ * from within the driver's command executor: Selenium passes WebDriver exceptions through unchanged, while any other
+ * exception would be wrapped and lose its type. Retry logic does not retry it, as it is not a transient element state.
+ */
+public class CircuitOpenException extends WebDriverException {
+
+    /**
+     * Constructs a new exception with the specified detail message and cause. The message should name the session
+     * whose circuit is open and when the next probe is allowed.
+     *
+     * @param message The detail message explaining why the command was rejected.
+     * @param cause   The transport failure that tripped the circuit breaker, may be null.
+     */
+    public CircuitOpenException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,33 @@
+package com.demoappmobile.Exceptions;
+
+/**
+ * Thrown when a test account could not be leased from the account pool within the lease timeout.
+ * This happens when every account of the requested role is leased by other tests running in parallel and none
+ * of them is returned in time, or when the credentials define no account of the role at all.
+ * <p>
+ * Extending {@link RuntimeException}, this class lets test setup fail fast with a clear reason instead of
+ * logging in with an account another test is using at the same time.
+ */
+public class NoAccountAvailableException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with the specified detail message. The message should name the role for which
+     * no account was available and how long the lease waited.
+     *
+     * @param message The detail message explaining why no account could be leased.
+     */
+    public NoAccountAvailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message and cause. This constructor is useful
+     * when the lease was interrupted.
+     *
+     * @param message The detail message explaining why no account could be leased.
+     * @param cause   The cause of the exception, such as the interruption.
+     */
+    public NoAccountAvailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
@@ -0,0 +1,32 @@
+package com.demoappmobile.Exceptions;
+
+/**
+ * Thrown when a driver session could not be leased from the session pool within the lease timeout.
+ * This happens when every session slot is taken by other tests and none of them is returned in time.
+ * <p>
+ * Extending {@link RuntimeException}, this class lets test setup fail fast with a clear reason instead of
+ * waiting indefinitely for a device that is busy or no longer responding.
+ */
+public class NoSessionAvailableException extends RuntimeException {
+
+    /**
+     * Constructs a new exception with the specified detail message. The message should name the device
+     * for which no session was available and how long the lease waited.
+     *
+     * @param message The detail message explaining why no session could be leased.
+     */
+    public NoSessionAvailableException(String message) {
+        super(message);
+    }
+
+    /**
+     * Constructs a new exception with the specified detail message and cause. This constructor is useful
+     * when the lease was interrupted or a new session failed to start.
+     *
+     * @param message The detail message explaining why no session could be leased.
+     * @param cause   The cause of the exception, such as the interruption or the session start-up failure.
+     */
+    public NoSessionAvailableException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
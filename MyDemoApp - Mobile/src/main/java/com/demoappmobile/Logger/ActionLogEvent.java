@@ -0,0 +1,58 @@
+package com.demoappmobile.Logger;
+
+import com.demoappmobile.ansi.AnsiTemplate;
+import org.slf4j.event.Level;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One action log message, captured on the thread that logged it and rendered later by the {@link ActionLogSink}.
+ * Everything that depends on the calling thread or touches the driver, like the locator description, is resolved
+ * before the event is created, so rendering it never talks to the device.
+ *
+ * @param timestampMillis The wall-clock time the message was logged at.
+ * @param level           The level of the message.
+ * @param loggerName      The name of the logger the message was logged through.
+ * @param action          The logged action, e.g. {@code clickingElement}.
+ * @param locator         The description of the element or locator the action works on, or null.
+ * @param thread          The name of the thread that logged the message.
+ * @param session         The session attached to that thread, or null.
+ * @param durationMillis  How long the logged action took, or null if the message carries no timing.
+ * @param template        The message template, including its ANSI colours.
+ * @param arguments       The arguments of the template.
+ */
+public record ActionLogEvent(long timestampMillis, Level level, String loggerName, String action, String locator,
+                             String thread, String session, Long durationMillis, String template, Object[] arguments) {
+
+    /**
+     * @return The message with its arguments filled in and its ANSI colours removed.
+     */
+    public String plainMessage() {
+        return AnsiTemplate.of(template).renderPlain(arguments);
+    }
+
+    /**
+     * @return The message with its arguments filled in, coloured unless colours are switched off.
+     */
+    public String message() {
+        return AnsiTemplate.of(template).render(arguments);
+    }
+
+    /**
+     * @return The structured fields of the event, in the order they are written to the JSON-lines file.
+     */
+    public Map<String, Object> toMap() {
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("timestamp", timestampMillis);
+        fields.put("level", level.name());
+        fields.put("logger", loggerName);
+        fields.put("action", action);
+        fields.put("locator", locator);
+        fields.put("thread", thread);
+        fields.put("session", session);
+        fields.put("durationMillis", durationMillis);
+        fields.put("message", plainMessage());
+        return fields;
+    }
+}
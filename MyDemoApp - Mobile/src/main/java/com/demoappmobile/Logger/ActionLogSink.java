@@ -0,0 +1,248 @@
+package com.demoappmobile.Logger;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.json.JsonOutput;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.slf4j.MDC;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Takes action log messages off the test threads. Messages are queued as {@link ActionLogEvent}s in a bounded buffer
+ * and rendered by a single background thread, which writes every event as one JSON line to a file and forwards it to
+ * the console logger. ANSI colours only end up on the console, the JSON lines carry the plain message next to the
+ * structured fields: action, locator, thread, session and timing.
+ * <p>
+ * When the buffer is full, the {@link OverflowPolicy} decides whether the logging thread waits for free space or the
+ * event is dropped and counted. Once the sink is closed, {@link #publish(ActionLogEvent)} refuses further events and
+ * the messages are logged synchronously again.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @BeforeSuite
+ * public void enableActionLog() throws IOException {
+ *     ActionLogSink.install(ActionLogSink.open(Path.of("target", "action-log.jsonl"), 8192, OverflowPolicy.DROP));
+ * }
+ *
+ * @AfterSuite
+ * public void closeActionLog() {
+ *     ActionLogSink.uninstall();
+ * }
+ * }</pre>
+ */
+public final class ActionLogSink implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(ActionLogSink.class);
+    private static final ActionLogEvent END_OF_STREAM = new ActionLogEvent(0, null, null, null, null, null, null, null, null, null);
+    private static final int MAX_BATCH_SIZE = 256;
+    private static volatile ActionLogSink installed;
+
+    private final BlockingQueue<ActionLogEvent> buffer;
+    private final OverflowPolicy overflowPolicy;
+    private final Writer writer;
+    private final Json json = new Json();
+    private final LongAdder dropped = new LongAdder();
+    // Publishers share the read lock while queueing, so closing cannot slip in between their closed check and their event
+    private final ReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private volatile boolean closed;
+    private final Thread consumer;
+
+    ActionLogSink(Writer writer, int capacity, OverflowPolicy overflowPolicy) {
+        this.buffer = new ArrayBlockingQueue<>(capacity);
+        this.overflowPolicy = overflowPolicy;
+        this.writer = writer;
+        this.consumer = new Thread(this::drain, "action-log");
+        this.consumer.setDaemon(true);
+        this.consumer.start();
+    }
+
+    /**
+     * Opens a sink appending JSON lines to the given file. The sink is closed on JVM shutdown at the latest, so events
+     * still buffered when the suite ends are not lost.
+     *
+     * @param file           The JSON-lines file, created along with its parent directories if missing.
+     * @param capacity       The number of events the buffer holds.
+     * @param overflowPolicy What happens to events published while the buffer is full.
+     * @return The running sink.
+     * @throws IOException If the file cannot be opened.
+     */
+    public static ActionLogSink open(Path file, int capacity, OverflowPolicy overflowPolicy) throws IOException {
+        if (file.getParent() != null) {
+            Files.createDirectories(file.getParent());
+        }
+        ActionLogSink sink = new ActionLogSink(Files.newBufferedWriter(file, StandardCharsets.UTF_8), capacity, overflowPolicy);
+        Runtime.getRuntime().addShutdownHook(new Thread(sink::close, "action-log-shutdown"));
+        return sink;
+    }
+
+    /**
+     * Routes the messages of {@link InfoMessage} and {@link ErrorMessage} through the given sink, closing the sink
+     * installed before.
+     *
+     * @param sink The sink to install.
+     */
+    public static void install(ActionLogSink sink) {
+        ActionLogSink previous = installed;
+        installed = sink;
+        if (previous != null) {
+            previous.close();
+        }
+    }
+
+    /**
+     * Closes the installed sink, if any, and goes back to logging synchronously.
+     */
+    public static void uninstall() {
+        install(null);
+    }
+
+    /**
+     * @return The installed sink, or null if messages are logged synchronously.
+     */
+    public static ActionLogSink installed() {
+        return installed;
+    }
+
+    /**
+     * Queues an event for rendering, applying the overflow policy if the buffer is full.
+     *
+     * @param event The event to queue.
+     * @return true if the sink took care of the event, even by dropping it; false if the sink is closed and the caller
+     * has to log the event itself.
+     */
+    public boolean publish(ActionLogEvent event) {
+        if (closed) {
+            return false;
+        }
+        closeLock.readLock().lock();
+        try {
+            if (closed) {
+                return false;
+            }
+            if (overflowPolicy == OverflowPolicy.BLOCK) {
+                try {
+                    buffer.put(event);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    dropped.increment();
+                }
+            } else if (!buffer.offer(event)) {
+                dropped.increment();
+            }
+            return true;
+        } finally {
+            closeLock.readLock().unlock();
+        }
+    }
+
+    /**
+     * @return The number of events dropped because the buffer was full.
+     */
+    public long getDroppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Stops accepting events, renders the events still buffered and closes the file. Waits for publishers still
+     * queueing an event and then for the rendering thread to finish; calling it again has no effect.
+     */
+    @Override
+    public void close() {
+        closeLock.writeLock().lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+        } finally {
+            closeLock.writeLock().unlock();
+        }
+        // Every accepted event is queued by now, so the end marker is the last event the rendering thread takes
+        try {
+            buffer.put(END_OF_STREAM);
+            consumer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (dropped.sum() > 0) {
+            logger.warn("Action log dropped {} events because its buffer was full", dropped.sum());
+        }
+    }
+
+    private void drain() {
+        List<ActionLogEvent> batch = new ArrayList<>(MAX_BATCH_SIZE);
+        StringBuilder line = new StringBuilder();
+        try (writer) {
+            while (true) {
+                batch.add(buffer.take());
+                buffer.drainTo(batch, MAX_BATCH_SIZE - 1);
+                for (ActionLogEvent event : batch) {
+                    if (event == END_OF_STREAM) {
+                        return;
+                    }
+                    try {
+                        render(event, line);
+                    } catch (RuntimeException e) {
+                        // One event that cannot be rendered, e.g. because of an argument failing in toString, must not
+                        // stop the rendering thread and leave publishers waiting for space that never frees up
+                        logger.error("Action log could not render an event of {}, skipping it", event.action(), e);
+                    }
+                }
+                batch.clear();
+                // Flushing only once the buffer ran empty turns bursts of events into a few large writes
+                if (buffer.isEmpty()) {
+                    writer.flush();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            closed = true;
+            buffer.clear();
+            logger.error("Action log stopped writing, falling back to synchronous logging", new UncheckedIOException(e));
+        }
+    }
+
+    private void render(ActionLogEvent event, StringBuilder line) throws IOException {
+        line.setLength(0);
+        try (JsonOutput output = json.newOutput(line)) {
+            output.setPrettyPrint(false);
+            output.write(event.toMap());
+        }
+        writer.append(line).append(System.lineSeparator());
+
+        MDC.put("source", event.session() == null ? event.thread() : event.thread() + "@" + event.session());
+        try {
+            LoggerFactory.getLogger(event.loggerName()).atLevel(event.level()).log(event.message());
+        } finally {
+            MDC.remove("source");
+        }
+    }
+
+    /**
+     * What {@link #publish(ActionLogEvent)} does when the buffer is full.
+     */
+    public enum OverflowPolicy {
+        /**
+         * The event is discarded and counted, the logging thread never waits.
+         */
+        DROP,
+        /**
+         * The logging thread waits until the rendering thread frees up space, no event is lost.
+         */
+        BLOCK
+    }
+}
@@ -1,15 +1,30 @@
 package com.demoappmobile.Logger;
 
+import com.demoappmobile.ansi.AnsiTemplate;
 import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
+import org.slf4j.Logger;
+import org.slf4j.MDC;
+import org.slf4j.event.Level;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.UnaryOperator;
+import java.util.regex.Pattern;
 
 public abstract class BasicMessage {
 
+    private static final Pattern XPATH_PREFIX = Pattern.compile(".*-> xpath: ");
+    private static final Pattern TRAILING_BRACKET = Pattern.compile("\\]$");
+    // Descriptions are keyed by the raw toString() of the element or locator, which identifies the locator it was found by
+    private static final int MAX_CACHED_DESCRIPTIONS = 1024;
+    private static final Map<String, String> elementDescriptions = new ConcurrentHashMap<>();
+    private static final Map<String, String> locatorDescriptions = new ConcurrentHashMap<>();
+
     public static String getXpathFromWebElement(WebElement webElement) {
-        return webElement.toString().replaceAll(".*-> xpath: ", "").replaceAll("\\]$", "");
+        return cachedDescription(elementDescriptions, webElement.toString(), BasicMessage::describeElement);
     }
 
     public static List<String> getXpathsFromWebElements(List<WebElement> webElements) {
@@ -22,7 +37,7 @@ public abstract class BasicMessage {
     }
 
     public static String getXpathFromLocator(By locator) {
-        return locator.toString().replaceAll(".*-> xpath: ", "").replaceAll("\\]$", "");
+        return cachedDescription(locatorDescriptions, locator.toString(), BasicMessage::describeLocator);
     }
 
     public static List<String> getXpathsFromLocators(List<By> locators) {
@@ -33,4 +48,62 @@ public abstract class BasicMessage {
         }
         return xpaths;
     }
+
+    /**
+     * Logs an action message, through the installed {@link ActionLogSink} if there is one and synchronously otherwise.
+     * Callers check the level first and describe the element before calling, so nothing is computed for disabled
+     * levels and the sink never has to talk to the driver.
+     *
+     * @param logger    The logger of the message.
+     * @param level     The level of the message.
+     * @param action    The logged action, written to the structured log.
+     * @param locator   The description of the element or locator the action works on, or null.
+     * @param template  The message template.
+     * @param arguments The arguments of the template.
+     */
+    protected static void log(Logger logger, Level level, String action, String locator, String template, Object... arguments) {
+        publish(logger, level, action, locator, null, template, arguments);
+    }
+
+    /**
+     * Logs an action message like {@link #log(Logger, Level, String, String, String, Object...)}, recording how long
+     * the action took in the structured log.
+     */
+    protected static void logTimed(Logger logger, Level level, String action, long durationMillis, String template, Object... arguments) {
+        publish(logger, level, action, null, durationMillis, template, arguments);
+    }
+
+    private static void publish(Logger logger, Level level, String action, String locator, Long durationMillis, String template, Object[] arguments) {
+        ActionLogSink sink = ActionLogSink.installed();
+        if (sink != null) {
+            ActionLogEvent event = new ActionLogEvent(System.currentTimeMillis(), level, logger.getName(), action, locator,
+                    Thread.currentThread().getName(), MDC.get("session"), durationMillis, template, arguments);
+            if (sink.publish(event)) {
+                return;
+            }
+        }
+        logger.atLevel(level).log(AnsiTemplate.of(template).render(arguments));
+    }
+
+    private static String describeElement(String elementString) {
+        // "[[AndroidDriver: ...] -> xpath: //a[@b]]" is reduced to "//a[@b]"
+        return TRAILING_BRACKET.matcher(XPATH_PREFIX.matcher(elementString).replaceAll("")).replaceAll("");
+    }
+
+    private static String describeLocator(String locatorString) {
+        // Locators are not wrapped in brackets, a trailing bracket belongs to the selector itself
+        return XPATH_PREFIX.matcher(locatorString).replaceAll("");
+    }
+
+    private static String cachedDescription(Map<String, String> cache, String rawString, UnaryOperator<String> describe) {
+        String description = cache.get(rawString);
+        if (description == null) {
+            description = describe.apply(rawString);
+            if (cache.size() >= MAX_CACHED_DESCRIPTIONS) {
+                cache.clear();
+            }
+            cache.put(rawString, description);
+        }
+        return description;
+    }
 }
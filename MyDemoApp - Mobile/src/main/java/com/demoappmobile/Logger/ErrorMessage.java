@@ -5,6 +5,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
 public abstract class ErrorMessage extends BasicMessage {
 
@@ -14,6 +15,7 @@ public abstract class ErrorMessage extends BasicMessage {
     public static final String FAILED_TO_CLOSE_BROWSER = Color.redBold("Failed to close the browser!");
     public static final String FAILED_TO_QUIT_WEB_DRIVER = Color.redBold("Failed to quit WebDriver!");
     public static final String UNKNOWN_BROWSER_MODE = Color.red("Unknown browser mode! Please set " + Color.redBold("STANDARD") + Color.red(" or ") + Color.redBold("INCOGNITO") + Color.red(" mode in testng.xml file."));
+    public static final String CIRCUIT_OPENED = Color.red("Circuit breaker for " + Color.redBold("{}") + Color.red(" opened after ") + Color.redBold("{}") + Color.red(" consecutive failures, next probe in ") + Color.redBold("{} ms"));
     public static final String SECURITY_ACCESS_DENIED_OR_NULL_POINTER = Color.redBold("Access to System Properties is not allowed or searched property does not exist!");
 
     private static final Logger logger = LoggerFactory.getLogger(ErrorMessage.class);
@@ -23,18 +25,33 @@ public abstract class ErrorMessage extends BasicMessage {
     }
 
     public static void caughtElementException(Exception exception, By locator) {
-        logger.error(ELEMENT_EXCEPTION_CAUGHT, exception.getClass().getName(), getXpathFromLocator(locator));
+        if (logger.isErrorEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.ERROR, "caughtElementException", description, ELEMENT_EXCEPTION_CAUGHT, exception.getClass().getName(), description);
+        }
     }
 
     public static void caughtElementException(Exception exception, String errorReason) {
-        logger.error(ELEMENT_EXCEPTION_CAUGHT, exception.getClass().getName(), errorReason);
+        if (logger.isErrorEnabled()) {
+            log(logger, Level.ERROR, "caughtElementException", null, ELEMENT_EXCEPTION_CAUGHT, exception.getClass().getName(), errorReason);
+        }
     }
 
     public static void caughtException(Exception exception, String errorReason) {
-        logger.error(EXCEPTION_CAUGHT, exception.getClass().getName(), errorReason);
+        if (logger.isErrorEnabled()) {
+            log(logger, Level.ERROR, "caughtException", null, EXCEPTION_CAUGHT, exception.getClass().getName(), errorReason);
+        }
+    }
+
+    public static void circuitOpened(String sessionName, int consecutiveFailures, long openMillis) {
+        if (logger.isErrorEnabled()) {
+            log(logger, Level.ERROR, "circuitOpened", null, CIRCUIT_OPENED, sessionName, consecutiveFailures, openMillis);
+        }
     }
 
     public static void unknownTypeException(Exception exception, String errorReason, String argument) {
-        logger.error(UNKNOWN_BROWSER_MODE, exception.getClass().getName(), errorReason);
+        if (logger.isErrorEnabled()) {
+            log(logger, Level.ERROR, "unknownTypeException", null, UNKNOWN_BROWSER_MODE, exception.getClass().getName(), errorReason);
+        }
     }
 }
@@ -6,6 +6,7 @@ import org.openqa.selenium.By;
 import org.openqa.selenium.WebElement;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.slf4j.event.Level;
 
 import java.util.List;
 
@@ -33,132 +34,257 @@ public abstract class InfoMessage extends BasicMessage {
     public static final String AFTER_METHOD_START = Color.yellow("Starting: " + Color.yellowBold("@AfterMethod"));
     public static final String AFTER_METHOD_END = Color.yellow("Ending: " + Color.yellowBold("@AfterMethod"));
     public static final String AFTER_CLASS_START = Color.yellow("Starting: " + Color.yellowBold("@AfterClass"));
-    public static final String AFTER_CLASS_END = Color.yellow("Ending: {}");
+    public static final String AFTER_CLASS_END = Color.yellow("Ending: " + Color.yellowBold("@AfterClass"));
     public static final String BROWSER_AND_MODE = AnsiColorPalette.applyColor("Starting {} browser in {} mode.", AnsiColorPalette.MAGENTA_BOLD, AnsiColorPalette.MAGENTA_BOLD);
+    public static final String SESSION_STARTED = Color.green("Started session on device " + Color.greenBold("{}") + Color.green(" in ") + Color.greenBold("{} ms"));
+    public static final String CIRCUIT_HALF_OPEN = Color.yellow("Circuit breaker for " + Color.yellowBold("{}") + Color.yellow(" is half-open, probing the session"));
+    public static final String CIRCUIT_CLOSED = Color.green("Circuit breaker for " + Color.greenBold("{}") + Color.green(" closed, session is responding again"));
+    public static final String COMMANDS_ISSUED = Color.blue("Action " + Color.blueBold("{}") + Color.blue(" issued ") + Color.blueBold("{}") + Color.blue(" WebDriver commands for element ") + Color.blueBold("{}"));
     public static final String SWITCHING_TO = AnsiColorPalette.applyColor("Switching context to: {}", AnsiColorPalette.GREEN, AnsiColorPalette.GREEN_BOLD);
+    public static final String READING_ELEMENTS = Color.blue("Reading " + Color.blueBold("{}") + Color.blue(" elements with ") + Color.blueBold("{}"));
+    public static final String END_OF_LIST_REACHED = Color.blue("Reached the end of the list after " + Color.blueBold("{}") + Color.blue(" swipes"));
     private static final Logger logger = LoggerFactory.getLogger(InfoMessage.class);
 
     public static void waitingForVisibilityOfElement(WebElement webElement) {
-        logger.info(WAITING_FOR_VISIBILITY_OF_ELEMENT, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "waitingForVisibilityOfElement", description, WAITING_FOR_VISIBILITY_OF_ELEMENT, description);
+        }
     }
 
     public static void waitingForVisibilityOfElement(By locator) {
-        logger.info(WAITING_FOR_VISIBILITY_OF_ELEMENT, getXpathFromLocator(locator));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.INFO, "waitingForVisibilityOfElement", description, WAITING_FOR_VISIBILITY_OF_ELEMENT, description);
+        }
     }
 
     public static void waitingForVisibilityOfAllElementsByWebElement(List<WebElement> webElementsList) {
-        logger.info(WAITING_FOR_VISIBILITY_OF_ALL_ELEMENT, getXpathsFromWebElements(webElementsList));
+        if (logger.isInfoEnabled()) {
+            List<String> descriptions = getXpathsFromWebElements(webElementsList);
+            log(logger, Level.INFO, "waitingForVisibilityOfAllElementsByWebElement", descriptions.toString(), WAITING_FOR_VISIBILITY_OF_ALL_ELEMENT, descriptions);
+        }
     }
 
     public static void waitingForVisibilityOfAllElementsByLocator(List<By> locatorsList) {
-        logger.info(WAITING_FOR_VISIBILITY_OF_ALL_ELEMENT, getXpathsFromLocators(locatorsList));
+        if (logger.isInfoEnabled()) {
+            List<String> descriptions = getXpathsFromLocators(locatorsList);
+            log(logger, Level.INFO, "waitingForVisibilityOfAllElementsByLocator", descriptions.toString(), WAITING_FOR_VISIBILITY_OF_ALL_ELEMENT, descriptions);
+        }
     }
 
     public static void waitingForElementToBecomeInvisible(WebElement webElement) {
-        logger.info(WAITING_FOR_ELEMENT_TO_BE_INVISIBLE, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "waitingForElementToBecomeInvisible", description, WAITING_FOR_ELEMENT_TO_BE_INVISIBLE, description);
+        }
     }
 
     public static void waitingForElementToBecomeInvisible(By locator) {
-        logger.info(WAITING_FOR_ELEMENT_TO_BE_INVISIBLE, getXpathFromLocator(locator));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.INFO, "waitingForElementToBecomeInvisible", description, WAITING_FOR_ELEMENT_TO_BE_INVISIBLE, description);
+        }
     }
 
     public static void elementIsVisible(WebElement webElement) {
-        logger.info(ELEMENT_IS_VISIBLE, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "elementIsVisible", description, ELEMENT_IS_VISIBLE, description);
+        }
     }
 
     public static void elementsAreVisibleByWebElements(List<WebElement> webElementsList) {
-        logger.info(ELEMENTS_ARE_VISIBLE, getXpathsFromWebElements(webElementsList));
+        if (logger.isInfoEnabled()) {
+            List<String> descriptions = getXpathsFromWebElements(webElementsList);
+            log(logger, Level.INFO, "elementsAreVisibleByWebElements", descriptions.toString(), ELEMENTS_ARE_VISIBLE, descriptions);
+        }
     }
 
     public static void elementsAreVisibleByWebLocators(List<By> locatorsList) {
-        logger.info(ELEMENTS_ARE_VISIBLE, getXpathsFromLocators(locatorsList));
+        if (logger.isInfoEnabled()) {
+            List<String> descriptions = getXpathsFromLocators(locatorsList);
+            log(logger, Level.INFO, "elementsAreVisibleByWebLocators", descriptions.toString(), ELEMENTS_ARE_VISIBLE, descriptions);
+        }
     }
 
     public static void elementIsVisible(By locator) {
-        logger.info(ELEMENT_IS_VISIBLE, getXpathFromLocator(locator));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.INFO, "elementIsVisible", description, ELEMENT_IS_VISIBLE, description);
+        }
     }
 
     public static void elementIsInvisible(WebElement webElement) {
-        logger.info(ELEMENT_IS_INVISIBLE, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "elementIsInvisible", description, ELEMENT_IS_INVISIBLE, description);
+        }
     }
 
     public static void elementIsInvisible(By locator) {
-        logger.info(ELEMENT_IS_INVISIBLE, getXpathFromLocator(locator));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.INFO, "elementIsInvisible", description, ELEMENT_IS_INVISIBLE, description);
+        }
     }
 
     public static void isElementEnabled(WebElement webElement) {
-        logger.info(IS_ELEMENT_ENABLED, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "isElementEnabled", description, IS_ELEMENT_ENABLED, description);
+        }
     }
 
     public static void isElementSelected(WebElement webElement) {
-        logger.info(IS_ELEMENT_SELECTED, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "isElementSelected", description, IS_ELEMENT_SELECTED, description);
+        }
     }
 
     public static void waitingForElementToBeClickable(WebElement webElement) {
-        logger.info(WAITING_FOR_ELEMENT_TO_BE_CLICKABLE, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "waitingForElementToBeClickable", description, WAITING_FOR_ELEMENT_TO_BE_CLICKABLE, description);
+        }
     }
 
     public static void clickingElement(WebElement webElement) {
-        logger.info(CLICKING_ELEMENT, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "clickingElement", description, CLICKING_ELEMENT, description);
+        }
     }
 
     public static void sendingKeysToElement(String textValue, WebElement webElement) {
-        logger.info(SENDING_KEYS, textValue, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "sendingKeysToElement", description, SENDING_KEYS, textValue, description);
+        }
     }
 
     public static void sendingKeysToElement(CharSequence textValue, WebElement webElement) {
-        logger.info(SENDING_KEYS, textValue, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "sendingKeysToElement", description, SENDING_KEYS, textValue, description);
+        }
     }
 
     public static void retrievedTextFromElement(String text, WebElement webElement) {
-        logger.info(TEXT_FROM_ELEMENT, text, getXpathFromWebElement(webElement));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.INFO, "retrievedTextFromElement", description, TEXT_FROM_ELEMENT, text, description);
+        }
     }
 
     public static void retrievedTextFromElement(String text, By locator) {
-        logger.info(TEXT_FROM_ELEMENT, text, getXpathFromLocator(locator));
+        if (logger.isInfoEnabled()) {
+            String description = getXpathFromLocator(locator);
+            log(logger, Level.INFO, "retrievedTextFromElement", description, TEXT_FROM_ELEMENT, text, description);
+        }
     }
 
     public static void startingTestCaseWithDescription(String testCaseName) {
-        logger.info(TEST_CASE_DESCRIPTION, testCaseName);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "startingTestCaseWithDescription", null, TEST_CASE_DESCRIPTION, testCaseName);
+        }
     }
 
     public static void currentUrl(String currentUrl) {
-        logger.info(CURRENT_URL, currentUrl);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "currentUrl", null, CURRENT_URL, currentUrl);
+        }
     }
 
     public static void pageTitle(String pageTitle) {
-        logger.info(PAGE_TITLE, pageTitle);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "pageTitle", null, PAGE_TITLE, pageTitle);
+        }
     }
 
     public static void beforeMethodStart() {
-        logger.info(BEFORE_METHOD_START);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "beforeMethodStart", null, BEFORE_METHOD_START);
+        }
     }
 
     public static void beforeMethodEnd() {
-        logger.info(BEFORE_METHOD_END);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "beforeMethodEnd", null, BEFORE_METHOD_END);
+        }
     }
 
     public static void afterMethodStart() {
-        logger.info(AFTER_METHOD_START);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "afterMethodStart", null, AFTER_METHOD_START);
+        }
     }
 
     public static void afterMethodEnd() {
-        logger.info(AFTER_METHOD_END);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "afterMethodEnd", null, AFTER_METHOD_END);
+        }
     }
 
     public static void afterClassStart() {
-        logger.info(AFTER_CLASS_START, AnsiColorPalette.YELLOW_BOLD.apply("@AfterClass"));
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "afterClassStart", null, AFTER_CLASS_START);
+        }
     }
 
     public static void afterClassEnd() {
-        logger.info(AFTER_CLASS_END, AnsiColorPalette.YELLOW_BOLD.apply("@AfterClass"));
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "afterClassEnd", null, AFTER_CLASS_END);
+        }
     }
 
     public static void browserAndMode(String browser, String mode) {
-        logger.info(BROWSER_AND_MODE, browser, mode);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "browserAndMode", null, BROWSER_AND_MODE, browser, mode);
+        }
     }
 
     public static void switchingContext(String context) {
-        logger.info(SWITCHING_TO, context);
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "switchingContext", null, SWITCHING_TO, context);
+        }
+    }
+
+    public static void sessionStarted(String deviceName, long startupMillis) {
+        if (logger.isInfoEnabled()) {
+            logTimed(logger, Level.INFO, "sessionStarted", startupMillis, SESSION_STARTED, deviceName, startupMillis);
+        }
+    }
+
+    public static void circuitHalfOpen(String sessionName) {
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "circuitHalfOpen", null, CIRCUIT_HALF_OPEN, sessionName);
+        }
+    }
+
+    public static void circuitClosed(String sessionName) {
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "circuitClosed", null, CIRCUIT_CLOSED, sessionName);
+        }
+    }
+
+    public static void commandsIssued(String action, long commandCount, WebElement webElement) {
+        if (logger.isDebugEnabled()) {
+            String description = getXpathFromWebElement(webElement);
+            log(logger, Level.DEBUG, "commandsIssued", description, COMMANDS_ISSUED, action, commandCount, description);
+        }
+    }
+
+    public static void readingElements(int elementCount, String source) {
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "readingElements", null, READING_ELEMENTS, elementCount, source);
+        }
+    }
+
+    public static void endOfListReached(int swipeCount) {
+        if (logger.isInfoEnabled()) {
+            log(logger, Level.INFO, "endOfListReached", null, END_OF_LIST_REACHED, swipeCount);
+        }
     }
 }
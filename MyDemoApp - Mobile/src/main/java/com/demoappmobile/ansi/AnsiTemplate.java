@@ -0,0 +1,135 @@
+package com.demoappmobile.ansi;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+/**
+ * A message template with SLF4J style {@code {}} placeholders, split into its literal segments once so that rendering
+ * a message only appends segments and arguments. Every template is compiled in two variants: the coloured one for
+ * the console and a plain one with all ANSI codes removed, e.g. for log files.
+ * <p>
+ * Colours can be switched off globally, for CI runs whose console output ends up in plain log files, either with the
+ * {@code -Dansi.colors=false} system property, the {@code NO_COLOR} environment variable or
+ * {@link #setColorsEnabled(boolean)}. The codes are then removed when a template is compiled, not per message.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * AnsiTemplate switchingContext = AnsiTemplate.of(InfoMessage.SWITCHING_TO);
+ * String message = switchingContext.render("WEBVIEW_com.saucelabs.mydemoapp.rn");
+ * }</pre>
+ */
+public final class AnsiTemplate {
+
+    private static final String PLACEHOLDER = "{}";
+    private static final Pattern ANSI_ESCAPE = Pattern.compile("\u001B\\[[;\\d]*m");
+    private static final int MAX_CACHED_TEMPLATES = 1024;
+    // Builders that grew beyond this size while rendering an unusually long message are not kept for reuse
+    private static final int MAX_RETAINED_BUILDER_CAPACITY = 4096;
+    private static final ThreadLocal<StringBuilder> builder = ThreadLocal.withInitial(() -> new StringBuilder(256));
+    private static final Map<String, AnsiTemplate> templates = new ConcurrentHashMap<>();
+    private static volatile boolean colorsEnabled = Boolean.parseBoolean(System.getProperty("ansi.colors", "true"))
+                                                    && System.getenv("NO_COLOR") == null;
+
+    private final String[] segments;
+    private final String[] plainSegments;
+
+    private AnsiTemplate(String template) {
+        String[] coloredSegments = split(template);
+        this.plainSegments = new String[coloredSegments.length];
+        for (int i = 0; i < coloredSegments.length; i++) {
+            plainSegments[i] = ANSI_ESCAPE.matcher(coloredSegments[i]).replaceAll("");
+        }
+        this.segments = colorsEnabled ? coloredSegments : plainSegments;
+    }
+
+    /**
+     * Returns the compiled form of a template. Templates are compiled once and shared, so looking one up for every
+     * message is a single map lookup.
+     *
+     * @param template The template, with {@code {}} placeholders for the arguments.
+     * @return The compiled template.
+     */
+    public static AnsiTemplate of(String template) {
+        AnsiTemplate compiled = templates.get(template);
+        if (compiled == null) {
+            compiled = new AnsiTemplate(template);
+            if (templates.size() >= MAX_CACHED_TEMPLATES) {
+                templates.clear();
+            }
+            templates.put(template, compiled);
+        }
+        return compiled;
+    }
+
+    /**
+     * Switches ANSI colours on or off for all templates. Templates compiled before are recompiled on their next use.
+     *
+     * @param enabled false to render every template without colours.
+     */
+    public static void setColorsEnabled(boolean enabled) {
+        colorsEnabled = enabled;
+        templates.clear();
+    }
+
+    public static boolean isColorsEnabled() {
+        return colorsEnabled;
+    }
+
+    /**
+     * Renders the template, coloured unless colours are switched off.
+     *
+     * @param arguments The values of the placeholders, in order. Missing values leave their placeholder in place,
+     *                  surplus values are ignored.
+     * @return The rendered message.
+     */
+    public String render(Object... arguments) {
+        return render(segments, arguments);
+    }
+
+    /**
+     * Renders the template without any ANSI codes.
+     *
+     * @param arguments The values of the placeholders, in order.
+     * @return The rendered message.
+     */
+    public String renderPlain(Object... arguments) {
+        return render(plainSegments, arguments);
+    }
+
+    private static String render(String[] segments, Object[] arguments) {
+        if (segments.length == 1) {
+            return segments[0];
+        }
+        StringBuilder message = builder.get();
+        message.setLength(0);
+        message.append(segments[0]);
+        for (int i = 1; i < segments.length; i++) {
+            if (arguments != null && i <= arguments.length) {
+                message.append(arguments[i - 1]);
+            } else {
+                message.append(PLACEHOLDER);
+            }
+            message.append(segments[i]);
+        }
+        String rendered = message.toString();
+        if (message.capacity() > MAX_RETAINED_BUILDER_CAPACITY) {
+            builder.remove();
+        }
+        return rendered;
+    }
+
+    private static String[] split(String template) {
+        List<String> segments = new ArrayList<>();
+        int start = 0;
+        int placeholder;
+        while ((placeholder = template.indexOf(PLACEHOLDER, start)) >= 0) {
+            segments.add(template.substring(start, placeholder));
+            start = placeholder + PLACEHOLDER.length();
+        }
+        segments.add(template.substring(start));
+        return segments.toArray(new String[0]);
+    }
+}
@@ -97,7 +97,8 @@ public enum AnsiColorPalette implements AnsiCode {
      * @return The colorized text string.
      */
     public static String applyColor(String text, AnsiColorPalette textColor, AnsiColorPalette backgroundColor) {
-        return textColor.apply(backgroundColor.apply(text));
+        // A single reset clears both colours, so the text is wrapped once instead of once per colour
+        return textColor.colorCode + backgroundColor.colorCode + text + AnsiCode.RESET;
     }
 
     /**
@@ -1,19 +1,37 @@
 package com.demoappmobile.screen;
 
+import com.demoappmobile.Logger.InfoMessage;
 import com.demoappmobile.screenutilities.ContextSwitcher;
 import com.demoappmobile.screenutilities.Frame;
+import com.demoappmobile.screenutilities.ScreenRegistry;
+import com.demoappmobile.screenutilities.SessionContext;
 import com.demoappmobile.screenutilities.action.CommonMethods;
+import com.demoappmobile.screenutilities.driver.DeviceProfile;
 import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.pagefactory.CacheElements;
+import com.demoappmobile.screenutilities.pagefactory.CachingFieldDecorator;
+import com.demoappmobile.screenutilities.pagefactory.ElementCache;
+import com.demoappmobile.screenutilities.pagefactory.ScreenMetadata;
+import com.demoappmobile.screenutilities.pagefactory.SnapshotLookups;
+import com.demoappmobile.screenutilities.profiling.LocatorProfiler;
+import com.demoappmobile.screenutilities.snapshot.PageSourceSnapshot;
+import com.demoappmobile.screenutilities.snapshot.ScrollSearch;
 import io.appium.java_client.AppiumDriver;
-import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import io.appium.java_client.android.AndroidDriver;
 import org.autoutils.action.SwipeHandler;
 import org.autoutils.detection.ElementFinder;
 import org.autoutils.visibility.VisibilityHandler;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
 import org.openqa.selenium.WebDriver;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
 
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Map;
+
 public class BasicScreen {
 
     protected AppiumDriver appiumDriver;
@@ -28,8 +46,23 @@ public class BasicScreen {
 //    protected ElementVisibilityHandler elementVisibilityHandler;
     protected VisibilityHandler visibilityHandler;
     protected SwipeHandler swipeHandler;
+    protected ElementCache elementCache;
+    protected ScreenRegistry screens;
+    protected SessionContext sessionContext;
+    private Map<Object, By> snapshotLocators;
 
     public BasicScreen(WebDriver driver) {
+        this(driver, DriverManager.getInstance().getSessionContext());
+    }
+
+    /**
+     * Creates a screen working with the helpers of its session. The helpers are shared with every other screen of
+     * the session, so only references are copied and the element fields are filled.
+     *
+     * @param driver         The driver of the screen.
+     * @param sessionContext The helpers of the session the driver belongs to.
+     */
+    protected BasicScreen(WebDriver driver, SessionContext sessionContext) {
         this.driver = driver;
         // Casting WebDriver to AppiumDriver
         if (driver instanceof AppiumDriver) {
@@ -37,14 +70,86 @@ public class BasicScreen {
         } else {
             throw new IllegalArgumentException("Driver must be an instance of AppiumDriver");
         }
-        this.webDriverWait = DriverManager.getInstance().getWebDriverWait();
-        this.elementFinder = new ElementFinder(driver, webDriverWait);
-        this.commonMethods = new CommonMethods();
-        this.visibilityHandler = new VisibilityHandler(driver, webDriverWait,fluentWait);
-        this.contextSwitcher = DriverManager.getInstance().getContextSwitcher();
-        this.swipeHandler = new SwipeHandler(appiumDriver);
-        this.frame = DriverManager.getInstance().getFrame();
-        PageFactory.initElements(new AppiumFieldDecorator(driver), this);
+        if (sessionContext == null || sessionContext.getDriver() != driver) {
+            throw new IllegalStateException("Screens must be created on the thread their driver session is attached to");
+        }
+        this.sessionContext = sessionContext;
+        this.webDriverWait = sessionContext.getWebDriverWait();
+        this.fluentWait = sessionContext.getFluentWait();
+        this.elementFinder = sessionContext.getElementFinder();
+        this.commonMethods = sessionContext.getCommonMethods();
+        this.visibilityHandler = sessionContext.getVisibilityHandler();
+        this.contextSwitcher = sessionContext.getContextSwitcher();
+        this.swipeHandler = sessionContext.getSwipeHandler();
+        this.frame = sessionContext.getFrame();
+        this.screens = sessionContext.getScreenRegistry();
+        if (getClass().isAnnotationPresent(CacheElements.class)) {
+            this.elementCache = new ElementCache(contextSwitcher::getContextGeneration);
+            ScreenMetadata.of(getClass()).initElements(new CachingFieldDecorator(driver, elementCache), this);
+        } else {
+            ScreenMetadata.of(getClass()).initElements(sessionContext.getFieldDecorator(), this);
+        }
+        // The snapshot is a UiAutomator2 page source, answering the Android locators only
+        if (getClass().isAnnotationPresent(SnapshotLookups.class) && driver instanceof AndroidDriver) {
+            this.snapshotLocators = ScreenMetadata.of(getClass()).androidLocators(this);
+        }
+        LocatorProfiler profiler = LocatorProfiler.installed();
+        if (profiler != null) {
+            profiler.registerScreen(getClass(), ScreenMetadata.of(getClass()).fieldLocators());
+        }
+    }
+
+    /**
+     * Checks whether an element of this screen is visible, waiting for it up to the default wait time. On screens
+     * annotated with {@link SnapshotLookups}, native elements are looked up in page-source snapshots instead of on
+     * the device.
+     *
+     * @param webElement An element field of this screen.
+     * @return true if the element is visible, false if it did not become visible in time.
+     */
+    protected boolean isElementVisible(WebElement webElement) {
+        By locator = snapshotLocator(webElement);
+        if (locator != null) {
+            InfoMessage.waitingForVisibilityOfElement(locator);
+            DeviceProfile deviceProfile = sessionContext.getDeviceProfile();
+            return sessionContext.getSnapshotSource().waitUntilDisplayed(locator, deviceProfile.waitTime(), deviceProfile.pollingInterval());
+        }
+        return visibilityHandler.elementVisibility().isElementVisible(webElement);
+    }
+
+    /**
+     * Swipes until an element of this screen is visible. On screens annotated with {@link SnapshotLookups}, every
+     * position is checked on a page-source snapshot and the search ends as soon as the list stops moving; other
+     * screens swipe with {@link SwipeHandler} until the timeout.
+     *
+     * @param webElement An element field of this screen.
+     * @param direction  The direction the finger swipes in.
+     * @param timeout    How long to search at most.
+     * @return true if the element is visible.
+     */
+    protected boolean scrollUntilVisible(WebElement webElement, ScrollSearch.Direction direction, Duration timeout) {
+        By locator = snapshotLocator(webElement);
+        if (locator != null) {
+            return sessionContext.getScrollSearch().scrollUntilDisplayed(locator, direction, timeout);
+        }
+        swipeHandler.swipeUntilElementFound(webElement, direction.name().toLowerCase(Locale.ROOT), timeout);
+        try {
+            return webElement.isDisplayed();
+        } catch (NoSuchElementException e) {
+            return false;
+        }
+    }
+
+    private By snapshotLocator(WebElement webElement) {
+        By locator = snapshotLocators == null ? null : snapshotLocators.get(webElement);
+        return locator != null && PageSourceSnapshot.supports(locator) && !contextSwitcher.isInWebView() ? locator : null;
+    }
+
+    /**
+     * @return The element cache of this screen, or null if the screen is not annotated with {@link CacheElements}.
+     */
+    public ElementCache getElementCache() {
+        return elementCache;
     }
 
 }
\ No newline at end of file
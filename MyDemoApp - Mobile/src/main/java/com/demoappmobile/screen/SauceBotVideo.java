@@ -1,5 +1,6 @@
 package com.demoappmobile.screen;
 
+import com.demoappmobile.screenutilities.ContextSwitcher;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
@@ -58,14 +59,15 @@ public class SauceBotVideo extends BasicScreen {
         return this;
     }
 
+    @SuppressWarnings("try") // The scope only restores the previous context on close
     public String getCurrentTimeStamp() {
-        contextSwitcher.switchToWebView();
-        frame.switchToiFrame(iframe);
-        String currentTimestamp = commonMethods.getTextFromElement(currentTimeStamp);
-        System.out.println("Timestamp: " + currentTimestamp);
-        frame.switchToDefaultContent();
-        contextSwitcher.switchToNative();
-        return currentTimestamp;
+        try (ContextSwitcher.ContextScope ignored = contextSwitcher.inWebView()) {
+            frame.switchToiFrame(iframe);
+            String currentTimestamp = commonMethods.getTextFromElement(currentTimeStamp);
+            System.out.println("Timestamp: " + currentTimestamp);
+            frame.switchToDefaultContent();
+            return currentTimestamp;
+        }
     }
 
 
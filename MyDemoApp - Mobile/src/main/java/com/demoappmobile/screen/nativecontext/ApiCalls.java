@@ -1,12 +1,15 @@
 package com.demoappmobile.screen.nativecontext;
 
 import com.demoappmobile.screen.BasicScreen;
+import com.demoappmobile.screenutilities.pagefactory.SnapshotLookups;
+import com.demoappmobile.screenutilities.snapshot.ScrollSearch;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.time.Duration;
 
+@SnapshotLookups
 public class ApiCalls extends BasicScreen {
 
     @AndroidFindBy(xpath = "//android.widget.TextView[@text='API calls']")
@@ -22,11 +25,11 @@ public class ApiCalls extends BasicScreen {
     }
 
     public boolean isScreenHeaderVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(screenHeader);
+        return isElementVisible(screenHeader);
     }
 
     public void findMobile() {
-        swipeHandler.swipeUntilElementFound(iPhoneXModel, "up", Duration.ofSeconds(50));
+        scrollUntilVisible(iPhoneXModel, ScrollSearch.Direction.UP, Duration.ofSeconds(50));
 
 //        swipeHandler.swipeUntilElementFound(iPhoneXModel, "up", Duration.ofSeconds(50), Duration.ofMillis(500), Duration.ofMillis(1));
 
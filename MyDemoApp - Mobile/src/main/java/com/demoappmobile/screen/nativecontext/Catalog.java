@@ -4,12 +4,15 @@ import com.demoappmobile.screen.BasicScreen;
 import com.demoappmobile.screen.SauceBotVideo;
 import com.demoappmobile.screen.nativecontext.component.SideNavigationBar;
 import com.demoappmobile.screen.nativecontext.component.TopNavigatorBar;
+import com.demoappmobile.screenutilities.pagefactory.SnapshotLookups;
+import com.demoappmobile.screenutilities.snapshot.ScrollSearch;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.time.Duration;
 
+@SnapshotLookups
 public class Catalog extends BasicScreen {
 
     private TopNavigatorBar topNavigatorBar;
@@ -23,40 +26,40 @@ public class Catalog extends BasicScreen {
 
     public Catalog(WebDriver webDriver) {
         super(webDriver);
-        this.topNavigatorBar = new TopNavigatorBar(webDriver);
-        this.sideNavigationBar = new SideNavigationBar(webDriver);
+        this.topNavigatorBar = screens.get(TopNavigatorBar.class);
+        this.sideNavigationBar = screens.get(SideNavigationBar.class);
     }
 
     public boolean isProductHeaderVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(productsHeader);
+        return isElementVisible(productsHeader);
     }
 
     public Login goToLoginScreen() {
         topNavigatorBar.hamburgerMenuButtonCLick();
         sideNavigationBar.loginButtonCLick();
-        return new Login(driver);
+        return screens.get(Login.class);
     }
 
     public WebViewScreen goToWebViewScreen() {
         topNavigatorBar.hamburgerMenuButtonCLick();
         sideNavigationBar.webViewButtonCLick();
-        return new WebViewScreen(driver);
+        return screens.get(WebViewScreen.class);
     }
 
     public ApiCalls goToApiCallsScreen() {
         topNavigatorBar.hamburgerMenuButtonCLick();
         sideNavigationBar.apiCallsButtonClick();
-        return new ApiCalls(driver);
+        return screens.get(ApiCalls.class);
     }
 
     public SauceBotVideo goToSauceBotVideoScreen() {
         topNavigatorBar.hamburgerMenuButtonCLick();
         sideNavigationBar.sauceBotVideoButtonCLick();
-        return new SauceBotVideo(driver);
+        return screens.get(SauceBotVideo.class);
     }
 
     public Catalog twitterButtonClick() {
-        swipeHandler.swipeUntilElementFound(twitterIcon, "up", Duration.ofSeconds(20));
+        scrollUntilVisible(twitterIcon, ScrollSearch.Direction.UP, Duration.ofSeconds(20));
         commonMethods.clickElement(twitterIcon);
         return this;
     }
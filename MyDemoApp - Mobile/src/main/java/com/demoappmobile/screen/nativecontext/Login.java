@@ -1,10 +1,14 @@
 package com.demoappmobile.screen.nativecontext;
 
 import com.demoappmobile.screen.BasicScreen;
+import com.demoappmobile.screenutilities.pagefactory.CacheElements;
+import com.demoappmobile.screenutilities.pagefactory.SnapshotLookups;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
+@CacheElements
+@SnapshotLookups
 public class Login extends BasicScreen {
 
     @AndroidFindBy(xpath = "//android.view.ViewGroup[@content-desc='container header']//android.widget.TextView[@text='Login']")
@@ -30,7 +34,7 @@ public class Login extends BasicScreen {
     }
 
     public boolean isLoginScreenHeaderVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(screenHeader);
+        return isElementVisible(screenHeader);
     }
 
     public Login fillUsernameField(String username) {
@@ -44,19 +48,19 @@ public class Login extends BasicScreen {
     }
 
     public boolean isLoginButtonVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(loginButton);
+        return isElementVisible(loginButton);
     }
 
     public Catalog loginButtonClick() {
         commonMethods.clickElement(loginButton);
-        return new Catalog(driver);
+        return screens.get(Catalog.class);
     }
 
     public boolean isLockedOutErrorMessageVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(lockedOutErrorMessage);
+        return isElementVisible(lockedOutErrorMessage);
     }
 
     public boolean isUnknownUserErrorMessageVisible() {
-        return visibilityHandler.elementVisibility().isElementVisible(unknownUserErrorMessage);
+        return isElementVisible(unknownUserErrorMessage);
     }
 }
@@ -29,6 +29,6 @@ public class WebViewScreen extends BasicScreen {
     public SwagLabsLogin goToSiteButtonClick() {
         commonMethods.clickElement(goToSiteButton);
         contextSwitcher.switchToWebView();
-        return new SwagLabsLogin(driver);
+        return screens.get(SwagLabsLogin.class);
     }
 }
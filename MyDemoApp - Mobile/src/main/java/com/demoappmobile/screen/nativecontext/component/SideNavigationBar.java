@@ -1,12 +1,15 @@
 package com.demoappmobile.screen.nativecontext.component;
 
 import com.demoappmobile.screen.BasicScreen;
+import com.demoappmobile.screenutilities.pagefactory.SnapshotLookups;
+import com.demoappmobile.screenutilities.snapshot.ScrollSearch;
 import io.appium.java_client.pagefactory.AndroidFindBy;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 
 import java.time.Duration;
 
+@SnapshotLookups
 public class SideNavigationBar extends BasicScreen {
 
     @AndroidFindBy(accessibility = "menu item catalog")
@@ -65,7 +68,7 @@ public class SideNavigationBar extends BasicScreen {
     }
 
     public SideNavigationBar apiCallsButtonClick(){
-        swipeHandler.swipeUntilElementFound(apiCallsButton, "down", Duration.ofSeconds(3));
+        scrollUntilVisible(apiCallsButton, ScrollSearch.Direction.DOWN, Duration.ofSeconds(3));
         commonMethods.clickElement(apiCallsButton);
         return this;
     }
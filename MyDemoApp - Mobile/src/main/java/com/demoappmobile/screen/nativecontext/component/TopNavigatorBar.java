@@ -30,7 +30,7 @@ public class TopNavigatorBar extends BasicScreen {
     public SideNavigationBar hamburgerMenuButtonCLick() {
         contextSwitcher.switchToNative();
         commonMethods.clickElement(hamburgerMenuButton);
-        return new SideNavigationBar(driver);
+        return screens.get(SideNavigationBar.class);
     }
 
     public TopNavigatorBar sortButtonClick() {
@@ -40,6 +40,6 @@ public class TopNavigatorBar extends BasicScreen {
 
     public Cart cartButtonClick() {
         commonMethods.clickElement(cartButton);
-        return new Cart(driver);
+        return screens.get(Cart.class);
     }
 }
@@ -12,8 +12,8 @@ public class SwagLabsHome extends BasicScreen {
 
     public SwagLabsHome(WebDriver driver) {
         super(driver);
-        this.swagLabsTopNavigationBar = new SwagLabsTopNavigationBar(driver);
-        this.swagLabsSideNavigationBar = new SwagLabsSideNavigationBar(driver);
+        this.swagLabsTopNavigationBar = screens.get(SwagLabsTopNavigationBar.class);
+        this.swagLabsSideNavigationBar = screens.get(SwagLabsSideNavigationBar.class);
     }
 
     public boolean isScreenHeaderVisible() {
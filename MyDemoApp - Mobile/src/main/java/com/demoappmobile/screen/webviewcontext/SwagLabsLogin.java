@@ -43,6 +43,6 @@ public class SwagLabsLogin extends BasicScreen {
 
     public SwagLabsHome loginButtonClick() {
         commonMethods.clickElement(loginButton);
-        return new SwagLabsHome(driver);
+        return screens.get(SwagLabsHome.class);
     }
 }
@@ -2,42 +2,192 @@ package com.demoappmobile.screenutilities;
 
 import com.demoappmobile.Logger.InfoMessage;
 import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.NoSuchContextException;
 import io.appium.java_client.remote.SupportsContextSwitching;
 
+import java.util.Objects;
+
+/**
+ * Switches the session between its native and WebView contexts. The switcher remembers the active context, so a
+ * switch to the context that is already active costs no round trip, and it remembers the name of the WebView context
+ * until switching to it fails.
+ * <p>
+ * The remembered context is only right as long as every switch of the session goes through this switcher. Code that
+ * switches the driver directly has to call {@link #forgetContext()} afterwards.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * try (ContextSwitcher.ContextScope ignored = contextSwitcher.inWebView()) {
+ *     return commonMethods.getTextFromElement(currentTimeStamp);
+ * }
+ * }</pre>
+ */
 public class ContextSwitcher {
 
+    private static final String NATIVE_CONTEXT = "NATIVE_APP";
+    private static final String WEBVIEW_CONTEXT = "WEBVIEW";
+
     private AppiumDriver driver;
+    private int contextGeneration;
+    private String currentContext;
+    private String webViewContext;
 
     public ContextSwitcher(AppiumDriver driver) {
         this.driver = driver;
     }
 
     public void switchToWebView() {
-        switchContext("WEBVIEW");
+        switchContext(WEBVIEW_CONTEXT);
     }
 
     public void switchToNative() {
-        switchContext("NATIVE_APP");
+        switchContext(NATIVE_CONTEXT);
+    }
+
+    /**
+     * Switches to the WebView until the returned scope is closed, which switches back to the context active before.
+     * Nothing is switched if the WebView is active already, neither now nor when the scope is closed.
+     *
+     * @return The scope to close once the work in the WebView is done.
+     */
+    public ContextScope inWebView() {
+        return enter(WEBVIEW_CONTEXT);
+    }
+
+    /**
+     * Switches to the native context until the returned scope is closed, the counterpart of {@link #inWebView()}.
+     *
+     * @return The scope to close once the work in the native context is done.
+     */
+    public ContextScope inNative() {
+        return enter(NATIVE_CONTEXT);
+    }
+
+    /**
+     * @return true if a WebView context is active. Asks the driver only if the active context is not known yet.
+     */
+    public boolean isInWebView() {
+        return isWebView(currentContext(contextSwitchingDriver()));
+    }
+
+    /**
+     * Drops the remembered context and WebView name, so the next switch asks the driver again. Needed after the
+     * context was switched without this switcher, or after the app was restarted. Also changes the context generation,
+     * since elements found before belong to a context that may be gone.
+     */
+    public void forgetContext() {
+        currentContext = null;
+        webViewContext = null;
+        contextGeneration++;
+    }
+
+    /**
+     * @return A number that changes with every context switch, telling element caches when their elements belong
+     * to a context that is no longer active.
+     */
+    public int getContextGeneration() {
+        return contextGeneration;
+    }
+
+    private ContextScope enter(String contextType) {
+        String previousContext = currentContext(contextSwitchingDriver());
+        switchContext(contextType);
+        return new ContextScope(Objects.equals(previousContext, currentContext) ? null : previousContext);
     }
 
     private void switchContext(String contextType) {
-        if (driver instanceof SupportsContextSwitching contextSwitchingDriver) {
-            if (contextType.equals("WEBVIEW")) {
-                for (String context : contextSwitchingDriver.getContextHandles()) {
-                    if (context.contains(contextType)) {
-                        contextSwitchingDriver.context(context);
-                        InfoMessage.switchingContext("WEBVIEW");
-                        return;
-                    }
+        SupportsContextSwitching contextSwitchingDriver = contextSwitchingDriver();
+        if (contextType.equals(WEBVIEW_CONTEXT)) {
+            if (isWebView(currentContext(contextSwitchingDriver))) {
+                return;
+            }
+            if (webViewContext != null) {
+                try {
+                    activate(contextSwitchingDriver, webViewContext);
+                    InfoMessage.switchingContext(WEBVIEW_CONTEXT);
+                    return;
+                } catch (NoSuchContextException e) {
+                    // The WebView was recreated under a different name, look it up again
+                    webViewContext = null;
                 }
-                throw new IllegalStateException("No WebView context found");
-            } else if (contextType.equals("NATIVE_APP")) {
-                contextSwitchingDriver.context(contextType);
+            }
+            for (String context : contextSwitchingDriver.getContextHandles()) {
+                if (isWebView(context)) {
+                    activate(contextSwitchingDriver, context);
+                    webViewContext = context;
+                    InfoMessage.switchingContext(WEBVIEW_CONTEXT);
+                    return;
+                }
+            }
+            throw new IllegalStateException("No WebView context found");
+        } else if (contextType.equals(NATIVE_CONTEXT)) {
+            if (!NATIVE_CONTEXT.equals(currentContext(contextSwitchingDriver))) {
+                activate(contextSwitchingDriver, NATIVE_CONTEXT);
                 InfoMessage.switchingContext("NATIVE");
             }
-        } else {
-            //TODO: Add Custom exception - Unknown/UnsupportedContextException
-            throw new UnsupportedOperationException("Context switching is only supported for drivers that implement SupportsContextSwitching.");
+        }
+    }
+
+    private void switchToContext(String context) {
+        SupportsContextSwitching contextSwitchingDriver = contextSwitchingDriver();
+        if (!context.equals(currentContext(contextSwitchingDriver))) {
+            activate(contextSwitchingDriver, context);
+            InfoMessage.switchingContext(isWebView(context) ? WEBVIEW_CONTEXT : "NATIVE");
+        }
+    }
+
+    private void activate(SupportsContextSwitching contextSwitchingDriver, String context) {
+        // Until the driver confirms the switch, the active context is unknown
+        currentContext = null;
+        contextSwitchingDriver.context(context);
+        currentContext = context;
+        contextGeneration++;
+    }
+
+    private String currentContext(SupportsContextSwitching contextSwitchingDriver) {
+        if (currentContext == null) {
+            currentContext = contextSwitchingDriver.getContext();
+        }
+        return currentContext;
+    }
+
+    private SupportsContextSwitching contextSwitchingDriver() {
+        if (driver instanceof SupportsContextSwitching contextSwitchingDriver) {
+            return contextSwitchingDriver;
+        }
+        //TODO: Add Custom exception - Unknown/UnsupportedContextException
+        throw new UnsupportedOperationException("Context switching is only supported for drivers that implement SupportsContextSwitching.");
+    }
+
+    private static boolean isWebView(String context) {
+        return context != null && context.contains(WEBVIEW_CONTEXT);
+    }
+
+    /**
+     * A context entered through {@link #inWebView()} or {@link #inNative()}. Closing it switches back to the context
+     * active before, if entering it switched at all.
+     */
+    public final class ContextScope implements AutoCloseable {
+
+        private final String previousContext;
+        private boolean closed;
+
+        private ContextScope(String previousContext) {
+            this.previousContext = previousContext;
+        }
+
+        @Override
+        public void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            if (isWebView(previousContext)) {
+                // Goes through the WebView lookup, in case the WebView was recreated under a different name meanwhile
+                switchContext(WEBVIEW_CONTEXT);
+            } else if (previousContext != null) {
+                switchToContext(previousContext);
+            }
         }
     }
 }
@@ -0,0 +1,56 @@
+package com.demoappmobile.screenutilities;
+
+import com.demoappmobile.screenutilities.pagefactory.ScreenMetadata;
+import org.openqa.selenium.WebDriver;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * The screens of one driver session. Every screen type is created once, on first use, and the same instance is
+ * returned on every later navigation, so navigating back and forth does not run PageFactory and build the screen's
+ * helpers again. Screens only hold proxies locating their elements on use, so reusing them is safe across navigations.
+ * <p>
+ * Like the session itself, a registry is used by one thread at a time and is not thread-safe.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * public Login goToLoginScreen() {
+ *     topNavigatorBar.hamburgerMenuButtonCLick();
+ *     sideNavigationBar.loginButtonCLick();
+ *     return screens.get(Login.class);
+ * }
+ * }</pre>
+ */
+public class ScreenRegistry {
+
+    private final WebDriver driver;
+    private final Map<Class<?>, Object> screens = new HashMap<>();
+
+    public ScreenRegistry(WebDriver driver) {
+        this.driver = driver;
+    }
+
+    /**
+     * Returns the screen of the given type, creating it with its {@code (WebDriver)} constructor on first use.
+     *
+     * @param screenType The type of the screen.
+     * @return The screen of this session.
+     */
+    public <T> T get(Class<T> screenType) {
+        Object screen = screens.get(screenType);
+        if (screen == null) {
+            // Not computeIfAbsent: screen constructors fetch their components from this registry while being created
+            screen = ScreenMetadata.of(screenType).newScreen(driver);
+            screens.put(screenType, screen);
+        }
+        return screenType.cast(screen);
+    }
+
+    /**
+     * Forgets all screens, e.g. after the app was restarted and screen state can no longer be trusted.
+     */
+    public void clear() {
+        screens.clear();
+    }
+}
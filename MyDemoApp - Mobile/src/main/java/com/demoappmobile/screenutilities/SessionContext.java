@@ -0,0 +1,155 @@
+package com.demoappmobile.screenutilities;
+
+import com.demoappmobile.screenutilities.action.CommonMethods;
+import com.demoappmobile.screenutilities.action.ElementBatchReader;
+import com.demoappmobile.screenutilities.driver.DeviceProfile;
+import com.demoappmobile.screenutilities.snapshot.ScrollSearch;
+import com.demoappmobile.screenutilities.snapshot.SnapshotSource;
+import io.appium.java_client.AppiumDriver;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import org.autoutils.action.SwipeHandler;
+import org.autoutils.detection.ElementFinder;
+import org.autoutils.visibility.VisibilityHandler;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.FluentWait;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+/**
+ * The helpers of one driver session: its waits, element finder, common actions, visibility and swipe handlers,
+ * context switcher, frame handle, field decorator, page-source snapshots and screens. They are created once with the
+ * session and shared by reference by every screen of it, so creating a screen only copies references instead of
+ * building its own helpers.
+ * <p>
+ * The context never changes after creation. Helpers that need Appium, like swiping and context switching, are null
+ * for sessions of a plain {@link WebDriver}.
+ */
+public final class SessionContext {
+
+    private final WebDriver driver;
+    private final AppiumDriver appiumDriver;
+    private final WebDriverWait webDriverWait;
+    private final DeviceProfile deviceProfile;
+    private final FluentWait<WebDriver> fluentWait;
+    private final ElementFinder elementFinder;
+    private final CommonMethods commonMethods;
+    private final VisibilityHandler visibilityHandler;
+    private final SwipeHandler swipeHandler;
+    private final ContextSwitcher contextSwitcher;
+    private final Frame frame;
+    private final ScreenRegistry screenRegistry;
+    private final SnapshotSource snapshotSource;
+    private final ScrollSearch scrollSearch;
+    private final AppiumFieldDecorator fieldDecorator;
+
+    /**
+     * @param driver        The driver of the session.
+     * @param webDriverWait The default wait of the session.
+     * @param deviceProfile The run settings of the session's device.
+     */
+    public SessionContext(WebDriver driver, WebDriverWait webDriverWait, DeviceProfile deviceProfile) {
+        this.driver = driver;
+        this.appiumDriver = driver instanceof AppiumDriver castDriver ? castDriver : null;
+        this.webDriverWait = webDriverWait;
+        this.deviceProfile = deviceProfile;
+        this.fluentWait = new FluentWait<>(driver).withTimeout(deviceProfile.waitTime())
+                                                  .pollingEvery(deviceProfile.pollingInterval())
+                                                  .ignoring(NoSuchElementException.class);
+        this.elementFinder = new ElementFinder(driver, webDriverWait);
+        this.contextSwitcher = appiumDriver == null ? null : new ContextSwitcher(appiumDriver);
+        this.snapshotSource = new SnapshotSource(driver);
+        this.commonMethods = new CommonMethods(elementFinder, new ElementBatchReader(driver, contextSwitcher, snapshotSource), deviceProfile);
+        this.visibilityHandler = new VisibilityHandler(driver, webDriverWait, fluentWait);
+        this.swipeHandler = appiumDriver == null ? null : new SwipeHandler(appiumDriver);
+        this.frame = appiumDriver == null ? null : new Frame(appiumDriver);
+        this.scrollSearch = appiumDriver == null ? null : new ScrollSearch(appiumDriver, snapshotSource);
+        this.screenRegistry = new ScreenRegistry(driver);
+        this.fieldDecorator = appiumDriver == null ? null : new AppiumFieldDecorator(appiumDriver);
+    }
+
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    /**
+     * @return The driver as an Appium driver, or null if the session is not an Appium session.
+     */
+    public AppiumDriver getAppiumDriver() {
+        return appiumDriver;
+    }
+
+    public WebDriverWait getWebDriverWait() {
+        return webDriverWait;
+    }
+
+    /**
+     * @return The run settings of the session's device, e.g. its wait budget.
+     */
+    public DeviceProfile getDeviceProfile() {
+        return deviceProfile;
+    }
+
+    public FluentWait<WebDriver> getFluentWait() {
+        return fluentWait;
+    }
+
+    public ElementFinder getElementFinder() {
+        return elementFinder;
+    }
+
+    public CommonMethods getCommonMethods() {
+        return commonMethods;
+    }
+
+    public VisibilityHandler getVisibilityHandler() {
+        return visibilityHandler;
+    }
+
+    public SwipeHandler getSwipeHandler() {
+        return swipeHandler;
+    }
+
+    public ContextSwitcher getContextSwitcher() {
+        return contextSwitcher;
+    }
+
+    public Frame getFrame() {
+        return frame;
+    }
+
+    public ScreenRegistry getScreenRegistry() {
+        return screenRegistry;
+    }
+
+    /**
+     * @return The page-source snapshots of the session, shared by every screen so a snapshot taken for one screen is
+     * reused by the next until the screen changes.
+     */
+    public SnapshotSource getSnapshotSource() {
+        return snapshotSource;
+    }
+
+    public ScrollSearch getScrollSearch() {
+        return scrollSearch;
+    }
+
+    /**
+     * Forgets what the helpers remember about the screen: the active context, the elements cached for it and the
+     * page-source snapshot. Needed after the app was restarted or its context switched without the helpers, e.g. when
+     * the session pool resets the session between leases.
+     */
+    public void forgetScreenState() {
+        if (contextSwitcher != null) {
+            contextSwitcher.forgetContext();
+        }
+        snapshotSource.invalidate();
+    }
+
+    /**
+     * @return The decorator filling the element fields of screens. It only depends on the driver, so all screens of
+     * the session share it.
+     */
+    public AppiumFieldDecorator getFieldDecorator() {
+        return fieldDecorator;
+    }
+}
@@ -3,18 +3,52 @@ package com.demoappmobile.screenutilities.action;
 import com.demoappmobile.Logger.ErrorMessage;
 import com.demoappmobile.Logger.InfoMessage;
 import com.demoappmobile.screenutilities.action.retry.ActionHandler;
+import com.demoappmobile.screenutilities.action.retry.RetryPolicy;
+import com.demoappmobile.screenutilities.action.retry.RetryableExceptions;
+import com.demoappmobile.screenutilities.driver.CommandCounter;
+import com.demoappmobile.screenutilities.driver.DeviceProfile;
 import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.snapshot.SnapshotSource;
 import org.autoutils.detection.ElementFinder;
 import org.openqa.selenium.*;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 
-import java.util.function.Supplier;
+import java.time.Duration;
+import java.util.List;
 
 public class CommonMethods {
     private static final int DEFAULT_RETRY_COUNT = 3;
+    // Jittered backoff gives the UI time to settle between attempts
+    private static final RetryPolicy DEFAULT_RETRY_POLICY = RetryPolicy.decorrelatedJitter(DEFAULT_RETRY_COUNT, Duration.ofMillis(200), Duration.ofSeconds(2));
+    private static final RetryableExceptions SEND_KEYS_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class, ElementNotInteractableException.class);
+    private static final RetryableExceptions CLICK_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class, ElementClickInterceptedException.class);
+    private static final RetryableExceptions GET_TEXT_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class, ElementClickInterceptedException.class);
+    private static final RetryableExceptions STALE_ELEMENT_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class);
 
-    private final ElementFinder elementFinder = new ElementFinder(DriverManager.getInstance().getDriver(), DriverManager.getInstance()
-                                                                                                                        .getWebDriverWait());
+    private final ElementFinder elementFinder;
+    private final ElementBatchReader batchReader;
+    private final RetryPolicy retryPolicy;
+
+    /**
+     * Creates common methods for the session attached to the calling thread. Screens use the instance of their
+     * {@link com.demoappmobile.screenutilities.SessionContext} instead of creating their own.
+     */
+    public CommonMethods() {
+        this(new ElementFinder(DriverManager.getInstance().getDriver(), DriverManager.getInstance().getWebDriverWait()),
+                new ElementBatchReader(DriverManager.getInstance().getDriver(), DriverManager.getInstance().getContextSwitcher(),
+                        new SnapshotSource(DriverManager.getInstance().getDriver())),
+                DriverManager.getInstance().getSessionContext().getDeviceProfile());
+    }
+
+    /**
+     * @param deviceProfile The settings of the session's device; its wait time bounds the time spent in waits and
+     *                      retries of one action.
+     */
+    public CommonMethods(ElementFinder elementFinder, ElementBatchReader batchReader, DeviceProfile deviceProfile) {
+        this.elementFinder = elementFinder;
+        this.batchReader = batchReader;
+        this.retryPolicy = DEFAULT_RETRY_POLICY.withDeadline(deviceProfile.waitTime().multipliedBy(DEFAULT_RETRY_COUNT + 1));
+    }
 
     /**
      * Sends text to a specified web element, retrying on failure.
@@ -36,20 +70,12 @@ public class CommonMethods {
      *             }</pre>
      */
     public void sendKeysToElement(WebElement webElement, String stringValue) {
-        ActionHandler.executeVoidWithRetry(() -> {
-            prepareForSendingKeys(webElement);
-            InfoMessage.sendingKeysToElement(stringValue, webElement);
-            webElement.sendKeys(stringValue);
-        }, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class, ElementNotInteractableException.class);
+        ActionHandler.executeVoidWithRetry("sendKeysToElement", webElement, stringValue, CommonMethods::sendKeys, retryPolicy, SEND_KEYS_EXCEPTIONS);
     }
 
     public void sendKeysToElement(By locator, CharSequence charSequence) {
-        ActionHandler.executeVoidWithRetry(() -> {
-            WebElement webElement = elementFinder.getElement(locator);
-            prepareForSendingKeys(webElement);
-            InfoMessage.sendingKeysToElement(charSequence, webElement);
-            webElement.sendKeys(charSequence);
-        }, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class, ElementNotInteractableException.class);
+        ActionHandler.executeVoidWithRetry("sendKeysToElement", locator, charSequence, elementFinder,
+                (by, text, finder) -> sendKeys(finder.getElement(by), text), retryPolicy, SEND_KEYS_EXCEPTIONS);
     }
 
     /**
@@ -70,11 +96,7 @@ public class CommonMethods {
      *                                                                                                                                                                                                                                                                                                                                                       }</pre>
      */
     public void clickElement(WebElement webElement) {
-        ActionHandler.executeVoidWithRetry(() -> {
-            waitForVisibilityAndClickability(webElement);
-            InfoMessage.clickingElement(webElement);
-            webElement.click();
-        }, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class, ElementClickInterceptedException.class);
+        ActionHandler.executeVoidWithRetry("clickElement", webElement, CommonMethods::click, retryPolicy, CLICK_EXCEPTIONS);
     }
 
     /**
@@ -92,12 +114,7 @@ public class CommonMethods {
      *                                                                                                                         }</pre>
      */
     public void clickElement(By locator) {
-        ActionHandler.executeVoidWithRetry(() -> {
-            WebElement webElement = elementFinder.findElement(locator);
-            waitForVisibilityAndClickability(webElement);
-            InfoMessage.clickingElement(webElement);
-            webElement.click();
-        }, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class, ElementClickInterceptedException.class);
+        ActionHandler.executeVoidWithRetry("clickElement", locator, elementFinder, (by, finder) -> click(finder.findElement(by)), retryPolicy, CLICK_EXCEPTIONS);
     }
 
     /**
@@ -118,11 +135,7 @@ public class CommonMethods {
      * }</pre>
      */
     public String getTextFromElement(WebElement webElement) {
-        Supplier<String> getTextAction = () -> {
-            waitForVisibility(webElement);
-            return webElement.getText();
-        };
-        return ActionHandler.executeStringWithRetry(getTextAction, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class, ElementClickInterceptedException.class);
+        return ActionHandler.executeWithRetry("getTextFromElement", webElement, CommonMethods::getText, retryPolicy, GET_TEXT_EXCEPTIONS);
     }
 
     /**
@@ -141,18 +154,59 @@ public class CommonMethods {
      * }</pre>
      */
     public String getTextFromElement(By locator) {
-        Supplier<String> getTextAction = () -> {
-            WebElement webElement = elementFinder.findElement(locator);
-            waitForVisibility(webElement);
-            return webElement.getText();
-        };
-        return ActionHandler.executeStringWithRetry(getTextAction, DEFAULT_RETRY_COUNT, StaleElementReferenceException.class);
+        return ActionHandler.executeWithRetry("getTextFromElement", locator, elementFinder, (by, finder) -> getText(finder.findElement(by)), retryPolicy, STALE_ELEMENT_EXCEPTIONS);
+    }
+
+    /**
+     * Reads properties of several elements at once, retrying on stale elements. In a WebView all elements are read by
+     * one script, in the native context locators are evaluated on one page source; both replace a round trip per
+     * element and property. Nothing is waited for: elements that are not there yet are reported as missing.
+     *
+     * @param targets    The {@link WebElement}s and {@link By} locators to read; a locator reads the first match.
+     * @param properties The properties to read of every element.
+     * @return The snapshot of the read properties.
+     * <p>
+     * Usage Example:
+     * <pre>{@code
+     * ElementSnapshot products = commonMethods.readAll(List.of(productTitle, productPrice), ElementProperty.TEXT);
+     * return new Product(products.getText(productTitle), products.getText(productPrice));
+     * }</pre>
+     */
+    public ElementSnapshot readAll(List<?> targets, ElementProperty... properties) {
+        return ActionHandler.executeWithRetry("readAll", targets, properties, batchReader,
+                (elements, elementProperties, reader) -> reader.readAll(elements, elementProperties), retryPolicy, STALE_ELEMENT_EXCEPTIONS);
+    }
+
+    // Action bodies are static and take the finder or reader as an argument, so that the lambdas and method references
+    // passed to ActionHandler capture nothing and are allocated once
+
+    private static void sendKeys(WebElement webElement, CharSequence charSequence) {
+        long commandsBefore = CommandCounter.current();
+        WebElement readyElement = prepareForSendingKeys(webElement);
+        InfoMessage.sendingKeysToElement(charSequence, webElement);
+        readyElement.sendKeys(charSequence);
+        InfoMessage.commandsIssued("sendKeysToElement", CommandCounter.current() - commandsBefore, webElement);
+    }
+
+    private static void click(WebElement webElement) {
+        long commandsBefore = CommandCounter.current();
+        WebElement readyElement = waitForVisibilityAndClickability(webElement);
+        InfoMessage.clickingElement(webElement);
+        readyElement.click();
+        InfoMessage.commandsIssued("clickElement", CommandCounter.current() - commandsBefore, webElement);
+    }
+
+    private static String getText(WebElement webElement) {
+        return waitForVisibility(webElement).getText();
     }
 
     /**
      * Waits for a web element to be visible and clickable. This is typically used before performing actions that require user interaction such as clicking.
+     * A single composite condition decides visibility, enabled state and clickability, costing one command per poll
+     * while the element is hidden and two once it is displayed.
      *
      * @param webElement The web element to check for visibility and clickability.
+     * @return The element, resolved if it was a wrapping proxy, ready to be interacted with.
      *                   <p>
      *                   Usage Example:
      *                   <pre>{@code
@@ -165,16 +219,16 @@ public class CommonMethods {
      *                                                                                                              }
      *                                                                                                              }</pre>
      */
-    private void waitForVisibilityAndClickability(WebElement webElement) {
-        waitForVisibility(webElement);
+    private static WebElement waitForVisibilityAndClickability(WebElement webElement) {
         InfoMessage.waitingForElementToBeClickable(webElement);
-        DriverManager.getInstance().getWebDriverWait().until(ExpectedConditions.visibilityOf(webElement));
+        return DriverManager.getInstance().getWebDriverWait().until(ElementReadiness.toBeInteractable(webElement));
     }
 
     /**
      * Waits for a web element to be visible. This method is used to ensure an element is present and visible before performing read operations like getText.
      *
      * @param webElement The web element to check for visibility.
+     * @return The element, resolved if it was a wrapping proxy, once it is visible.
      *                   <p>
      *                   Usage Example:
      *                   <pre>{@code
@@ -187,9 +241,9 @@ public class CommonMethods {
      *                                                                                                                                                                                                                                                             }
      *                                                                                                                                                                                                                                                             }</pre>
      */
-    private void waitForVisibility(WebElement webElement) {
+    private static WebElement waitForVisibility(WebElement webElement) {
         InfoMessage.waitingForVisibilityOfElement(webElement);
-        DriverManager.getInstance().getWebDriverWait().until(ExpectedConditions.elementToBeClickable(webElement));
+        return DriverManager.getInstance().getWebDriverWait().until(ElementReadiness.toBeVisible(webElement));
     }
 
     /**
@@ -197,6 +251,7 @@ public class CommonMethods {
      * This is mainly used before sending keys to a text input.
      *
      * @param webElement The web element to prepare.
+     * @return The cleared element, ready to receive keys.
      *                   <p>
      *                   Usage Example:
      *                   <pre>{@code
@@ -210,9 +265,10 @@ public class CommonMethods {
      *                                                                                                                                                                                                                                                                               }
      *                                                                                                                                                                                                                                                                               }</pre>
      */
-    private void prepareForSendingKeys(WebElement webElement) {
-        waitForVisibility(webElement);
-        webElement.clear();
+    private static WebElement prepareForSendingKeys(WebElement webElement) {
+        WebElement readyElement = waitForVisibilityAndClickability(webElement);
+        readyElement.clear();
+        return readyElement;
     }
 
     public boolean isElementEnabled(WebElement webElement) {
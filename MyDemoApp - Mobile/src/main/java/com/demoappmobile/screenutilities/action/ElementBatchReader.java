@@ -0,0 +1,213 @@
+package com.demoappmobile.screenutilities.action;
+
+import com.demoappmobile.Logger.InfoMessage;
+import com.demoappmobile.screenutilities.ContextSwitcher;
+import com.demoappmobile.screenutilities.snapshot.PageSourceSnapshot;
+import com.demoappmobile.screenutilities.snapshot.SnapshotSource;
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.remote.RemoteWebElement;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reads properties of several elements with as few round trips as possible. In a WebView, or any browser context,
+ * all elements are read by one script; in the native context the page source is fetched once and the locators are
+ * evaluated on it. Elements neither way can handle, like native elements of PageFactory fields or UiAutomator
+ * selectors, are read one by one.
+ */
+public class ElementBatchReader {
+
+    private static final String READ_SCRIPT = """
+            var targets = arguments[0], properties = arguments[1], results = [];
+            for (var i = 0; i < targets.length; i++) {
+                var target = targets[i], element = null;
+                if (target.element) {
+                    element = target.element;
+                } else if (target.using === 'xpath') {
+                    element = document.evaluate(target.value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue;
+                } else if (target.using === 'id') {
+                    element = document.getElementById(target.value);
+                } else {
+                    element = document.querySelector(target.value);
+                }
+                if (!element) {
+                    results.push(null);
+                    continue;
+                }
+                var values = {};
+                for (var j = 0; j < properties.length; j++) {
+                    switch (properties[j]) {
+                        case 'text':
+                            values.text = (element.innerText === undefined ? element.textContent : element.innerText).trim();
+                            break;
+                        case 'displayed':
+                            var style = window.getComputedStyle(element);
+                            values.displayed = element.getClientRects().length > 0 && style.visibility !== 'hidden' && style.display !== 'none';
+                            break;
+                        case 'enabled':
+                            values.enabled = !element.disabled;
+                            break;
+                        case 'selected':
+                            values.selected = !!(element.selected || element.checked);
+                            break;
+                    }
+                }
+                results.push(values);
+            }
+            return results;
+            """;
+
+    private final WebDriver driver;
+    private final ContextSwitcher contextSwitcher;
+    private final SnapshotSource snapshotSource;
+
+    /**
+     * @param driver          The driver of the session.
+     * @param contextSwitcher The context switcher of the session, telling native and WebView contexts apart; null for
+     *                        browser sessions.
+     * @param snapshotSource  The page-source snapshots of the session, refreshed by every native batch read.
+     */
+    public ElementBatchReader(WebDriver driver, ContextSwitcher contextSwitcher, SnapshotSource snapshotSource) {
+        this.driver = driver;
+        this.contextSwitcher = contextSwitcher;
+        this.snapshotSource = snapshotSource;
+    }
+
+    /**
+     * @param targets    The elements and locators to read; a locator reads the first element it matches.
+     * @param properties The properties to read of every element.
+     * @return The properties of all elements.
+     * @throws IllegalArgumentException If a target is neither a {@link WebElement} nor a {@link By}.
+     */
+    public ElementSnapshot readAll(List<?> targets, ElementProperty... properties) {
+        for (Object target : targets) {
+            if (!(target instanceof WebElement || target instanceof By)) {
+                throw new IllegalArgumentException("Targets must be elements or locators, got " + target);
+            }
+        }
+        List<Map<ElementProperty, Object>> values = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            values.add(null);
+        }
+        boolean[] read = new boolean[targets.size()];
+        if (isWebContext()) {
+            readWithScript(targets, properties, values, read);
+        } else {
+            readFromPageSource(targets, properties, values, read);
+        }
+        for (int i = 0; i < targets.size(); i++) {
+            if (!read[i]) {
+                values.set(i, readOneByOne(targets.get(i), properties));
+            }
+        }
+        return new ElementSnapshot(targets, values);
+    }
+
+    private boolean isWebContext() {
+        return contextSwitcher == null ? driver instanceof JavascriptExecutor : contextSwitcher.isInWebView();
+    }
+
+    private void readWithScript(List<?> targets, ElementProperty[] properties, List<Map<ElementProperty, Object>> values, boolean[] read) {
+        List<Map<String, Object>> scriptTargets = new ArrayList<>();
+        List<Integer> indexes = new ArrayList<>();
+        for (int i = 0; i < targets.size(); i++) {
+            Map<String, Object> scriptTarget = toScriptTarget(targets.get(i));
+            if (scriptTarget != null) {
+                scriptTargets.add(scriptTarget);
+                indexes.add(i);
+            }
+        }
+        if (scriptTargets.isEmpty()) {
+            return;
+        }
+        InfoMessage.readingElements(scriptTargets.size(), "one script");
+        List<String> propertyNames = Arrays.stream(properties).map(ElementProperty::getAttributeName).toList();
+        List<?> results = (List<?>) ((JavascriptExecutor) driver).executeScript(READ_SCRIPT, scriptTargets, propertyNames);
+        for (int i = 0; i < indexes.size(); i++) {
+            int index = indexes.get(i);
+            read[index] = true;
+            if (results.get(i) instanceof Map<?, ?> result) {
+                Map<ElementProperty, Object> elementValues = new EnumMap<>(ElementProperty.class);
+                for (ElementProperty property : properties) {
+                    elementValues.put(property, result.get(property.getAttributeName()));
+                }
+                values.set(index, elementValues);
+            }
+        }
+    }
+
+    private static Map<String, Object> toScriptTarget(Object target) {
+        if (target instanceof By.Remotable remotable) {
+            By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+            return switch (parameters.using()) {
+                case "css selector", "xpath", "id", "tag name" -> Map.of("using", parameters.using(), "value", parameters.value());
+                default -> null;
+            };
+        }
+        if (target instanceof By) {
+            return null;
+        }
+        WebElement element = target instanceof WrapsElement wrapsElement ? wrapsElement.getWrappedElement() : (WebElement) target;
+        // Only remote elements can be passed to a script, other proxies are read one by one
+        return element instanceof RemoteWebElement ? Map.of("element", element) : null;
+    }
+
+    private void readFromPageSource(List<?> targets, ElementProperty[] properties, List<Map<ElementProperty, Object>> values, boolean[] read) {
+        int supported = 0;
+        for (Object target : targets) {
+            if (target instanceof By locator && PageSourceSnapshot.supports(locator)) {
+                supported++;
+            }
+        }
+        if (supported == 0) {
+            return;
+        }
+        InfoMessage.readingElements(supported, "one page source");
+        // Always fresh: the values are read now, not as of the last change caused by this session
+        PageSourceSnapshot snapshot = snapshotSource.refresh();
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i) instanceof By locator && PageSourceSnapshot.supports(locator)) {
+                Map<String, String> attributes = snapshot.findAttributes(locator);
+                read[i] = true;
+                if (attributes != null) {
+                    Map<ElementProperty, Object> elementValues = new EnumMap<>(ElementProperty.class);
+                    for (ElementProperty property : properties) {
+                        elementValues.put(property, property.fromAttribute(attributes.get(property.getAttributeName())));
+                    }
+                    values.set(i, elementValues);
+                }
+            }
+        }
+    }
+
+    private Map<ElementProperty, Object> readOneByOne(Object target, ElementProperty[] properties) {
+        WebElement element;
+        if (target instanceof By locator) {
+            List<WebElement> elements = driver.findElements(locator);
+            if (elements.isEmpty()) {
+                return null;
+            }
+            element = elements.get(0);
+        } else {
+            element = (WebElement) target;
+        }
+        Map<ElementProperty, Object> elementValues = new EnumMap<>(ElementProperty.class);
+        try {
+            for (ElementProperty property : properties) {
+                elementValues.put(property, property.readFrom(element));
+            }
+        } catch (NoSuchElementException e) {
+            return null;
+        }
+        return elementValues;
+    }
+}
@@ -0,0 +1,50 @@
+package com.demoappmobile.screenutilities.action;
+
+import org.openqa.selenium.WebElement;
+
+/**
+ * A property of an element that {@link CommonMethods#readAll} reads in one batch. Text is read as a {@code String},
+ * all other properties as a {@code Boolean}.
+ */
+public enum ElementProperty {
+    TEXT("text"),
+    DISPLAYED("displayed"),
+    ENABLED("enabled"),
+    SELECTED("selected");
+
+    private final String attributeName;
+
+    ElementProperty(String attributeName) {
+        this.attributeName = attributeName;
+    }
+
+    /**
+     * @return The name of the property, both as the page-source attribute of native elements and as the key the
+     * batch script answers with.
+     */
+    public String getAttributeName() {
+        return attributeName;
+    }
+
+    /**
+     * Reads the property from a located element, one command per call.
+     */
+    Object readFrom(WebElement webElement) {
+        return switch (this) {
+            case TEXT -> webElement.getText();
+            case DISPLAYED -> webElement.isDisplayed();
+            case ENABLED -> webElement.isEnabled();
+            case SELECTED -> webElement.isSelected();
+        };
+    }
+
+    /**
+     * Converts the page-source attribute of a native element to the type the property is read as.
+     */
+    Object fromAttribute(String value) {
+        if (this == TEXT) {
+            return value == null ? "" : value;
+        }
+        return Boolean.parseBoolean(value);
+    }
+}
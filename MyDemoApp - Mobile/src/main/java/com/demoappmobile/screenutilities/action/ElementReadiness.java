@@ -0,0 +1,83 @@
+package com.demoappmobile.screenutilities.action;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.support.ui.ExpectedCondition;
+
+/**
+ * Wait conditions deciding whether an element can be interacted with, using as few WebDriver commands per poll as
+ * possible. {@code ExpectedConditions.elementToBeClickable} followed by {@code ExpectedConditions.visibilityOf} costs
+ * three commands per poll for what one displayed check and one enabled check decide.
+ * <p>
+ * Elements that wrap a located element, such as Selenium's PageFactory proxies, are resolved once per poll and the
+ * resolved element is returned, so the following action does not locate the element again.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * WebElement readyElement = webDriverWait.until(ElementReadiness.toBeInteractable(submitButton));
+ * readyElement.click();
+ * }</pre>
+ */
+public final class ElementReadiness {
+
+    private ElementReadiness() {
+        // Prevent instantiation
+    }
+
+    /**
+     * Waits for an element to be displayed and enabled, which is what Selenium considers clickable.
+     * Costs one command per poll while the element is hidden and two once it is displayed.
+     *
+     * @param webElement The element to check.
+     * @return A condition returning the resolved element once it is visible, enabled and clickable.
+     */
+    public static ExpectedCondition<WebElement> toBeInteractable(WebElement webElement) {
+        return new ExpectedCondition<>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                try {
+                    WebElement resolvedElement = resolve(webElement);
+                    return resolvedElement.isDisplayed() && resolvedElement.isEnabled() ? resolvedElement : null;
+                } catch (StaleElementReferenceException staleElementReferenceException) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "element to be visible, enabled and clickable: " + webElement;
+            }
+        };
+    }
+
+    /**
+     * Waits for an element to be displayed. Costs one command per poll.
+     *
+     * @param webElement The element to check.
+     * @return A condition returning the resolved element once it is visible.
+     */
+    public static ExpectedCondition<WebElement> toBeVisible(WebElement webElement) {
+        return new ExpectedCondition<>() {
+            @Override
+            public WebElement apply(WebDriver driver) {
+                try {
+                    WebElement resolvedElement = resolve(webElement);
+                    return resolvedElement.isDisplayed() ? resolvedElement : null;
+                } catch (StaleElementReferenceException staleElementReferenceException) {
+                    return null;
+                }
+            }
+
+            @Override
+            public String toString() {
+                return "visibility of " + webElement;
+            }
+        };
+    }
+
+    private static WebElement resolve(WebElement webElement) {
+        return webElement instanceof WrapsElement wrapsElement ? wrapsElement.getWrappedElement() : webElement;
+    }
+}
@@ -0,0 +1,105 @@
+package com.demoappmobile.screenutilities.action;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * The properties of several elements, read at the same moment by {@link CommonMethods#readAll}. Values are looked up
+ * by the element or locator they were read for; elements are matched by identity, so looking them up never talks to
+ * the device, locators by equality.
+ */
+public final class ElementSnapshot {
+
+    private final List<Object> targets;
+    private final List<Map<ElementProperty, Object>> values;
+
+    ElementSnapshot(List<?> targets, List<Map<ElementProperty, Object>> values) {
+        this.targets = new ArrayList<>(targets);
+        this.values = values;
+    }
+
+    /**
+     * @param target An element or locator the snapshot was read for.
+     * @return true if the element was found when the snapshot was read.
+     */
+    public boolean isPresent(Object target) {
+        return values.get(indexOf(target)) != null;
+    }
+
+    /**
+     * @return The text of the element, or null if it was not found.
+     */
+    public String getText(Object target) {
+        return (String) get(target, ElementProperty.TEXT);
+    }
+
+    /**
+     * @return true if the element was found and displayed.
+     */
+    public boolean isDisplayed(Object target) {
+        return Boolean.TRUE.equals(get(target, ElementProperty.DISPLAYED));
+    }
+
+    /**
+     * @return true if the element was found and enabled.
+     */
+    public boolean isEnabled(Object target) {
+        return Boolean.TRUE.equals(get(target, ElementProperty.ENABLED));
+    }
+
+    /**
+     * @return true if the element was found and selected.
+     */
+    public boolean isSelected(Object target) {
+        return Boolean.TRUE.equals(get(target, ElementProperty.SELECTED));
+    }
+
+    /**
+     * @param target   An element or locator the snapshot was read for.
+     * @param property A property the snapshot was read with.
+     * @return The value of the property, or null if the element was not found.
+     * @throws IllegalArgumentException If the snapshot was not read for the target or without the property.
+     */
+    public Object get(Object target, ElementProperty property) {
+        Map<ElementProperty, Object> properties = values.get(indexOf(target));
+        if (properties == null) {
+            return null;
+        }
+        if (!properties.containsKey(property)) {
+            throw new IllegalArgumentException("The snapshot was not read with property " + property);
+        }
+        return properties.get(property);
+    }
+
+    /**
+     * @return The properties of every target in the order they were read, null for targets that were not found.
+     */
+    public List<Map<ElementProperty, Object>> values() {
+        return Collections.unmodifiableList(values);
+    }
+
+    public int size() {
+        return targets.size();
+    }
+
+    private int indexOf(Object target) {
+        // Identity first: equals and hashCode of PageFactory proxies locate the element
+        for (int i = 0; i < targets.size(); i++) {
+            if (targets.get(i) == target) {
+                return i;
+            }
+        }
+        if (target instanceof By) {
+            int index = targets.indexOf(target);
+            if (index >= 0) {
+                return index;
+            }
+        }
+        throw new IllegalArgumentException("The snapshot was not read for " + (target instanceof WebElement ? "this element" : target));
+    }
+}
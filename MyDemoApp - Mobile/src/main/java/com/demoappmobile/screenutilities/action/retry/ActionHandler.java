@@ -1,11 +1,15 @@
 package com.demoappmobile.screenutilities.action.retry;
 
+import com.demoappmobile.Exceptions.CircuitOpenException;
 import com.demoappmobile.Exceptions.ExceptionNotHandledException;
 import com.demoappmobile.Exceptions.MaximumRetriesExceededException;
 
-import java.util.Arrays;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
 import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
 import java.util.function.DoubleSupplier;
+import java.util.function.Function;
 import java.util.function.IntSupplier;
 import java.util.function.Supplier;
 
@@ -20,15 +24,29 @@ import java.util.function.Supplier;
 public class ActionHandler {
 
     private static final int DEFAULT_RETRY_COUNT = 1;
+    private static final RetryPolicy DEFAULT_RETRY_POLICY = RetryPolicy.exponential(DEFAULT_RETRY_COUNT);
+
+    private static volatile RetryListener retryListener = RetryListener.NONE;
 
     private ActionHandler() {
         // Prevent instantiation
     }
 
+    /**
+     * Installs a listener notified of every attempt of every action, e.g. {@link RetryTelemetry}. Only one listener is
+     * installed at a time; passing null restores {@link RetryListener#NONE}.
+     *
+     * @param listener The listener to install.
+     */
+    public static void setRetryListener(RetryListener listener) {
+        retryListener = listener == null ? RetryListener.NONE : listener;
+    }
+
     /**
      * Executes a supplier action with retry logic, retrying the action up to a specified number of times
      * if it fails due to certain exceptions. This method is particularly useful for handling operations
-     * that may intermittently fail in web automation scenarios.
+     * that may intermittently fail in web automation scenarios. Retries wait with exponential backoff
+     * as defined by {@link RetryPolicy#exponential(int)}.
      *
      * @param action             The supplier action to be executed, which returns a value of type T.
      * @param retryCount         The number of retry attempts before giving up.
@@ -52,44 +70,202 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static <T> T executeWithRetry(Supplier<T> action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
-        int attempt = 0;
+        return executeWithRetry(action, RetryPolicy.exponential(retryCount), exceptionsToHandle);
+    }
+
+    /**
+     * Executes a supplier action with retry logic governed by a {@link RetryPolicy}. The policy decides how many
+     * retries are made, how long to wait before each of them and how much wall-clock time the whole execution may take.
+     * All other {@code execute*WithRetry} methods delegate to this one.
+     *
+     * @param action             The supplier action to be executed, which returns a value of type T.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @param <T>                The type of the result returned by the action.
+     * @return The result of the action if it succeeds within the retry policy.
+     * @throws ExceptionNotHandledException    if an exception is thrown that is not specified in exceptionsToHandle.
+     * @throws MaximumRetriesExceededException if the retries or the deadline of the policy are exhausted without successful execution.
+     *                                         <p>
+     *                                         Usage Example:
+     *                                         <pre>{@code
+     *                                         private static final RetryPolicy TEXT_RETRY_POLICY = RetryPolicy.decorrelatedJitter(5, Duration.ofMillis(100), Duration.ofSeconds(1));
+     *
+     *                                         public String readBannerWithRetry() {
+     *                                             return ActionHandler.executeWithRetry(() -> banner.getText(), TEXT_RETRY_POLICY,
+     *                                             StaleElementReferenceException.class);
+     *                                         }
+     *                                         }</pre>
+     */
+    @SafeVarargs
+    public static <T> T executeWithRetry(Supplier<T> action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        return executeWithRetry(action, retryPolicy, RetryableExceptions.wrap(exceptionsToHandle));
+    }
+
+    /**
+     * Executes a supplier action with retry logic governed by a {@link RetryPolicy}, retrying on the exceptions of a
+     * precompiled {@link RetryableExceptions} set. Unlike the varargs overloads, no array is created per call.
+     *
+     * @param action             The supplier action to be executed, which returns a value of type T.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @param <T>                The type of the result returned by the action.
+     * @return The result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    public static <T> T executeWithRetry(Supplier<T> action, RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        return execute("executeWithRetry", action, null, null, null, (supplier, first, second, third) -> supplier.get(), retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a function of a single argument with retry logic. The argument is passed in instead of being captured by
+     * the action, so a method reference to a static method or a non-capturing lambda can be stored in a constant and
+     * the successful first attempt allocates nothing beyond what the action itself allocates.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param argument           The argument passed to the action on every attempt.
+     * @param action             The function to be executed.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @param <A>                The type of the argument.
+     * @param <R>                The type of the result returned by the action.
+     * @return The result of the action if it succeeds within the retry policy.
+     * <p>
+     * Usage Example:
+     * <pre>{@code
+     * private static final RetryableExceptions TEXT_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class);
+     *
+     * public String getBannerText() {
+     *     return ActionHandler.executeWithRetry("getBannerText", banner, WebElement::getText, RETRY_POLICY, TEXT_EXCEPTIONS);
+     * }
+     * }</pre>
+     */
+    public static <A, R> R executeWithRetry(String actionName, A argument, Function<? super A, ? extends R> action,
+                                            RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        return execute(actionName, action, argument, null, null, (function, first, second, third) -> function.apply(first), retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a function of two arguments with retry logic, without capturing the arguments in the action.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param first              The first argument passed to the action on every attempt.
+     * @param second             The second argument passed to the action on every attempt.
+     * @param action             The function to be executed.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @param <A>                The type of the first argument.
+     * @param <B>                The type of the second argument.
+     * @param <R>                The type of the result returned by the action.
+     * @return The result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(String, Object, Function, RetryPolicy, RetryableExceptions)
+     */
+    public static <A, B, R> R executeWithRetry(String actionName, A first, B second, BiFunction<? super A, ? super B, ? extends R> action,
+                                               RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        return execute(actionName, action, first, second, null, (function, firstArgument, secondArgument, third) -> function.apply(firstArgument, secondArgument), retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a function of three arguments with retry logic, without capturing the arguments in the action. Actions
+     * that need an object of the caller, e.g. its element finder, take it as an argument and stay non-capturing.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param first              The first argument passed to the action on every attempt.
+     * @param second             The second argument passed to the action on every attempt.
+     * @param third              The third argument passed to the action on every attempt.
+     * @param action             The function to be executed.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @param <A>                The type of the first argument.
+     * @param <B>                The type of the second argument.
+     * @param <C>                The type of the third argument.
+     * @param <R>                The type of the result returned by the action.
+     * @return The result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(String, Object, Function, RetryPolicy, RetryableExceptions)
+     */
+    public static <A, B, C, R> R executeWithRetry(String actionName, A first, B second, C third, TriFunction<? super A, ? super B, ? super C, ? extends R> action,
+                                                  RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        return execute(actionName, action, first, second, third, TriFunction::apply, retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Runs the retry loop. The action and its arguments are handed to a non-capturing {@link Invoker}, so every public
+     * entry point shares this loop without wrapping the action in another lambda. The {@link RetryPolicy.Execution} is
+     * only created once the first attempt has failed, and attempts are only timed while a {@link RetryListener} is
+     * installed; a successful first attempt without a listener costs a clock read and nothing else.
+     */
+    private static <F, A, B, C, R> R execute(String actionName, F action, A first, B second, C third, Invoker<F, A, B, C, R> invoker,
+                                          RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        RetryListener listener = retryListener;
+        boolean timed = listener != RetryListener.NONE;
+        long startNanos = retryPolicy.nanoTime();
+        long attemptStartNanos = startNanos;
+        RetryPolicy.Execution execution = null;
         while (true) {
             try {
-                return action.get();
+                R result = invoker.invoke(action, first, second, third);
+                if (timed) {
+                    long endNanos = retryPolicy.nanoTime();
+                    listener.onSuccess(actionName, first, attemptNumber(execution), endNanos - attemptStartNanos, endNanos - startNanos);
+                }
+                return result;
             } catch (Exception e) {
-                if (!isExceptionHandled(e, exceptionsToHandle)) {
+                if (timed) {
+                    listener.onAttemptFailed(actionName, first, attemptNumber(execution), e, retryPolicy.nanoTime() - attemptStartNanos);
+                }
+                if (e instanceof CircuitOpenException circuitOpenException) {
+                    notifyFailure(listener, actionName, first, execution, e, retryPolicy, startNanos);
+                    // The session is known to be unresponsive, fail at once with the dedicated exception
+                    throw circuitOpenException;
+                }
+                if (!exceptionsToHandle.contains(e)) {
+                    notifyFailure(listener, actionName, first, execution, e, retryPolicy, startNanos);
                     // If the exception is not among the handled exceptions, throw a specific exception for unhandled cases
                     throw new ExceptionNotHandledException("Unhandled exception occurred", e);
                 }
-                if (++attempt > retryCount) {
-                    // If all retries are exhausted, throw a specific exception indicating maximum retries exceeded
-                    throw new MaximumRetriesExceededException("Exceeded max retry attempts", e);
+                if (execution == null) {
+                    execution = retryPolicy.start(startNanos);
+                }
+                if (!awaitNextAttempt(execution, e)) {
+                    notifyFailure(listener, actionName, first, execution, e, retryPolicy, startNanos);
+                    // If all retries or the time budget are exhausted, throw a specific exception indicating maximum retries exceeded
+                    throw new MaximumRetriesExceededException(execution.getExhaustionReason(), e);
+                }
+                if (timed) {
+                    attemptStartNanos = retryPolicy.nanoTime();
                 }
             }
         }
     }
 
+    private static int attemptNumber(RetryPolicy.Execution execution) {
+        return execution == null ? 1 : execution.getRetries() + 1;
+    }
+
+    private static void notifyFailure(RetryListener listener, String actionName, Object target, RetryPolicy.Execution execution,
+                                      Exception exception, RetryPolicy retryPolicy, long startNanos) {
+        if (listener != RetryListener.NONE) {
+            listener.onFailure(actionName, target, attemptNumber(execution), exception, retryPolicy.nanoTime() - startNanos);
+        }
+    }
+
+    private static boolean awaitNextAttempt(RetryPolicy.Execution execution, Exception lastException) {
+        try {
+            return execution.awaitNextAttempt();
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            MaximumRetriesExceededException exception = new MaximumRetriesExceededException("Interrupted while waiting to retry", lastException);
+            exception.addSuppressed(interruptedException);
+            throw exception;
+        }
+    }
+
     /**
-     * Determines if the caught exception is among the exceptions that should be handled
-     * (and thus retried) by the retry logic.
-     * <p>
-     * This method iterates through the provided array of exceptions to handle and checks if the caught exception
-     * is an instance of them. It is utilized internally by the public retry methods
-     * (e.g., {@code executeWithRetry}) to decide whether an exception thrown during an
-     * attempted action should lead to a retry or be propagated immediately.
-     *
-     * @param e                  The exception that was caught during the execution of the action.
-     * @param exceptionsToHandle An array of exceptions that are eligible for retry logic.
-     * @return true if the exception is one of the handled types; false otherwise.
-     * <p>
-     * Internal Usage Example:
-     * This method is called within {@link #executeWithRetry} to check if an exception should trigger a retry.
-     * For instance, when {@link #executeWithRetry} catches an exception, it calls {@code isExceptionHandled}
-     * passing the caught exception and the list of exceptions it should handle. Based on the return value,
-     * it decides whether to retry the action or to fail.
+     * Calls an action of any shape with up to three arguments. Implementations are non-capturing lambdas, which the JVM
+     * instantiates once per call site.
      */
-    private static boolean isExceptionHandled(Exception e, Class<? extends Exception>[] exceptionsToHandle) {
-        return Arrays.stream(exceptionsToHandle).anyMatch(handledException -> handledException.isInstance(e));
+    @FunctionalInterface
+    private interface Invoker<F, A, B, C, R> {
+        R invoke(F action, A first, B second, C third);
     }
 
 
@@ -120,10 +296,7 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static void executeVoidWithRetry(Runnable action, Class<? extends Exception>... exceptionsToHandle) {
-        executeWithRetry(() -> {
-            action.run();
-            return null; // For compatibility with Supplier<T>
-        }, DEFAULT_RETRY_COUNT, exceptionsToHandle);
+        executeVoidWithRetry(action, DEFAULT_RETRY_POLICY, exceptionsToHandle);
     }
 
     /**
@@ -149,10 +322,109 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static void executeVoidWithRetry(Runnable action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
-        executeWithRetry(() -> {
-            action.run();
-            return null; // For compatibility with Supplier<T>
-        }, retryCount, exceptionsToHandle);
+        executeVoidWithRetry(action, RetryPolicy.exponential(retryCount), exceptionsToHandle);
+    }
+
+    /**
+     * Executes a void action with retry logic governed by a {@link RetryPolicy}.
+     *
+     * @param action             The void action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions upon which to retry the action.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    @SafeVarargs
+    public static void executeVoidWithRetry(Runnable action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        executeVoidWithRetry(action, retryPolicy, RetryableExceptions.wrap(exceptionsToHandle));
+    }
+
+    /**
+     * Executes a void action with retry logic governed by a {@link RetryPolicy}, retrying on the exceptions of a
+     * precompiled {@link RetryableExceptions} set.
+     *
+     * @param action             The void action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions upon which to retry the action.
+     * @see #executeWithRetry(Supplier, RetryPolicy, RetryableExceptions)
+     */
+    public static void executeVoidWithRetry(Runnable action, RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        execute("executeVoidWithRetry", action, null, null, null, (runnable, first, second, third) -> {
+            runnable.run();
+            return null;
+        }, retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a void action of a single argument with retry logic, without capturing the argument in the action.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param argument           The argument passed to the action on every attempt.
+     * @param action             The void action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions upon which to retry the action.
+     * @param <A>                The type of the argument.
+     *                           <p>
+     *                           Usage Example:
+     *                           <pre>{@code
+     *                           private static final RetryableExceptions CLICK_EXCEPTIONS =
+     *                                   RetryableExceptions.of(StaleElementReferenceException.class, ElementClickInterceptedException.class);
+     *
+     *                           public void clickSubmitButton() {
+     *                               ActionHandler.executeVoidWithRetry("clickSubmitButton", submitButton, WebElement::click, RETRY_POLICY, CLICK_EXCEPTIONS);
+     *                           }
+     *                           }</pre>
+     * @see #executeWithRetry(String, Object, Function, RetryPolicy, RetryableExceptions)
+     */
+    public static <A> void executeVoidWithRetry(String actionName, A argument, Consumer<? super A> action,
+                                                RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        execute(actionName, action, argument, null, null, (consumer, first, second, third) -> {
+            consumer.accept(first);
+            return null;
+        }, retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a void action of two arguments with retry logic, without capturing the arguments in the action.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param first              The first argument passed to the action on every attempt.
+     * @param second             The second argument passed to the action on every attempt.
+     * @param action             The void action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions upon which to retry the action.
+     * @param <A>                The type of the first argument.
+     * @param <B>                The type of the second argument.
+     * @see #executeWithRetry(String, Object, Function, RetryPolicy, RetryableExceptions)
+     */
+    public static <A, B> void executeVoidWithRetry(String actionName, A first, B second, BiConsumer<? super A, ? super B> action,
+                                                   RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        execute(actionName, action, first, second, null, (consumer, firstArgument, secondArgument, third) -> {
+            consumer.accept(firstArgument, secondArgument);
+            return null;
+        }, retryPolicy, exceptionsToHandle);
+    }
+
+    /**
+     * Executes a void action of three arguments with retry logic, without capturing the arguments in the action.
+     *
+     * @param actionName         The name of the action, under which a {@link RetryListener} reports it.
+     * @param first              The first argument passed to the action on every attempt.
+     * @param second             The second argument passed to the action on every attempt.
+     * @param third              The third argument passed to the action on every attempt.
+     * @param action             The void action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions upon which to retry the action.
+     * @param <A>                The type of the first argument.
+     * @param <B>                The type of the second argument.
+     * @param <C>                The type of the third argument.
+     * @see #executeWithRetry(String, Object, Object, Object, TriFunction, RetryPolicy, RetryableExceptions)
+     */
+    public static <A, B, C> void executeVoidWithRetry(String actionName, A first, B second, C third, TriConsumer<? super A, ? super B, ? super C> action,
+                                                      RetryPolicy retryPolicy, RetryableExceptions exceptionsToHandle) {
+        execute(actionName, action, first, second, third, (consumer, firstArgument, secondArgument, thirdArgument) -> {
+            consumer.accept(firstArgument, secondArgument, thirdArgument);
+            return null;
+        }, retryPolicy, exceptionsToHandle);
     }
 
     /**
@@ -177,7 +449,7 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static boolean executeBooleanWithRetry(BooleanSupplier action, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsBoolean, DEFAULT_RETRY_COUNT, exceptionsToHandle);
+        return executeBooleanWithRetry(action, DEFAULT_RETRY_POLICY, exceptionsToHandle);
     }
 
     /**
@@ -201,7 +473,22 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static boolean executeBooleanWithRetry(BooleanSupplier action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsBoolean, retryCount, exceptionsToHandle);
+        return executeBooleanWithRetry(action, RetryPolicy.exponential(retryCount), exceptionsToHandle);
+    }
+
+    /**
+     * Executes a BooleanSupplier action with retry logic governed by a {@link RetryPolicy}.
+     *
+     * @param action             The BooleanSupplier action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @return The boolean result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    @SafeVarargs
+    public static boolean executeBooleanWithRetry(BooleanSupplier action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        return execute("executeBooleanWithRetry", action, null, null, null, (supplier, first, second, third) -> supplier.getAsBoolean(), retryPolicy,
+                       RetryableExceptions.wrap(exceptionsToHandle));
     }
 
     /**
@@ -224,7 +511,7 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static int executeIntWithRetry(IntSupplier action, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsInt, DEFAULT_RETRY_COUNT, exceptionsToHandle);
+        return executeIntWithRetry(action, DEFAULT_RETRY_POLICY, exceptionsToHandle);
     }
 
     /**
@@ -248,7 +535,22 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static int executeIntWithRetry(IntSupplier action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsInt, retryCount, exceptionsToHandle);
+        return executeIntWithRetry(action, RetryPolicy.exponential(retryCount), exceptionsToHandle);
+    }
+
+    /**
+     * Executes an IntSupplier action with retry logic governed by a {@link RetryPolicy}.
+     *
+     * @param action             The IntSupplier action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @return The integer result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    @SafeVarargs
+    public static int executeIntWithRetry(IntSupplier action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        return execute("executeIntWithRetry", action, null, null, null, (supplier, first, second, third) -> supplier.getAsInt(), retryPolicy,
+                       RetryableExceptions.wrap(exceptionsToHandle));
     }
 
     /**
@@ -271,7 +573,7 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static double executeDoubleWithRetry(DoubleSupplier action, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsDouble, DEFAULT_RETRY_COUNT, exceptionsToHandle);
+        return executeDoubleWithRetry(action, DEFAULT_RETRY_POLICY, exceptionsToHandle);
     }
 
     /**
@@ -295,7 +597,22 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static double executeDoubleWithRetry(DoubleSupplier action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action::getAsDouble, retryCount, exceptionsToHandle);
+        return executeDoubleWithRetry(action, RetryPolicy.exponential(retryCount), exceptionsToHandle);
+    }
+
+    /**
+     * Executes a DoubleSupplier action with retry logic governed by a {@link RetryPolicy}.
+     *
+     * @param action             The DoubleSupplier action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @return The double result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    @SafeVarargs
+    public static double executeDoubleWithRetry(DoubleSupplier action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        return execute("executeDoubleWithRetry", action, null, null, null, (supplier, first, second, third) -> supplier.getAsDouble(), retryPolicy,
+                       RetryableExceptions.wrap(exceptionsToHandle));
     }
 
     /**
@@ -318,7 +635,7 @@ public class ActionHandler {
      */
     @SafeVarargs
     public static String executeStringWithRetry(Supplier<String> action, Class<? extends Exception>... exceptionsToHandle) {
-        return executeWithRetry(action, DEFAULT_RETRY_COUNT, exceptionsToHandle);
+        return executeWithRetry(action, DEFAULT_RETRY_POLICY, exceptionsToHandle);
     }
 
     /**
@@ -351,4 +668,18 @@ public class ActionHandler {
     public static String executeStringWithRetry(Supplier<String> action, int retryCount, Class<? extends Exception>... exceptionsToHandle) {
         return executeWithRetry(action, retryCount, exceptionsToHandle);
     }
+
+    /**
+     * Executes a Supplier&lt;String&gt; action with retry logic governed by a {@link RetryPolicy}.
+     *
+     * @param action             The Supplier&lt;String&gt; action to execute.
+     * @param retryPolicy        The policy controlling the number of retries, the delays between them and the deadline.
+     * @param exceptionsToHandle The exceptions that, if thrown, will trigger a retry of the action.
+     * @return The String result of the action if it succeeds within the retry policy.
+     * @see #executeWithRetry(Supplier, RetryPolicy, Class[])
+     */
+    @SafeVarargs
+    public static String executeStringWithRetry(Supplier<String> action, RetryPolicy retryPolicy, Class<? extends Exception>... exceptionsToHandle) {
+        return executeWithRetry(action, retryPolicy, exceptionsToHandle);
+    }
 }
\ No newline at end of file
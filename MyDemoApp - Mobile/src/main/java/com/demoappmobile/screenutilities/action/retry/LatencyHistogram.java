@@ -0,0 +1,105 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A lock-free latency histogram with log-linear buckets in the style of HdrHistogram: every power of two is split into
+ * {@value #SUB_BUCKET_COUNT} equally wide buckets, so recorded values keep a relative precision of about 6% over the
+ * whole range while the histogram has a fixed, small size. Values are recorded in microseconds.
+ * <p>
+ * Recording only increments atomic counters and can be done from any number of threads. Reading a percentile while
+ * other threads record gives a result that is consistent enough for reporting, not an exact snapshot.
+ */
+public final class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    // Covers values up to 2^40 microseconds, i.e. well beyond 12 days
+    private static final int MAX_SHIFT = 36;
+    private static final int BUCKET_COUNT = SUB_BUCKET_COUNT * (MAX_SHIFT + 2);
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder totalCount = new LongAdder();
+    private final LongAdder totalMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    public void recordNanos(long nanos) {
+        long micros = Math.max(0, nanos / 1_000);
+        counts.incrementAndGet(bucketIndex(micros));
+        totalCount.increment();
+        totalMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    public long getTotalCount() {
+        return totalCount.sum();
+    }
+
+    /**
+     * @return The sum of all recorded values, in microseconds.
+     */
+    public long getTotalMicros() {
+        return totalMicros.sum();
+    }
+
+    /**
+     * @param percentile The percentile between 0 and 100.
+     * @return The highest value of the bucket holding the percentile, in microseconds, or 0 if nothing was recorded.
+     */
+    public long getValueAtPercentile(double percentile) {
+        long total = totalCount.sum();
+        if (total == 0) {
+            return 0;
+        }
+        long countAtPercentile = Math.max(1, (long) Math.ceil(percentile / 100.0 * total));
+        long runningCount = 0;
+        for (int index = 0; index < BUCKET_COUNT; index++) {
+            runningCount += counts.get(index);
+            if (runningCount >= countAtPercentile) {
+                return Math.min(bucketUpperBound(index), maxMicros.get());
+            }
+        }
+        return maxMicros.get();
+    }
+
+    /**
+     * @return The count, mean, percentiles and maximum of the recorded values, in milliseconds.
+     */
+    public Map<String, Object> toReport() {
+        long count = getTotalCount();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("count", count);
+        report.put("mean", count == 0 ? 0.0 : toMillis(totalMicros.sum() / (double) count));
+        report.put("p50", toMillis(getValueAtPercentile(50)));
+        report.put("p90", toMillis(getValueAtPercentile(90)));
+        report.put("p99", toMillis(getValueAtPercentile(99)));
+        report.put("max", toMillis(maxMicros.get()));
+        return report;
+    }
+
+    static int bucketIndex(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Math.min(63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS, MAX_SHIFT);
+        int subBucket = (int) Math.min(value >>> shift, 2L * SUB_BUCKET_COUNT - 1) - SUB_BUCKET_COUNT;
+        return SUB_BUCKET_COUNT * (shift + 1) + subBucket;
+    }
+
+    static long bucketUpperBound(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long subBucket = index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT;
+        return ((subBucket + 1) << shift) - 1;
+    }
+
+    private static double toMillis(double micros) {
+        return Math.round(micros) / 1_000.0;
+    }
+}
@@ -0,0 +1,38 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import java.time.Duration;
+
+/**
+ * The time source used by {@link RetryPolicy} to measure deadlines and to wait between attempts.
+ * Tests can supply a virtual clock that advances on {@link #sleep(Duration)} instead of really sleeping.
+ */
+public interface RetryClock {
+
+    /**
+     * The clock backed by {@link System#nanoTime()} and {@link Thread#sleep(long, int)}.
+     */
+    RetryClock SYSTEM = new RetryClock() {
+        @Override
+        public long nanoTime() {
+            return System.nanoTime();
+        }
+
+        @Override
+        public void sleep(Duration duration) throws InterruptedException {
+            Thread.sleep(duration.toMillis(), duration.toNanosPart() % 1_000_000);
+        }
+    };
+
+    /**
+     * @return The current value of a monotonic time source, in nanoseconds.
+     */
+    long nanoTime();
+
+    /**
+     * Waits for the given duration.
+     *
+     * @param duration The time to wait.
+     * @throws InterruptedException If the waiting thread is interrupted.
+     */
+    void sleep(Duration duration) throws InterruptedException;
+}
@@ -0,0 +1,53 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+/**
+ * Receives the outcome of every attempt made by {@link ActionHandler}. Install a listener with
+ * {@link ActionHandler#setRetryListener(RetryListener)} to observe retries that would otherwise be swallowed.
+ * <p>
+ * Listeners are called on the thread running the action, from any number of threads at once, and must therefore be
+ * thread-safe and fast. Times are in nanoseconds as measured by the clock of the {@link RetryPolicy}.
+ * <p>
+ * The {@code target} is the first argument passed to the action (usually a {@code WebElement} or a {@code By}),
+ * or null for actions that capture their target themselves.
+ */
+public interface RetryListener {
+
+    /**
+     * A listener ignoring all events. {@link ActionHandler} skips timing entirely while it is installed.
+     */
+    RetryListener NONE = new RetryListener() { };
+
+    /**
+     * Called when an attempt throws, before deciding whether to retry.
+     *
+     * @param action       The name of the action.
+     * @param target       The element or locator the action works on, or null.
+     * @param attempt      The number of the failed attempt, starting at 1.
+     * @param exception    The exception thrown by the attempt.
+     * @param attemptNanos The time the attempt took.
+     */
+    default void onAttemptFailed(String action, Object target, int attempt, Exception exception, long attemptNanos) { }
+
+    /**
+     * Called when an attempt succeeds.
+     *
+     * @param action       The name of the action.
+     * @param target       The element or locator the action works on, or null.
+     * @param attempts     The number of attempts made, including the successful one.
+     * @param attemptNanos The time the successful attempt took.
+     * @param totalNanos   The time from the start of the first attempt until success, including waits between attempts.
+     */
+    default void onSuccess(String action, Object target, int attempts, long attemptNanos, long totalNanos) { }
+
+    /**
+     * Called when the action fails for good, either because the exception is not retryable or because the retry
+     * policy is exhausted.
+     *
+     * @param action     The name of the action.
+     * @param target     The element or locator the action works on, or null.
+     * @param attempts   The number of attempts made.
+     * @param exception  The exception thrown by the last attempt.
+     * @param totalNanos The time from the start of the first attempt until giving up.
+     */
+    default void onFailure(String action, Object target, int attempts, Exception exception, long totalNanos) { }
+}
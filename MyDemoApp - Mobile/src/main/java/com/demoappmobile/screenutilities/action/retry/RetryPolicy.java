@@ -0,0 +1,253 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/**
+ * An immutable description of how often and how fast a failed action is retried. A policy combines a maximum number
+ * of retries, a {@link Backoff} deciding how long to wait before each retry and an optional wall-clock deadline for
+ * the whole execution. The same policy instance can be shared by any number of threads and call sites.
+ * <p>
+ * Waiting between attempts gives the UI time to settle and keeps retries from hammering a busy Appium server with
+ * back-to-back requests, while the deadline bounds the total time an action may spend retrying.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * private static final RetryPolicy CLICK_RETRY_POLICY = RetryPolicy.exponential(3, Duration.ofMillis(250), 2.0, Duration.ofSeconds(2))
+ *                                                                  .withDeadline(Duration.ofSeconds(30));
+ *
+ * public void submitForm() {
+ *     ActionHandler.executeVoidWithRetry(() -> submitButton.click(), CLICK_RETRY_POLICY, StaleElementReferenceException.class);
+ * }
+ * }</pre>
+ */
+public final class RetryPolicy {
+
+    public static final Duration DEFAULT_INITIAL_DELAY = Duration.ofMillis(100);
+    public static final Duration DEFAULT_MAX_DELAY = Duration.ofSeconds(2);
+    public static final double DEFAULT_MULTIPLIER = 2.0;
+
+    private final int maxRetries;
+    private final Backoff backoff;
+    private final Duration deadline;
+    private final RetryClock clock;
+
+    private RetryPolicy(int maxRetries, Backoff backoff, Duration deadline, RetryClock clock) {
+        if (maxRetries < 0) {
+            throw new IllegalArgumentException("Number of retries must not be negative.");
+        }
+        this.maxRetries = maxRetries;
+        this.backoff = backoff;
+        this.deadline = deadline;
+        this.clock = clock;
+    }
+
+    /**
+     * Creates a policy retrying up to {@code maxRetries} times with delays computed by a custom backoff.
+     *
+     * @param maxRetries The maximum number of retries after the first attempt.
+     * @param backoff    The backoff computing the delay before each retry.
+     * @return The retry policy.
+     */
+    public static RetryPolicy of(int maxRetries, Backoff backoff) {
+        return new RetryPolicy(maxRetries, backoff, null, RetryClock.SYSTEM);
+    }
+
+    /**
+     * Creates a policy retrying immediately, without waiting between attempts.
+     *
+     * @param maxRetries The maximum number of retries after the first attempt.
+     * @return The retry policy.
+     */
+    public static RetryPolicy immediate(int maxRetries) {
+        return of(maxRetries, (retry, previousDelay) -> Duration.ZERO);
+    }
+
+    /**
+     * Creates a policy waiting the same amount of time before every retry.
+     *
+     * @param maxRetries The maximum number of retries after the first attempt.
+     * @param delay      The delay before every retry.
+     * @return The retry policy.
+     */
+    public static RetryPolicy fixed(int maxRetries, Duration delay) {
+        return of(maxRetries, (retry, previousDelay) -> delay);
+    }
+
+    /**
+     * Creates a policy with exponential backoff using {@link #DEFAULT_INITIAL_DELAY}, {@link #DEFAULT_MULTIPLIER}
+     * and {@link #DEFAULT_MAX_DELAY}.
+     *
+     * @param maxRetries The maximum number of retries after the first attempt.
+     * @return The retry policy.
+     */
+    public static RetryPolicy exponential(int maxRetries) {
+        return exponential(maxRetries, DEFAULT_INITIAL_DELAY, DEFAULT_MULTIPLIER, DEFAULT_MAX_DELAY);
+    }
+
+    /**
+     * Creates a policy whose delay starts at {@code initialDelay} and grows by {@code multiplier} before every
+     * further retry, capped at {@code maxDelay}.
+     *
+     * @param maxRetries   The maximum number of retries after the first attempt.
+     * @param initialDelay The delay before the first retry.
+     * @param multiplier   The factor applied to the delay before every further retry.
+     * @param maxDelay     The upper bound of a single delay.
+     * @return The retry policy.
+     */
+    public static RetryPolicy exponential(int maxRetries, Duration initialDelay, double multiplier, Duration maxDelay) {
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("Backoff multiplier must be at least 1.");
+        }
+        return of(maxRetries, (retry, previousDelay) -> {
+            double delayNanos = initialDelay.toNanos() * Math.pow(multiplier, retry - 1);
+            return Duration.ofNanos((long) Math.min(delayNanos, maxDelay.toNanos()));
+        });
+    }
+
+    /**
+     * Creates a policy with "decorrelated jitter" backoff: every delay is drawn at random between {@code baseDelay}
+     * and three times the previous delay, capped at {@code maxDelay}. The randomness spreads out retries of parallel
+     * tests hitting the same Appium server while still growing the delay on repeated failures.
+     *
+     * @param maxRetries The maximum number of retries after the first attempt.
+     * @param baseDelay  The smallest possible delay.
+     * @param maxDelay   The upper bound of a single delay.
+     * @return The retry policy.
+     */
+    public static RetryPolicy decorrelatedJitter(int maxRetries, Duration baseDelay, Duration maxDelay) {
+        return decorrelatedJitter(maxRetries, baseDelay, maxDelay, () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    static RetryPolicy decorrelatedJitter(int maxRetries, Duration baseDelay, Duration maxDelay, DoubleSupplier random) {
+        return of(maxRetries, (retry, previousDelay) -> {
+            long baseNanos = baseDelay.toNanos();
+            long upperNanos = Math.max(baseNanos, previousDelay.toNanos() * 3);
+            long delayNanos = baseNanos + (long) (random.getAsDouble() * (upperNanos - baseNanos));
+            return Duration.ofNanos(Math.min(delayNanos, maxDelay.toNanos()));
+        });
+    }
+
+    /**
+     * Returns a copy of this policy that stops retrying once the next attempt would start after the given
+     * wall-clock budget, measured from the first attempt. A running attempt is never interrupted.
+     *
+     * @param deadline The total time budget of an execution.
+     * @return The retry policy with a deadline.
+     */
+    public RetryPolicy withDeadline(Duration deadline) {
+        return new RetryPolicy(maxRetries, backoff, deadline, clock);
+    }
+
+    /**
+     * Returns a copy of this policy measuring time and waiting with the given clock.
+     *
+     * @param clock The clock to use, e.g. a virtual clock in unit tests.
+     * @return The retry policy using the clock.
+     */
+    public RetryPolicy withClock(RetryClock clock) {
+        return new RetryPolicy(maxRetries, backoff, deadline, clock);
+    }
+
+    public int getMaxRetries() {
+        return maxRetries;
+    }
+
+    public Duration getDeadline() {
+        return deadline;
+    }
+
+    /**
+     * Starts tracking a single execution of an action under this policy.
+     *
+     * @return The state of the new execution.
+     */
+    public Execution start() {
+        return new Execution(clock.nanoTime());
+    }
+
+    /**
+     * Starts tracking an execution whose first attempt began at {@code startNanos}, as read from {@link #nanoTime()}.
+     * Lets callers defer creating the execution until the first attempt has actually failed.
+     */
+    Execution start(long startNanos) {
+        return new Execution(startNanos);
+    }
+
+    /**
+     * @return The current time of the clock of this policy, used to time executions and single attempts.
+     */
+    long nanoTime() {
+        return clock.nanoTime();
+    }
+
+    /**
+     * Computes the delay to wait before a retry.
+     */
+    @FunctionalInterface
+    public interface Backoff {
+
+        /**
+         * @param retry         The number of the upcoming retry, starting at 1.
+         * @param previousDelay The delay waited before the previous retry, {@link Duration#ZERO} before the first one.
+         * @return The delay to wait before the upcoming retry.
+         */
+        Duration nextDelay(int retry, Duration previousDelay);
+    }
+
+    /**
+     * The mutable state of one execution of an action: how many retries were made, the last delay and when the
+     * execution started. An execution belongs to the thread running the action and must not be shared.
+     */
+    public final class Execution {
+
+        private final long startNanos;
+        private int retries;
+        private Duration previousDelay = Duration.ZERO;
+        private String exhaustionReason;
+
+        private Execution(long startNanos) {
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * Waits before the next attempt if the policy allows one.
+         *
+         * @return true if another attempt may be made; false if the retries or the deadline are exhausted.
+         * @throws InterruptedException If the thread is interrupted while waiting.
+         */
+        public boolean awaitNextAttempt() throws InterruptedException {
+            if (retries >= maxRetries) {
+                exhaustionReason = "Exceeded max retry attempts";
+                return false;
+            }
+            Duration delay = backoff.nextDelay(retries + 1, previousDelay);
+            if (deadline != null && clock.nanoTime() - startNanos + delay.toNanos() > deadline.toNanos()) {
+                exhaustionReason = "Exceeded retry deadline of " + deadline.toMillis() + " ms";
+                return false;
+            }
+            if (!delay.isZero()) {
+                clock.sleep(delay);
+            }
+            retries++;
+            previousDelay = delay;
+            return true;
+        }
+
+        public int getRetries() {
+            return retries;
+        }
+
+        public Duration getElapsedTime() {
+            return Duration.ofNanos(clock.nanoTime() - startNanos);
+        }
+
+        /**
+         * @return Why no further attempt is allowed, or null while retries are still possible.
+         */
+        public String getExhaustionReason() {
+            return exhaustionReason;
+        }
+    }
+}
@@ -0,0 +1,171 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import com.demoappmobile.Logger.BasicMessage;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Collects retry statistics of every action executed by {@link ActionHandler}, keyed by the action and the element or
+ * locator it works on: how often it ran, how many attempts and retries it needed, which exceptions triggered them,
+ * how long single attempts took and how long it took until success. Counters are lock-free, so recording does not
+ * serialize parallel test threads.
+ * <p>
+ * At the end of a suite, {@link #writeReport(Path)} exports the statistics as JSON, flakiest actions first.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @BeforeSuite
+ * public void enableRetryTelemetry() {
+ *     ActionHandler.setRetryListener(RetryTelemetry.getInstance());
+ * }
+ *
+ * @AfterSuite
+ * public void exportRetryTelemetry() {
+ *     RetryTelemetry.getInstance().writeReport(Path.of("target", "retry-report.json"));
+ * }
+ * }</pre>
+ */
+public final class RetryTelemetry implements RetryListener {
+
+    private static final RetryTelemetry instance = new RetryTelemetry();
+    private static final String NO_TARGET = "-";
+
+    private final ConcurrentMap<ActionKey, ActionStatistics> statistics = new ConcurrentHashMap<>();
+
+    RetryTelemetry() { }
+
+    public static RetryTelemetry getInstance() {
+        return instance;
+    }
+
+    @Override
+    public void onAttemptFailed(String action, Object target, int attempt, Exception exception, long attemptNanos) {
+        ActionStatistics actionStatistics = statisticsOf(action, target);
+        actionStatistics.attempts.increment();
+        actionStatistics.attemptLatency.recordNanos(attemptNanos);
+        actionStatistics.exceptions.computeIfAbsent(exception.getClass().getName(), type -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void onSuccess(String action, Object target, int attempts, long attemptNanos, long totalNanos) {
+        ActionStatistics actionStatistics = statisticsOf(action, target);
+        actionStatistics.executions.increment();
+        actionStatistics.attempts.increment();
+        actionStatistics.attemptLatency.recordNanos(attemptNanos);
+        actionStatistics.timeToSuccess.recordNanos(totalNanos);
+        if (attempts > 1) {
+            actionStatistics.succeededAfterRetry.increment();
+        }
+    }
+
+    @Override
+    public void onFailure(String action, Object target, int attempts, Exception exception, long totalNanos) {
+        ActionStatistics actionStatistics = statisticsOf(action, target);
+        actionStatistics.executions.increment();
+        actionStatistics.failures.increment();
+    }
+
+    /**
+     * Builds the report: one entry per action and element, sorted by the number of retries in descending order.
+     *
+     * @return The report as nested maps and lists, ready to be serialized to JSON.
+     */
+    public Map<String, Object> toReport() {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        statistics.entrySet()
+                  .stream()
+                  .sorted(Comparator.comparingLong((Map.Entry<ActionKey, ActionStatistics> entry) -> entry.getValue().retries())
+                                    .reversed()
+                                    .thenComparing(entry -> entry.getKey().toString()))
+                  .forEach(entry -> actions.add(entry.getValue().toReport(entry.getKey())));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("actions", actions);
+        return report;
+    }
+
+    /**
+     * Writes the report as JSON to the given file, creating missing parent directories.
+     *
+     * @param reportFile The file to write.
+     */
+    public void writeReport(Path reportFile) {
+        try {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.writeString(reportFile, new Json().toJson(toReport()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write retry report to " + reportFile, e);
+        }
+    }
+
+    /**
+     * Discards all collected statistics.
+     */
+    public void reset() {
+        statistics.clear();
+    }
+
+    private ActionStatistics statisticsOf(String action, Object target) {
+        return statistics.computeIfAbsent(new ActionKey(action, describe(target)), key -> new ActionStatistics());
+    }
+
+    private static String describe(Object target) {
+        if (target instanceof WebElement webElement) {
+            return BasicMessage.getXpathFromWebElement(webElement);
+        }
+        // By.toString() already names the strategy and selector, e.g. "By.id: login"
+        return target == null ? NO_TARGET : target.toString();
+    }
+
+    private record ActionKey(String action, String element) { }
+
+    private static final class ActionStatistics {
+
+        private final LongAdder executions = new LongAdder();
+        private final LongAdder attempts = new LongAdder();
+        private final LongAdder succeededAfterRetry = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentMap<String, LongAdder> exceptions = new ConcurrentHashMap<>();
+        private final LatencyHistogram attemptLatency = new LatencyHistogram();
+        private final LatencyHistogram timeToSuccess = new LatencyHistogram();
+
+        private long retries() {
+            return attempts.sum() - executions.sum();
+        }
+
+        private Map<String, Object> toReport(ActionKey key) {
+            Map<String, Long> exceptionCounts = new TreeMap<>();
+            exceptions.forEach((type, count) -> exceptionCounts.put(type, count.sum()));
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("action", key.action());
+            report.put("element", key.element());
+            report.put("executions", executions.sum());
+            report.put("attempts", attempts.sum());
+            report.put("retries", retries());
+            report.put("succeededAfterRetry", succeededAfterRetry.sum());
+            report.put("failures", failures.sum());
+            report.put("exceptions", exceptionCounts);
+            report.put("attemptLatencyMs", attemptLatency.toReport());
+            report.put("timeToSuccessMs", timeToSuccess.toReport());
+            return report;
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An immutable set of exception types that trigger a retry in {@link ActionHandler}. Sets are meant to be built once,
+ * stored in a {@code static final} field of the calling class and reused for every call, so that neither a varargs
+ * array nor a stream is created per action. Identical sets are interned and shared between call sites.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * private static final RetryableExceptions CLICK_EXCEPTIONS =
+ *         RetryableExceptions.of(StaleElementReferenceException.class, ElementClickInterceptedException.class);
+ *
+ * public void clickSubmitButton() {
+ *     ActionHandler.executeVoidWithRetry("clickSubmitButton", submitButton, WebElement::click, RETRY_POLICY, CLICK_EXCEPTIONS);
+ * }
+ * }</pre>
+ */
+public final class RetryableExceptions {
+
+    private static final Map<List<Class<? extends Exception>>, RetryableExceptions> interned = new ConcurrentHashMap<>();
+
+    private final Class<? extends Exception>[] exceptionTypes;
+
+    private RetryableExceptions(Class<? extends Exception>[] exceptionTypes) {
+        this.exceptionTypes = exceptionTypes;
+    }
+
+    /**
+     * Returns the set of the given exception types, reusing an existing set with the same types in the same order.
+     *
+     * @param exceptionTypes The exception types that should trigger a retry.
+     * @return The immutable, shared set of exception types.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs") // The array is only ever read, and the stored copy never leaves this class
+    public static RetryableExceptions of(Class<? extends Exception>... exceptionTypes) {
+        List<Class<? extends Exception>> key = List.of(exceptionTypes);
+        return interned.computeIfAbsent(key, types -> new RetryableExceptions(exceptionTypes.clone()));
+    }
+
+    /**
+     * Wraps an array that the caller will not modify afterwards, without copying or interning it. Used for the
+     * varargs array that is created anyway at every legacy {@code execute*WithRetry} call.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    static RetryableExceptions wrap(Class<? extends Exception>... exceptionTypes) {
+        return new RetryableExceptions(exceptionTypes);
+    }
+
+    /**
+     * Determines whether the exception is an instance of one of the types in this set.
+     *
+     * @param exception The exception thrown by an attempt.
+     * @return true if the exception should trigger a retry; false otherwise.
+     */
+    public boolean contains(Exception exception) {
+        for (Class<? extends Exception> exceptionType : exceptionTypes) {
+            if (exceptionType.isInstance(exception)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return "RetryableExceptions" + Arrays.toString(exceptionTypes);
+    }
+}
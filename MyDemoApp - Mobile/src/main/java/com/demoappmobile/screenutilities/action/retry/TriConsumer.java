@@ -0,0 +1,14 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+/**
+ * A void action of three arguments, the counterpart of {@link TriFunction} for actions without a result.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ */
+@FunctionalInterface
+public interface TriConsumer<A, B, C> {
+
+    void accept(A first, B second, C third);
+}
@@ -0,0 +1,16 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+/**
+ * A function of three arguments, for actions passed to {@link ActionHandler} that take their target, their input and
+ * the object performing them as arguments instead of capturing them.
+ *
+ * @param <A> The type of the first argument.
+ * @param <B> The type of the second argument.
+ * @param <C> The type of the third argument.
+ * @param <R> The type of the result.
+ */
+@FunctionalInterface
+public interface TriFunction<A, B, C, R> {
+
+    R apply(A first, B second, C third);
+}
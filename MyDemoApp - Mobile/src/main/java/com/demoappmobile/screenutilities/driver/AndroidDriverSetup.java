@@ -2,7 +2,6 @@ package com.demoappmobile.screenutilities.driver;
 
 import io.appium.java_client.android.AndroidDriver;
 import io.appium.java_client.android.options.UiAutomator2Options;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -10,36 +9,52 @@ import java.time.Duration;
 
 public class AndroidDriverSetup extends BaseDriverSetup<AndroidDriver> {
 
-    private static AndroidDriverSetup instance;
+    private static final String PLATFORM = "ANDROID";
+    private static final ThreadLocal<AndroidDriverSetup> instance = ThreadLocal.withInitial(AndroidDriverSetup::new);
 
-    private AndroidDriverSetup() { }
+    // UiAutomator2 binds one system port and one chromedriver port per session, parallel sessions need distinct ones
+    private static final int SYSTEM_PORT_BASE = 8200;
+    private static final int CHROMEDRIVER_PORT_BASE = 9515;
+    private static final PortSlots portSlots = new PortSlots();
+
+    AndroidDriverSetup() { }
 
     public static AndroidDriverSetup getInstance() {
-        if (instance == null) {
-            instance = new AndroidDriverSetup();
-        }
-        return instance;
+        return instance.get();
+    }
+
+    public static void removeInstance() {
+        instance.remove();
     }
 
     @Override
     public void initDriver(String deviceName) throws MalformedURLException {
-        UiAutomator2Options options = new UiAutomator2Options();
-        options.setDeviceName(deviceName);
-        options.setApp(Configuration.APP_PATH);
-        options.setCapability("chromedriver_autodownload", true);
-
-        driver = new AndroidDriver(new URL(Configuration.APPIUM_SERVER_URL), options);
-        wait = new WebDriverWait(driver, Configuration.WAIT_TIME);
+        initDriver(deviceName, RunConfiguration.current().profileFor(deviceName, PLATFORM).waitTime());
     }
 
     @Override
     public void initDriver(String deviceName, Duration timeout) throws MalformedURLException {
+        deviceProfile = RunConfiguration.current().profileFor(deviceName, PLATFORM);
+        circuitBreaker = new CircuitBreaker("session on device " + deviceName);
+        URL appiumServerUrl = new URL(deviceProfile.appiumServerUrl());
+        int portSlot = acquirePortSlot(portSlots);
+        try {
+            driver = new AndroidDriver(new CircuitBreakingCommandExecutor(appiumServerUrl, circuitBreaker), createOptions(deviceName, portSlot));
+        } catch (RuntimeException e) {
+            releasePortSlot();
+            throw e;
+        }
+        wait = newWebDriverWait(timeout);
+    }
+
+    private UiAutomator2Options createOptions(String deviceName, int portSlot) {
         UiAutomator2Options options = new UiAutomator2Options();
         options.setDeviceName(deviceName);
-        options.setApp(Configuration.APP_PATH);
+        options.setUdid(deviceName);
+        options.setApp(deviceProfile.requireAppPath(deviceName));
+        options.setSystemPort(SYSTEM_PORT_BASE + portSlot);
+        options.setChromedriverPort(CHROMEDRIVER_PORT_BASE + portSlot);
         options.setCapability("chromedriver_autodownload", true);
-
-        driver = new AndroidDriver(new URL(Configuration.APPIUM_SERVER_URL), options);
-        wait = new WebDriverWait(driver, timeout);
+        return options;
     }
 }
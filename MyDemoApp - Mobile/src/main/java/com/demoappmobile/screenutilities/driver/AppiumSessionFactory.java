@@ -0,0 +1,66 @@
+package com.demoappmobile.screenutilities.driver;
+
+import io.appium.java_client.InteractsWithApps;
+import io.appium.java_client.remote.SupportsContextSwitching;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebDriverException;
+
+/**
+ * Creates Android or iOS sessions for the {@link SessionPool}. Sessions are reset between leases by terminating
+ * and re-activating the application, which is much cheaper than reinstalling the package with a new session.
+ */
+public class AppiumSessionFactory implements SessionFactory {
+
+    private static final String NATIVE_CONTEXT = "NATIVE_APP";
+
+    private final String platform;
+    private final String appId;
+
+    public AppiumSessionFactory(String platform) {
+        this(platform, Configuration.APP_ID);
+    }
+
+    public AppiumSessionFactory(String platform, String appId) {
+        this.platform = platform.toUpperCase();
+        this.appId = appId;
+    }
+
+    @Override
+    public DriverFactory<? extends WebDriver> create(String deviceName) throws Exception {
+        BaseDriverSetup<? extends WebDriver> driverSetup = switch (platform) {
+            case "ANDROID" -> new AndroidDriverSetup();
+            case "IOS" -> new IosDriverSetup();
+            default -> throw new IllegalArgumentException("Unknown platform: " + platform);
+        };
+        driverSetup.initDriver(deviceName);
+        return driverSetup;
+    }
+
+    /**
+     * Sends one cheap command to the session. For a session whose circuit breaker is open this fails immediately;
+     * once the open duration has passed, the command is the half-open probe deciding whether the session is reused.
+     */
+    @Override
+    public boolean isHealthy(DriverFactory<? extends WebDriver> driverFactory) {
+        try {
+            if (driverFactory.getDriver() instanceof SupportsContextSwitching contextSwitchingDriver) {
+                return contextSwitchingDriver.getContext() != null;
+            }
+            return driverFactory.getDriver().getWindowHandle() != null;
+        } catch (WebDriverException webDriverException) {
+            return false;
+        }
+    }
+
+    @Override
+    public void reset(DriverFactory<? extends WebDriver> driverFactory) {
+        WebDriver driver = driverFactory.getDriver();
+        if (driver instanceof SupportsContextSwitching contextSwitchingDriver) {
+            contextSwitchingDriver.context(NATIVE_CONTEXT);
+        }
+        if (driver instanceof InteractsWithApps appDriver) {
+            appDriver.terminateApp(appId);
+            appDriver.activateApp(appId);
+        }
+    }
+}
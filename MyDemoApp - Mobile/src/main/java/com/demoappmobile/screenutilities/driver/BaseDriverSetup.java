@@ -12,12 +12,29 @@ public abstract class BaseDriverSetup<T extends WebDriver> implements DriverFact
 
     protected T driver;
     protected WebDriverWait wait;
+    protected CircuitBreaker circuitBreaker;
+    protected DeviceProfile deviceProfile;
+
+    private PortSlots portSlots;
+    private int portSlot;
 
     @Override
     public T getDriver() {
         return driver;
     }
 
+    /**
+     * @return The circuit breaker guarding the commands of the session, or null if the driver is not guarded by one.
+     */
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public DeviceProfile getDeviceProfile() {
+        return deviceProfile != null ? deviceProfile : DriverFactory.super.getDeviceProfile();
+    }
+
     @Override
     public WebDriverWait getWebDriverWait() {
         return wait;
@@ -25,13 +42,47 @@ public abstract class BaseDriverSetup<T extends WebDriver> implements DriverFact
 
     @Override
     public WebDriverWait getWebDriverWait(Duration duration) {
-        return new WebDriverWait(getDriver(), duration);
+        return newWebDriverWait(duration);
+    }
+
+    /**
+     * @param timeout How long the wait lasts.
+     * @return A wait polling at the interval of the session's device profile.
+     */
+    protected WebDriverWait newWebDriverWait(Duration timeout) {
+        return new WebDriverWait(getDriver(), timeout, getDeviceProfile().pollingInterval());
+    }
+
+    /**
+     * Takes a port slot of the platform for the session about to start, or keeps the one this setup already holds.
+     * The slot is given back by {@link #quitDriver()}, or by {@link #releasePortSlot()} if the session fails to start.
+     *
+     * @param platformPortSlots The slots shared by all sessions of the platform.
+     * @return The port offset for the session.
+     */
+    int acquirePortSlot(PortSlots platformPortSlots) {
+        if (portSlots == null) {
+            portSlot = platformPortSlots.acquire();
+            portSlots = platformPortSlots;
+        }
+        return portSlot;
+    }
+
+    void releasePortSlot() {
+        if (portSlots != null) {
+            portSlots.release(portSlot);
+            portSlots = null;
+        }
     }
 
     @Override
     public void quitDriver() {
-        if (driver != null) {
-            driver.quit();
+        try {
+            if (driver != null) {
+                driver.quit();
+            }
+        } finally {
+            releasePortSlot();
         }
     }
 
@@ -47,20 +98,20 @@ public abstract class BaseDriverSetup<T extends WebDriver> implements DriverFact
 
     @SafeVarargs
     public final FluentWait<WebDriver> getFluentWait(Duration pollingInterval, Class<? extends Throwable>... exceptionsToIgnore) {
-        return getFluentWait(Configuration.WAIT_TIME, pollingInterval, exceptionsToIgnore);
+        return getFluentWait(getDeviceProfile().waitTime(), pollingInterval, exceptionsToIgnore);
     }
 
     @SafeVarargs
     public final FluentWait<WebDriver> getFluentWait(Class<? extends Throwable>... exceptionsToIgnore) {
-        return getFluentWait(Configuration.WAIT_TIME, Configuration.POLLING_INTERVAL, exceptionsToIgnore);
+        return getFluentWait(getDeviceProfile().waitTime(), getDeviceProfile().pollingInterval(), exceptionsToIgnore);
     }
 
     public final FluentWait<WebDriver> getFluentWait() {
-        return getFluentWait(Configuration.WAIT_TIME, Configuration.POLLING_INTERVAL, NoSuchElementException.class);
+        return getFluentWait(getDeviceProfile().waitTime(), getDeviceProfile().pollingInterval(), NoSuchElementException.class);
     }
 
     public final FluentWait<WebDriver> getFluentWait(Duration pollingInterval) {
-        return getFluentWait(Configuration.WAIT_TIME, pollingInterval, NoSuchElementException.class);
+        return getFluentWait(getDeviceProfile().waitTime(), pollingInterval, NoSuchElementException.class);
     }
 
     private void ensureWebDriverInitialized() {
@@ -0,0 +1,115 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.Exceptions.CircuitOpenException;
+import com.demoappmobile.Logger.ErrorMessage;
+import com.demoappmobile.Logger.InfoMessage;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Guards the commands of one driver session against a hung Appium server or a dead device.
+ * <p>
+ * While CLOSED, every command is allowed and consecutive failures are counted. Once {@code failureThreshold} failures
+ * happen in a row, the breaker turns OPEN and rejects every command with a {@link CircuitOpenException} without
+ * touching the network. After {@code openDuration} the next command is let through as a probe (HALF_OPEN) while all
+ * other commands are still rejected; if the probe succeeds the breaker closes, otherwise it opens again.
+ * <p>
+ * The breaker is thread-safe, but a session is normally driven by one thread at a time.
+ */
+public class CircuitBreaker {
+
+    public enum State {
+        CLOSED,
+        OPEN,
+        HALF_OPEN
+    }
+
+    private final String name;
+    private final int failureThreshold;
+    private final long openDurationNanos;
+    private final LongSupplier nanoClock;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAtNanos;
+    private Throwable lastFailure;
+
+    public CircuitBreaker(String name) {
+        this(name, Configuration.CIRCUIT_BREAKER_FAILURE_THRESHOLD, Configuration.CIRCUIT_BREAKER_OPEN_DURATION);
+    }
+
+    public CircuitBreaker(String name, int failureThreshold, Duration openDuration) {
+        this(name, failureThreshold, openDuration, System::nanoTime);
+    }
+
+    CircuitBreaker(String name, int failureThreshold, Duration openDuration, LongSupplier nanoClock) {
+        if (failureThreshold < 1) {
+            throw new IllegalArgumentException("Failure threshold must be at least 1.");
+        }
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.openDurationNanos = openDuration.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Checks whether a command may be sent. Turns an OPEN breaker HALF_OPEN once the open duration has passed,
+     * making the calling command the probe.
+     *
+     * @throws CircuitOpenException If the breaker is open, or half-open with the probe still running.
+     */
+    public synchronized void acquirePermission() {
+        if (state == State.CLOSED) {
+            return;
+        }
+        long remainingNanos = openDurationNanos - (nanoClock.getAsLong() - openedAtNanos);
+        if (state == State.OPEN && remainingNanos <= 0) {
+            state = State.HALF_OPEN;
+            InfoMessage.circuitHalfOpen(name);
+            return;
+        }
+        String reason = state == State.OPEN
+                ? "next probe in " + Duration.ofNanos(remainingNanos).toMillis() + " ms"
+                : "probe still running";
+        throw new CircuitOpenException("Circuit breaker for " + name + " is open after " + consecutiveFailures
+                + " consecutive failures, " + reason, lastFailure);
+    }
+
+    /**
+     * Records a command that reached the server and got an answer. Closes a half-open breaker.
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        lastFailure = null;
+        if (state != State.CLOSED) {
+            state = State.CLOSED;
+            InfoMessage.circuitClosed(name);
+        }
+    }
+
+    /**
+     * Records a transport failure or timeout. Opens the breaker once the threshold is reached, or immediately if the
+     * failed command was the half-open probe.
+     *
+     * @param failure The failure, reported as the cause of later {@link CircuitOpenException}s.
+     */
+    public synchronized void recordFailure(Throwable failure) {
+        consecutiveFailures++;
+        lastFailure = failure;
+        if (state == State.HALF_OPEN || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            state = State.OPEN;
+            openedAtNanos = nanoClock.getAsLong();
+            ErrorMessage.circuitOpened(name, consecutiveFailures, Duration.ofNanos(openDurationNanos).toMillis());
+        }
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    @Override
+    public String toString() {
+        return "CircuitBreaker[" + name + "]";
+    }
+}
@@ -0,0 +1,79 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.screenutilities.profiling.CommandRecorder;
+import com.demoappmobile.screenutilities.profiling.LocatorProfiler;
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+import java.net.URL;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * An Appium command executor that sends every command of a session through a {@link CircuitBreaker}. Every command,
+ * including the polling of waits, passes here, so a hung server or a dead device is detected after a few failed
+ * commands instead of after a full wait timeout per action and retry.
+ * <p>
+ * Failures are commands that never got an answer (connection errors and HTTP timeouts, thrown by the HTTP client) and
+ * answers reporting that the session is gone. Error answers such as a missing element are successes from the point
+ * of view of the transport and reset the failure count.
+ * <p>
+ * Being the one place every command passes, the executor also counts the commands of the session that may change the
+ * screen and hands the commands to the {@link LocatorProfiler} and the {@link CommandRecorder} when they are installed.
+ */
+public class CircuitBreakingCommandExecutor extends AppiumCommandExecutor implements MutationCountingExecutor {
+
+    private final CircuitBreaker circuitBreaker;
+    private final AtomicLong mutationCount = new AtomicLong();
+
+    public CircuitBreakingCommandExecutor(URL remoteAddress, CircuitBreaker circuitBreaker) {
+        super(MobileCommand.commandRepository, remoteAddress);
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public Response execute(Command command) throws WebDriverException {
+        circuitBreaker.acquirePermission();
+        CommandCounter.record();
+        if (CommandCounter.mayChangeScreen(command.getName())) {
+            mutationCount.incrementAndGet();
+        }
+        CommandRecorder recorder = CommandRecorder.installed();
+        long startNanos = recorder == null ? 0 : System.nanoTime();
+        Response response;
+        try {
+            LocatorProfiler profiler = LocatorProfiler.installed();
+            response = profiler == null ? super.execute(command) : profiler.profile(command, super::execute);
+        } catch (RuntimeException exception) {
+            circuitBreaker.recordFailure(exception);
+            if (recorder != null) {
+                recorder.record(command, null, exception, startNanos, System.nanoTime() - startNanos);
+            }
+            throw exception;
+        }
+        if (recorder != null) {
+            recorder.record(command, response, null, startNanos, System.nanoTime() - startNanos);
+        }
+        if (isSessionLost(response)) {
+            circuitBreaker.recordFailure(new WebDriverException("Session lost while executing " + command.getName()));
+        } else {
+            circuitBreaker.recordSuccess();
+        }
+        return response;
+    }
+
+    public CircuitBreaker getCircuitBreaker() {
+        return circuitBreaker;
+    }
+
+    @Override
+    public long getMutationCount() {
+        return mutationCount.get();
+    }
+
+    private static boolean isSessionLost(Response response) {
+        return response != null && "invalid session id".equals(response.getState());
+    }
+}
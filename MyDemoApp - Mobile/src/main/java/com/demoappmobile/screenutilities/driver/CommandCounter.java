@@ -0,0 +1,63 @@
+package com.demoappmobile.screenutilities.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Counts the WebDriver commands sent to the Appium server by the current thread. Commands are executed on the thread
+ * calling the driver, so the difference between two readings is the number of commands an action issued.
+ * <p>
+ * Commands that may change what the device shows, which is every command not known to only read, are counted per
+ * session by its {@link MutationCountingExecutor}, telling snapshots of the screen when they are outdated.
+ */
+public final class CommandCounter {
+
+    private static final Set<String> READ_ONLY_COMMANDS = Set.of(
+            "getPageSource", "findElement", "findElements", "findChildElement", "findChildElements",
+            "isElementDisplayed", "isElementEnabled", "isElementSelected", "getElementText", "getElementAttribute",
+            "getElementProperty", "getElementValueOfCssProperty", "getElementRect", "getElementTagName",
+            "getCurrentContextHandle", "getContextHandles", "getCurrentWindowHandle", "getWindowHandles",
+            "getCurrentWindowSize", "getCurrentUrl", "getTitle", "screenshot", "elementScreenshot", "status", "getSession");
+
+    private static final ThreadLocal<long[]> commandCount = ThreadLocal.withInitial(() -> new long[1]);
+
+    private CommandCounter() {
+        // Prevent instantiation
+    }
+
+    static void record() {
+        commandCount.get()[0]++;
+    }
+
+    /**
+     * @return true if the command may change what the device shows.
+     */
+    static boolean mayChangeScreen(String commandName) {
+        return !READ_ONLY_COMMANDS.contains(commandName);
+    }
+
+    /**
+     * @return The number of commands the current thread has sent so far.
+     */
+    public static long current() {
+        return commandCount.get()[0];
+    }
+
+    /**
+     * @param driver The driver of a session.
+     * @return The number of commands the session has sent so far that may have changed the screen. For drivers whose
+     * executor does not count them, every reading differs from the one before, so nothing is taken as unchanged.
+     */
+    public static LongSupplier sessionMutations(WebDriver driver) {
+        if (driver instanceof RemoteWebDriver remoteWebDriver
+                && remoteWebDriver.getCommandExecutor() instanceof MutationCountingExecutor countingExecutor) {
+            return countingExecutor::getMutationCount;
+        }
+        AtomicLong readings = new AtomicLong();
+        return readings::incrementAndGet;
+    }
+}
@@ -1,11 +1,26 @@
 package com.demoappmobile.screenutilities.driver;
 
+import com.demoappmobile.Logger.ActionLogSink;
+
+import java.nio.file.Path;
 import java.time.Duration;
+import java.util.Locale;
 
 public class Configuration {
-    public static final String APP_PATH = "C:\\Users\\Chrystian\\Downloads\\Android-MyDemoAppRN.1.3.0.build-244.apk";
-    public static final String APPIUM_SERVER_URL = "http://127.0.0.1:4723";
+    public static final String APP_ID = "com.saucelabs.mydemoapp.rn";
     public static final int DEFAULT_TIMEOUT = 10;
-    public static final Duration WAIT_TIME = Duration.ofSeconds(10);
-    public static final Duration POLLING_INTERVAL = Duration.ofMillis(500);
+    public static final int CIRCUIT_BREAKER_FAILURE_THRESHOLD = 3;
+    public static final Duration CIRCUIT_BREAKER_OPEN_DURATION = Duration.ofSeconds(30);
+    public static final Path RETRY_REPORT_FILE = Path.of("target", "retry-report.json");
+    public static final Path ACTION_LOG_FILE = Path.of("target", "action-log.jsonl");
+    public static final int ACTION_LOG_CAPACITY = 8192;
+    // Waits for buffer space so no action log line is lost; -Daction.log.overflow=DROP trades lines for never waiting
+    public static final ActionLogSink.OverflowPolicy ACTION_LOG_OVERFLOW_POLICY =
+            ActionLogSink.OverflowPolicy.valueOf(System.getProperty("action.log.overflow", "BLOCK").toUpperCase(Locale.ROOT));
+    public static final boolean LOCATOR_PROFILING = Boolean.getBoolean("locator.profiler");
+    public static final Path LOCATOR_REPORT_FILE = Path.of("target", "locator-report.json");
+    public static final boolean COMMAND_RECORDING = Boolean.getBoolean("command.recorder");
+    public static final Duration STUB_LATENCY = Duration.ofMillis(Long.getLong("stub.latency.ms", 0));
+    public static final Duration STUB_JITTER = Duration.ofMillis(Long.getLong("stub.jitter.ms", 0));
+    public static final Path COMMAND_REPORT_DIRECTORY = Path.of("target", "command-recorder");
 }
@@ -0,0 +1,33 @@
+package com.demoappmobile.screenutilities.driver;
+
+import java.time.Duration;
+
+/**
+ * The run settings of the sessions on one device, or on every device of a platform, resolved by the
+ * {@link RunConfiguration}. Slow emulators and fast physical devices get their own wait budgets and servers this way.
+ * The session pool settings come from the platform's profile only, since one pool serves all devices of a platform.
+ *
+ * @param appPath             The application package installed by new sessions.
+ * @param appiumServerUrl     The Appium server sessions are started on.
+ * @param waitTime            How long waits for elements and conditions last.
+ * @param pollingInterval     How often waits check their condition.
+ * @param maxPooledSessions   How many sessions the session pool of a platform keeps at most.
+ * @param sessionIdleTimeout  How long pooled sessions may stay idle before they are quit.
+ * @param sessionLeaseTimeout How long leases wait for a session when the pool is full.
+ */
+public record DeviceProfile(String appPath, String appiumServerUrl, Duration waitTime, Duration pollingInterval,
+                            int maxPooledSessions, Duration sessionIdleTimeout, Duration sessionLeaseTimeout) {
+
+    /**
+     * @param deviceName The device a session is started on, named in the error.
+     * @return The application package to install.
+     * @throws IllegalStateException If no application package is configured.
+     */
+    public String requireAppPath(String deviceName) {
+        if (appPath == null || appPath.isBlank()) {
+            throw new IllegalStateException("No app.path configured for device " + deviceName
+                    + ", pass it with -Drun.app.path=<path> or the RUN_APP_PATH environment variable.");
+        }
+        return appPath;
+    }
+}
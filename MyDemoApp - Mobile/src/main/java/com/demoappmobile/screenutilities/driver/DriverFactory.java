@@ -13,4 +13,11 @@ public interface DriverFactory<T extends WebDriver> {
     WebDriverWait getWebDriverWait();
     WebDriverWait getWebDriverWait(Duration duration);
     void quitDriver();
+
+    /**
+     * @return The run settings of the device the session runs on.
+     */
+    default DeviceProfile getDeviceProfile() {
+        return RunConfiguration.current().getDefaults();
+    }
 }
\ No newline at end of file
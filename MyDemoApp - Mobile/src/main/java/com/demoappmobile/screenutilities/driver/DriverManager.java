@@ -1,38 +1,64 @@
 package com.demoappmobile.screenutilities.driver;
 
+import com.demoappmobile.Logger.InfoMessage;
 import com.demoappmobile.screenutilities.ContextSwitcher;
 import com.demoappmobile.screenutilities.Frame;
+import com.demoappmobile.screenutilities.ScreenRegistry;
+import com.demoappmobile.screenutilities.SessionContext;
+import io.appium.java_client.AppiumDriver;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.support.ui.FluentWait;
 import org.openqa.selenium.support.ui.WebDriverWait;
+import org.slf4j.MDC;
 
 import java.time.Duration;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class DriverManager {
 
-    private static DriverManager instance;
+    private static final ThreadLocal<DriverManager> instance = ThreadLocal.withInitial(DriverManager::new);
+    private static final ExecutorService startupExecutor = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "driver-startup");
+        thread.setDaemon(true);
+        return thread;
+    });
     private DriverFactory<? extends WebDriver> driverFactory;
     private WebDriverWait wait;
-    private ContextSwitcher contextSwitcher;
-    private Frame frame;
+    private SessionContext sessionContext;
+    private PooledSession pooledSession;
 
     private DriverManager() { }
 
+    /**
+     * Returns the driver manager of the calling thread. Each TestNG worker thread owns its own session,
+     * wait, context switcher and frame handle, so screens and helpers created on that thread always talk
+     * to the session started on it.
+     *
+     * @return The thread-confined driver manager.
+     */
     public static DriverManager getInstance() {
-        if (instance == null) {
-            instance = new DriverManager();
-        }
-        return instance;
+        return instance.get();
+    }
+
+    /**
+     * Drops the calling thread's driver manager and driver setups. Call it after {@link #quitDriver()}
+     * once the thread is done with its session, so pooled worker threads do not keep stale drivers.
+     */
+    public static void removeInstance() {
+        instance.remove();
+        AndroidDriverSetup.removeInstance();
+        IosDriverSetup.removeInstance();
+        WebDriverSetup.removeInstance();
     }
 
     public void initAndroidDriver(String deviceName) {
         try {
             AndroidDriverSetup androidDriverSetup = AndroidDriverSetup.getInstance();
             androidDriverSetup.initDriver(deviceName);
-            driverFactory = androidDriverSetup;
-            wait = androidDriverSetup.getWebDriverWait();
-            contextSwitcher = new ContextSwitcher(androidDriverSetup.getDriver());
-            frame = new Frame(androidDriverSetup.getDriver());
+            bindAppiumSession(androidDriverSetup);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize Android driver", e);
         }
@@ -42,10 +68,7 @@ public class DriverManager {
         try {
             AndroidDriverSetup androidDriverSetup = AndroidDriverSetup.getInstance();
             androidDriverSetup.initDriver(deviceName, timeout);
-            driverFactory = androidDriverSetup;
-            wait = androidDriverSetup.getWebDriverWait();
-            contextSwitcher = new ContextSwitcher(androidDriverSetup.getDriver());
-            frame = new Frame(androidDriverSetup.getDriver());
+            bindAppiumSession(androidDriverSetup);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize Android driver", e);
         }
@@ -55,10 +78,7 @@ public class DriverManager {
         try {
             IosDriverSetup iosDriverSetup = IosDriverSetup.getInstance();
             iosDriverSetup.initDriver(deviceName);
-            driverFactory = iosDriverSetup;
-            wait = iosDriverSetup.getWebDriverWait();
-            contextSwitcher = new ContextSwitcher(iosDriverSetup.getDriver());
-            frame = new Frame(iosDriverSetup.getDriver());
+            bindAppiumSession(iosDriverSetup);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize iOS driver", e);
         }
@@ -68,10 +88,7 @@ public class DriverManager {
         try {
             IosDriverSetup iosDriverSetup = IosDriverSetup.getInstance();
             iosDriverSetup.initDriver(deviceName, timeout);
-            driverFactory = iosDriverSetup;
-            wait = iosDriverSetup.getWebDriverWait();
-            contextSwitcher = new ContextSwitcher(iosDriverSetup.getDriver());
-            frame = new Frame(iosDriverSetup.getDriver());
+            bindAppiumSession(iosDriverSetup);
         } catch (Exception e) {
             throw new RuntimeException("Failed to initialize iOS driver", e);
         }
@@ -99,6 +116,67 @@ public class DriverManager {
         }
     }
 
+    /**
+     * Binds a session leased from a {@link SessionPool} to the calling thread. Screens and helpers created
+     * afterwards on this thread use the session's driver, wait, context switcher and frame handle, and action log
+     * messages logged on it name the session's device.
+     *
+     * @param session The leased session.
+     */
+    public void attachSession(PooledSession session) {
+        pooledSession = session;
+        driverFactory = session.getDriverFactory();
+        wait = driverFactory.getWebDriverWait();
+        sessionContext = session.getSessionContext();
+        MDC.put("session", session.getDeviceName());
+    }
+
+    /**
+     * Unbinds the pooled session from the calling thread without quitting it, so it can be released to its pool.
+     *
+     * @return The detached session, or null if no pooled session was attached.
+     */
+    public PooledSession detachSession() {
+        PooledSession session = pooledSession;
+        pooledSession = null;
+        driverFactory = null;
+        wait = null;
+        sessionContext = null;
+        MDC.remove("session");
+        return session;
+    }
+
+    /**
+     * Starts a session on a shared background executor, measuring and logging how long the start-up took. The session
+     * is not bound to any thread: the {@link SessionPool} hands it out and the leasing thread attaches it with
+     * {@link #attachSession(PooledSession)}, so sessions for several devices can be started at once.
+     *
+     * @param deviceName   The device the session is started on, used for reporting.
+     * @param sessionStart The blocking session start-up.
+     * @return A future completing with the started session and its start-up latency.
+     */
+    static <T> CompletableFuture<SessionStartup<T>> startSessionAsync(String deviceName, Callable<T> sessionStart) {
+        return CompletableFuture.supplyAsync(() -> startSession(deviceName, sessionStart), startupExecutor);
+    }
+
+    static <T> SessionStartup<T> startSession(String deviceName, Callable<T> sessionStart) {
+        long startNanos = System.nanoTime();
+        try {
+            T session = sessionStart.call();
+            Duration startupTime = Duration.ofNanos(System.nanoTime() - startNanos);
+            InfoMessage.sessionStarted(deviceName, startupTime.toMillis());
+            return new SessionStartup<>(deviceName, session, startupTime);
+        } catch (Exception e) {
+            throw new RuntimeException("Failed to start session on device " + deviceName, e);
+        }
+    }
+
+    private void bindAppiumSession(BaseDriverSetup<? extends AppiumDriver> driverSetup) {
+        driverFactory = driverSetup;
+        wait = driverSetup.getWebDriverWait();
+        sessionContext = new SessionContext(driverSetup.getDriver(), wait, driverSetup.getDeviceProfile());
+    }
+
     public WebDriver getDriver() {
         return driverFactory.getDriver();
     }
@@ -127,12 +205,23 @@ public class DriverManager {
         return ((BaseDriverSetup<? extends WebDriver>) driverFactory).getFluentWait();
     }
 
+    /**
+     * @return The helpers of the session bound to this thread, or null if no session is bound.
+     */
+    public SessionContext getSessionContext() {
+        return sessionContext;
+    }
+
     public ContextSwitcher getContextSwitcher() {
-        return contextSwitcher;
+        return sessionContext == null ? null : sessionContext.getContextSwitcher();
     }
 
     public Frame getFrame() {
-        return frame;
+        return sessionContext == null ? null : sessionContext.getFrame();
+    }
+
+    public ScreenRegistry getScreenRegistry() {
+        return sessionContext == null ? null : sessionContext.getScreenRegistry();
     }
 
     public void quitDriver() {
@@ -2,7 +2,6 @@ package com.demoappmobile.screenutilities.driver;
 
 import io.appium.java_client.ios.IOSDriver;
 import io.appium.java_client.ios.options.XCUITestOptions;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.net.MalformedURLException;
 import java.net.URL;
@@ -10,34 +9,48 @@ import java.time.Duration;
 
 public class IosDriverSetup extends BaseDriverSetup<IOSDriver> {
 
-    private static IosDriverSetup instance;
+    private static final String PLATFORM = "IOS";
+    private static final ThreadLocal<IosDriverSetup> instance = ThreadLocal.withInitial(IosDriverSetup::new);
 
-    private IosDriverSetup() { }
+    // Every parallel XCUITest session needs its own WebDriverAgent port
+    private static final int WDA_LOCAL_PORT_BASE = 8100;
+    private static final PortSlots portSlots = new PortSlots();
+
+    IosDriverSetup() { }
 
     public static IosDriverSetup getInstance() {
-        if (instance == null) {
-            instance = new IosDriverSetup();
-        }
-        return instance;
+        return instance.get();
+    }
+
+    public static void removeInstance() {
+        instance.remove();
     }
 
     @Override
     public void initDriver(String deviceName) throws MalformedURLException {
-        XCUITestOptions options = new XCUITestOptions();
-        options.setDeviceName(deviceName);
-        options.setApp(Configuration.APP_PATH);
-
-        driver = new IOSDriver(new URL(Configuration.APPIUM_SERVER_URL), options);
-        wait = new WebDriverWait(driver, Configuration.WAIT_TIME);
+        initDriver(deviceName, RunConfiguration.current().profileFor(deviceName, PLATFORM).waitTime());
     }
 
     @Override
     public void initDriver(String deviceName, Duration timeout) throws MalformedURLException {
+        deviceProfile = RunConfiguration.current().profileFor(deviceName, PLATFORM);
+        circuitBreaker = new CircuitBreaker("session on device " + deviceName);
+        URL appiumServerUrl = new URL(deviceProfile.appiumServerUrl());
+        int portSlot = acquirePortSlot(portSlots);
+        try {
+            driver = new IOSDriver(new CircuitBreakingCommandExecutor(appiumServerUrl, circuitBreaker), createOptions(deviceName, portSlot));
+        } catch (RuntimeException e) {
+            releasePortSlot();
+            throw e;
+        }
+        wait = newWebDriverWait(timeout);
+    }
+
+    private XCUITestOptions createOptions(String deviceName, int portSlot) {
         XCUITestOptions options = new XCUITestOptions();
         options.setDeviceName(deviceName);
-        options.setApp(Configuration.APP_PATH);
-
-        driver = new IOSDriver(new URL(Configuration.APPIUM_SERVER_URL), options);
-        wait = new WebDriverWait(driver, timeout);
+        options.setApp(deviceProfile.requireAppPath(deviceName));
+        options.setWdaLocalPort(WDA_LOCAL_PORT_BASE + portSlot);
+        return options;
     }
 }
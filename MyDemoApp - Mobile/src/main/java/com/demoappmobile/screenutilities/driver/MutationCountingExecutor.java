@@ -0,0 +1,13 @@
+package com.demoappmobile.screenutilities.driver;
+
+/**
+ * A command executor counting the commands of its session that may change what the device shows. The count belongs to
+ * the session, not to a thread, so it stays right when a pooled session is leased by another thread.
+ */
+public interface MutationCountingExecutor {
+
+    /**
+     * @return The number of commands the session has sent so far that may have changed the screen, by any thread.
+     */
+    long getMutationCount();
+}
@@ -0,0 +1,71 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.screenutilities.ContextSwitcher;
+import com.demoappmobile.screenutilities.Frame;
+import com.demoappmobile.screenutilities.ScreenRegistry;
+import com.demoappmobile.screenutilities.SessionContext;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * A driver session owned by a {@link SessionPool}. The session keeps its {@link SessionContext}, with the context
+ * switcher, frame handle and screens, for its whole lifetime, so every lease of the same session works with the same
+ * helpers.
+ */
+public class PooledSession {
+
+    private final String deviceName;
+    private final DriverFactory<? extends WebDriver> driverFactory;
+    private final SessionContext sessionContext;
+    private volatile long idleSinceNanos;
+
+    PooledSession(String deviceName, DriverFactory<? extends WebDriver> driverFactory) {
+        this.deviceName = deviceName;
+        this.driverFactory = driverFactory;
+        this.sessionContext = new SessionContext(driverFactory.getDriver(), driverFactory.getWebDriverWait(), driverFactory.getDeviceProfile());
+    }
+
+    public String getDeviceName() {
+        return deviceName;
+    }
+
+    public DriverFactory<? extends WebDriver> getDriverFactory() {
+        return driverFactory;
+    }
+
+    public WebDriver getDriver() {
+        return driverFactory.getDriver();
+    }
+
+    public SessionContext getSessionContext() {
+        return sessionContext;
+    }
+
+    public ContextSwitcher getContextSwitcher() {
+        return sessionContext.getContextSwitcher();
+    }
+
+    public Frame getFrame() {
+        return sessionContext.getFrame();
+    }
+
+    public ScreenRegistry getScreenRegistry() {
+        return sessionContext.getScreenRegistry();
+    }
+
+    void markIdle(long nanoTime) {
+        idleSinceNanos = nanoTime;
+    }
+
+    long getIdleSinceNanos() {
+        return idleSinceNanos;
+    }
+
+    boolean isIdleLongerThan(long idleTimeoutNanos, long nanoTime) {
+        return nanoTime - idleSinceNanos > idleTimeoutNanos;
+    }
+
+    @Override
+    public String toString() {
+        return "PooledSession[" + deviceName + "]";
+    }
+}
@@ -0,0 +1,37 @@
+package com.demoappmobile.screenutilities.driver;
+
+import java.util.BitSet;
+
+/**
+ * Hands out port offsets to the sessions of one platform. Every live session holds a distinct slot, and the slot of
+ * a quit session is handed to the next one, so the ports in use stay within the number of parallel sessions instead
+ * of growing with every session start.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * int portSlot = portSlots.acquire();
+ * options.setSystemPort(SYSTEM_PORT_BASE + portSlot);
+ * ...
+ * portSlots.release(portSlot);
+ * }</pre>
+ */
+final class PortSlots {
+
+    private final BitSet takenSlots = new BitSet();
+
+    /**
+     * @return The lowest slot no live session holds.
+     */
+    synchronized int acquire() {
+        int slot = takenSlots.nextClearBit(0);
+        takenSlots.set(slot);
+        return slot;
+    }
+
+    /**
+     * @param slot A slot returned by {@link #acquire()} whose session has quit.
+     */
+    synchronized void release(int slot) {
+        takenSlots.clear(slot);
+    }
+}
@@ -0,0 +1,252 @@
+package com.demoappmobile.screenutilities.driver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+/**
+ * The settings of a test run, read once at suite start into an immutable object, with per-device profiles so slow
+ * emulators and fast physical devices each get tuned wait budgets, pool sizes and servers without a rebuild.
+ * <p>
+ * The settings are {@code app.path}, {@code appium.server.url}, {@code wait.time}, {@code polling.interval},
+ * {@code session.pool.size}, {@code session.idle.timeout} and {@code session.lease.timeout}. Durations are given in
+ * milliseconds, with a unit ({@code 500ms}, {@code 10s}, {@code 2m}) or in ISO-8601 ({@code PT10S}). They are read
+ * from, in increasing order of precedence:
+ * <ol>
+ *     <li>the built-in defaults,</li>
+ *     <li>the properties file given with {@code -Drun.config=<path>}, or else {@code run.properties} on the classpath,</li>
+ *     <li>the suite parameters of testng.xml,</li>
+ *     <li>environment variables named {@code RUN_<SETTING>}, e.g. {@code RUN_WAIT_TIME},</li>
+ *     <li>system properties named {@code run.<setting>}, e.g. {@code -Drun.wait.time=20s}.</li>
+ * </ol>
+ * A profile overrides settings for one device or one platform with keys like {@code profile.emulator-5556.wait.time}
+ * (system properties prefixed with {@code run.} as well). A device's settings are those of its own profile, then of its
+ * platform's profile, then the general ones. The session pool is shared by all devices of a platform, so its settings
+ * are only accepted in platform profiles, e.g. {@code profile.ANDROID.session.pool.size}.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * DeviceProfile profile = RunConfiguration.current().profileFor("emulator-5556", "ANDROID");
+ * new WebDriverWait(driver, profile.waitTime(), profile.pollingInterval());
+ * }</pre>
+ */
+public final class RunConfiguration {
+
+    private static final String APP_PATH = "app.path";
+    private static final String APPIUM_SERVER_URL = "appium.server.url";
+    private static final String WAIT_TIME = "wait.time";
+    private static final String POLLING_INTERVAL = "polling.interval";
+    private static final String SESSION_POOL_SIZE = "session.pool.size";
+    private static final String SESSION_IDLE_TIMEOUT = "session.idle.timeout";
+    private static final String SESSION_LEASE_TIMEOUT = "session.lease.timeout";
+    private static final List<String> SETTINGS = List.of(APP_PATH, APPIUM_SERVER_URL, WAIT_TIME, POLLING_INTERVAL,
+            SESSION_POOL_SIZE, SESSION_IDLE_TIMEOUT, SESSION_LEASE_TIMEOUT);
+    private static final Set<String> POOL_SETTINGS = Set.of(SESSION_POOL_SIZE, SESSION_IDLE_TIMEOUT, SESSION_LEASE_TIMEOUT);
+    private static final Set<String> PLATFORMS = Set.of("ANDROID", "IOS", "STUB");
+    private static final Map<String, String> DEFAULTS = Map.of(
+            APPIUM_SERVER_URL, "http://127.0.0.1:4723",
+            WAIT_TIME, "10s",
+            POLLING_INTERVAL, "500ms",
+            SESSION_POOL_SIZE, "4",
+            SESSION_IDLE_TIMEOUT, "5m",
+            SESSION_LEASE_TIMEOUT, "2m");
+    private static final String PROFILE_PREFIX = "profile.";
+    private static final String SYSTEM_PROPERTY_PREFIX = "run.";
+    private static final String ENVIRONMENT_PREFIX = "RUN_";
+    private static final String DEFAULT_CONFIG_RESOURCE = "run.properties";
+
+    private static volatile RunConfiguration current;
+
+    private final Map<String, String> settings;
+    private final Map<String, Map<String, String>> profiles;
+    private final DeviceProfile defaults;
+
+    private RunConfiguration(Map<String, String> settings, Map<String, Map<String, String>> profiles) {
+        this.settings = Map.copyOf(settings);
+        this.profiles = Map.copyOf(profiles);
+        this.defaults = toProfile(this.settings);
+    }
+
+    /**
+     * Reads the configuration from all sources.
+     *
+     * @param suiteParameters The suite parameters of testng.xml; settings among them override the properties file.
+     * @throws UncheckedIOException     If the properties file could not be read.
+     * @throws IllegalArgumentException If a setting is unknown or its value invalid.
+     */
+    public static RunConfiguration load(Map<String, String> suiteParameters) {
+        Map<String, String> environment = new HashMap<>();
+        for (String setting : SETTINGS) {
+            String value = System.getenv(ENVIRONMENT_PREFIX + setting.toUpperCase(Locale.ROOT).replace('.', '_'));
+            if (value != null) {
+                environment.put(setting, value);
+            }
+        }
+        Map<String, String> systemProperties = new HashMap<>();
+        System.getProperties().stringPropertyNames().stream()
+              .filter(name -> name.startsWith(SYSTEM_PROPERTY_PREFIX))
+              .forEach(name -> systemProperties.put(name.substring(SYSTEM_PROPERTY_PREFIX.length()), System.getProperty(name)));
+        return of(List.of(readConfigFile(), suiteParameters, environment, systemProperties));
+    }
+
+    /**
+     * @param layers Settings by key, each layer overriding the ones before it. Keys that are neither settings nor
+     *               profile settings are ignored, so test parameters like "device" can be passed as a layer.
+     */
+    static RunConfiguration of(List<Map<String, String>> layers) {
+        Map<String, String> settings = new HashMap<>(DEFAULTS);
+        Map<String, Map<String, String>> profiles = new HashMap<>();
+        for (Map<String, String> layer : layers) {
+            layer.forEach((key, value) -> {
+                if (SETTINGS.contains(key)) {
+                    settings.put(key, value.trim());
+                } else if (key.startsWith(PROFILE_PREFIX)) {
+                    String profileSetting = key.substring(PROFILE_PREFIX.length());
+                    String setting = SETTINGS.stream().filter(name -> profileSetting.endsWith("." + name)).findFirst()
+                                             .orElseThrow(() -> new IllegalArgumentException("Unknown setting in " + key + ", known settings are " + SETTINGS));
+                    String profileName = profileSetting.substring(0, profileSetting.length() - setting.length() - 1);
+                    if (POOL_SETTINGS.contains(setting) && !PLATFORMS.contains(profileName)) {
+                        throw new IllegalArgumentException("Session pools are shared by the devices of a platform, set " + key
+                                + " in a platform profile instead, one of " + PLATFORMS);
+                    }
+                    profiles.computeIfAbsent(profileName, name -> new HashMap<>()).put(setting, value.trim());
+                }
+            });
+        }
+        RunConfiguration configuration = new RunConfiguration(settings, profiles);
+        // Resolves every profile once, so invalid values fail the suite start instead of a session start
+        configuration.profiles.keySet().forEach(configuration::profileFor);
+        return configuration;
+    }
+
+    /**
+     * @return The configuration installed for the run, read from all sources without suite parameters if none was installed.
+     */
+    public static RunConfiguration current() {
+        RunConfiguration configuration = current;
+        if (configuration == null) {
+            synchronized (RunConfiguration.class) {
+                configuration = current;
+                if (configuration == null) {
+                    configuration = load(Map.of());
+                    current = configuration;
+                }
+            }
+        }
+        return configuration;
+    }
+
+    /**
+     * Makes the configuration the one used by all sessions started afterwards.
+     */
+    public static void install(RunConfiguration configuration) {
+        current = configuration;
+    }
+
+    /**
+     * @return The general settings, used by sessions on devices without a profile.
+     */
+    public DeviceProfile getDefaults() {
+        return defaults;
+    }
+
+    /**
+     * @param name A device or platform name.
+     * @return The settings of the profile, falling back to the general settings.
+     */
+    public DeviceProfile profileFor(String name) {
+        Map<String, String> profile = profiles.get(name);
+        if (profile == null) {
+            return defaults;
+        }
+        Map<String, String> resolved = new HashMap<>(settings);
+        resolved.putAll(profile);
+        return toProfile(resolved);
+    }
+
+    /**
+     * @param deviceName The device the session runs on.
+     * @param platform   The platform of the device, e.g. ANDROID.
+     * @return The settings of the device's profile, falling back to its platform's profile and the general settings.
+     */
+    public DeviceProfile profileFor(String deviceName, String platform) {
+        Map<String, String> resolved = new HashMap<>(settings);
+        resolved.putAll(profiles.getOrDefault(platform.toUpperCase(Locale.ROOT), Map.of()));
+        resolved.putAll(profiles.getOrDefault(deviceName, Map.of()));
+        return toProfile(resolved);
+    }
+
+    private static DeviceProfile toProfile(Map<String, String> settings) {
+        return new DeviceProfile(settings.get(APP_PATH), settings.get(APPIUM_SERVER_URL),
+                parseDuration(WAIT_TIME, settings.get(WAIT_TIME)), parseDuration(POLLING_INTERVAL, settings.get(POLLING_INTERVAL)),
+                parsePositiveInt(SESSION_POOL_SIZE, settings.get(SESSION_POOL_SIZE)),
+                parseDuration(SESSION_IDLE_TIMEOUT, settings.get(SESSION_IDLE_TIMEOUT)),
+                parseDuration(SESSION_LEASE_TIMEOUT, settings.get(SESSION_LEASE_TIMEOUT)));
+    }
+
+    private static Duration parseDuration(String setting, String value) {
+        try {
+            if (value.startsWith("P") || value.startsWith("p")) {
+                return Duration.parse(value);
+            }
+            if (value.endsWith("ms")) {
+                return Duration.ofMillis(Long.parseLong(value.substring(0, value.length() - 2).trim()));
+            }
+            if (value.endsWith("s")) {
+                return Duration.ofSeconds(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+            }
+            if (value.endsWith("m")) {
+                return Duration.ofMinutes(Long.parseLong(value.substring(0, value.length() - 1).trim()));
+            }
+            return Duration.ofMillis(Long.parseLong(value));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Invalid duration for " + setting + ": " + value, e);
+        }
+    }
+
+    private static int parsePositiveInt(String setting, String value) {
+        try {
+            int number = Integer.parseInt(value);
+            if (number >= 1) {
+                return number;
+            }
+        } catch (NumberFormatException ignored) {
+            // Reported below like any other invalid value
+        }
+        throw new IllegalArgumentException("Invalid value for " + setting + ", expected a positive number: " + value);
+    }
+
+    private static Map<String, String> readConfigFile() {
+        Properties properties = new Properties();
+        String configPath = System.getProperty("run.config");
+        try {
+            if (configPath != null) {
+                try (Reader reader = Files.newBufferedReader(Path.of(configPath), StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                }
+            } else {
+                try (InputStream stream = RunConfiguration.class.getClassLoader().getResourceAsStream(DEFAULT_CONFIG_RESOURCE)) {
+                    if (stream != null) {
+                        properties.load(stream);
+                    }
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read the run configuration " + (configPath != null ? configPath : DEFAULT_CONFIG_RESOURCE), e);
+        }
+        Map<String, String> settings = new HashMap<>();
+        properties.stringPropertyNames().forEach(name -> settings.put(name, properties.getProperty(name)));
+        return settings;
+    }
+}
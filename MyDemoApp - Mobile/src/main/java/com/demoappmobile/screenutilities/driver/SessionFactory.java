@@ -0,0 +1,33 @@
+package com.demoappmobile.screenutilities.driver;
+
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Starts, checks and resets the driver sessions held by a {@link SessionPool}.
+ */
+public interface SessionFactory {
+
+    /**
+     * Starts a new session on the given device.
+     *
+     * @param deviceName The device the session should run on.
+     * @return The initialized driver setup owning the new session.
+     * @throws Exception If the session could not be started.
+     */
+    DriverFactory<? extends WebDriver> create(String deviceName) throws Exception;
+
+    /**
+     * Checks whether an idle session can still be handed out, typically with one cheap session scoped command.
+     *
+     * @param driverFactory The driver setup owning the session.
+     * @return true if the session still responds; false if it should be discarded.
+     */
+    boolean isHealthy(DriverFactory<? extends WebDriver> driverFactory);
+
+    /**
+     * Brings the application under test back to its initial state before the session is leased again.
+     *
+     * @param driverFactory The driver setup owning the session.
+     */
+    void reset(DriverFactory<? extends WebDriver> driverFactory);
+}
@@ -0,0 +1,403 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.Exceptions.NoSessionAvailableException;
+import com.demoappmobile.Logger.ErrorMessage;
+import com.demoappmobile.screenutilities.driver.stub.StubAppiumServer;
+import com.demoappmobile.screenutilities.driver.stub.StubSessionFactory;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps warm driver sessions and leases them to tests, so that the application is installed and launched once
+ * per device instead of once per test method.
+ * <p>
+ * The pool holds at most {@code maxSessions} live sessions. A lease prefers an idle session of the requested
+ * device, starts a new one while there is capacity, and otherwise evicts the oldest idle session of another
+ * device or waits until one is released. Idle sessions are health checked before being handed out, reset when
+ * they are returned and quit once they stay idle longer than the idle timeout or the pool shuts down.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * PooledSession session = SessionPool.forPlatform("ANDROID").lease("emulator-5556");
+ * DriverManager.getInstance().attachSession(session);
+ * // ... test body ...
+ * SessionPool.forPlatform("ANDROID").release(DriverManager.getInstance().detachSession());
+ * }</pre>
+ */
+public class SessionPool {
+
+    private static final Map<String, SessionPool> pools = new ConcurrentHashMap<>();
+
+    private final SessionFactory sessionFactory;
+    private final int maxSessions;
+    private final long idleTimeoutNanos;
+    private final long leaseTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition sessionReturned = lock.newCondition();
+    private final Map<String, Deque<PooledSession>> idleSessions = new HashMap<>();
+    private final Map<String, Integer> startingSessions = new HashMap<>();
+    private final Set<PooledSession> liveSessions = ConcurrentHashMap.newKeySet();
+    private final ScheduledExecutorService evictor;
+    private int reservedSlots;
+    private boolean closed;
+
+    public SessionPool(SessionFactory sessionFactory, int maxSessions, Duration idleTimeout, Duration leaseTimeout) {
+        if (maxSessions < 1) {
+            throw new IllegalArgumentException("Session pool must allow at least one session.");
+        }
+        this.sessionFactory = sessionFactory;
+        this.maxSessions = maxSessions;
+        this.idleTimeoutNanos = idleTimeout.toNanos();
+        this.leaseTimeoutNanos = leaseTimeout.toNanos();
+        this.evictor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "session-pool-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long evictionPeriodNanos = Math.max(idleTimeoutNanos / 2, TimeUnit.SECONDS.toNanos(1));
+        evictor.scheduleWithFixedDelay(this::evictIdleSessions, evictionPeriodNanos, evictionPeriodNanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * Returns the shared pool for the given platform, created on first use with the settings of the platform's
+     * profile in the {@link RunConfiguration}.
+     *
+     * @param platform The platform name used in testng.xml, e.g. ANDROID or IOS; STUB runs the sessions on the shared
+     *                 {@link StubAppiumServer}.
+     * @return The shared session pool of the platform.
+     */
+    public static SessionPool forPlatform(String platform) {
+        return pools.computeIfAbsent(platform.toUpperCase(), key -> {
+            SessionFactory sessionFactory = key.equals("STUB") ? new StubSessionFactory(StubAppiumServer.shared()) : new AppiumSessionFactory(key);
+            DeviceProfile profile = RunConfiguration.current().profileFor(key);
+            SessionPool sessionPool = new SessionPool(sessionFactory, profile.maxPooledSessions(),
+                    profile.sessionIdleTimeout(), profile.sessionLeaseTimeout());
+            Runtime.getRuntime().addShutdownHook(new Thread(sessionPool::shutdown, "session-pool-shutdown-" + key));
+            return sessionPool;
+        });
+    }
+
+    /**
+     * Shuts down every shared pool created through {@link #forPlatform(String)}.
+     */
+    public static void shutdownAll() {
+        pools.values().forEach(SessionPool::shutdown);
+        pools.clear();
+    }
+
+    /**
+     * Leases a session running on the given device, blocking up to the lease timeout when the pool is full.
+     *
+     * @param deviceName The device the session has to run on.
+     * @return A healthy session reserved for the caller until it is released or invalidated.
+     * @throws NoSessionAvailableException If no session became available in time or a new session failed to start.
+     */
+    public PooledSession lease(String deviceName) {
+        long deadline = System.nanoTime() + leaseTimeoutNanos;
+        while (true) {
+            List<PooledSession> evicted = new ArrayList<>();
+            PooledSession idleSession = reserveSlot(deviceName, deadline, evicted);
+            evicted.forEach(this::quit);
+            if (idleSession == null) {
+                return startSession(deviceName);
+            }
+            if (sessionFactory.isHealthy(idleSession.getDriverFactory())) {
+                return idleSession;
+            }
+            invalidate(idleSession);
+        }
+    }
+
+    /**
+     * Starts one session per device in the background, so that session start-up overlaps with the rest of the
+     * suite setup. Leases for a device that is still starting wait for that session instead of starting another.
+     * Devices for which the pool has no free capacity are skipped; failed start-ups are logged and leave the
+     * slot free for a regular lease.
+     *
+     * @param deviceNames The devices to start sessions on.
+     * @return A future completing with the start-up latency of every session that started successfully.
+     */
+    public CompletableFuture<Map<String, Duration>> warmUp(Collection<String> deviceNames) {
+        Map<String, Duration> startupTimes = new ConcurrentHashMap<>();
+        List<CompletableFuture<Void>> startups = new ArrayList<>();
+        for (String deviceName : deviceNames) {
+            if (!reserveStartingSlot(deviceName)) {
+                continue;
+            }
+            startups.add(DriverManager.startSessionAsync(deviceName, () -> sessionFactory.create(deviceName))
+                    .handle((startup, failure) -> {
+                        if (failure == null) {
+                            startupTimes.put(deviceName, startup.startupTime());
+                        } else {
+                            Throwable cause = failure instanceof CompletionException ? failure.getCause() : failure;
+                            ErrorMessage.caughtException(cause instanceof Exception exception ? exception : new RuntimeException(cause),
+                                    "Failed to warm up session on device " + deviceName);
+                        }
+                        completeStartingSlot(deviceName, startup == null ? null : startup.session());
+                        return null;
+                    }));
+        }
+        return CompletableFuture.allOf(startups.toArray(CompletableFuture[]::new)).thenApply(ignored -> startupTimes);
+    }
+
+    /**
+     * Returns a leased session to the pool. The application is reset so the next lease starts from a clean state;
+     * sessions that fail to reset are quit instead of being pooled. The reset restarts the app and switches the driver
+     * to the native context directly, so the session's helpers forget the context and screen they remember.
+     *
+     * @param session The session obtained from {@link #lease(String)}.
+     */
+    public void release(PooledSession session) {
+        if (session == null) {
+            return;
+        }
+        try {
+            sessionFactory.reset(session.getDriverFactory());
+        } catch (RuntimeException exception) {
+            ErrorMessage.caughtException(exception, "Failed to reset session " + session + ", discarding it");
+            invalidate(session);
+            return;
+        }
+        session.getSessionContext().forgetScreenState();
+        lock.lock();
+        try {
+            if (!closed) {
+                session.markIdle(System.nanoTime());
+                idleSessions.computeIfAbsent(session.getDeviceName(), device -> new ArrayDeque<>()).addFirst(session);
+                sessionReturned.signalAll();
+                return;
+            }
+            reservedSlots--;
+        } finally {
+            lock.unlock();
+        }
+        quit(session);
+    }
+
+    /**
+     * Quits a session and frees its slot, e.g. after the device or the session stopped responding. Sessions that
+     * were already quit are ignored, so invalidating a session twice frees its slot once.
+     *
+     * @param session The session obtained from {@link #lease(String)}.
+     */
+    public void invalidate(PooledSession session) {
+        lock.lock();
+        try {
+            if (!liveSessions.remove(session)) {
+                return;
+            }
+            Deque<PooledSession> deviceSessions = idleSessions.get(session.getDeviceName());
+            if (deviceSessions != null) {
+                deviceSessions.remove(session);
+            }
+            reservedSlots--;
+            sessionReturned.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        quitDriver(session);
+    }
+
+    /**
+     * Quits all sessions that have stayed idle longer than the idle timeout.
+     */
+    public void evictIdleSessions() {
+        List<PooledSession> evicted = new ArrayList<>();
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            for (Deque<PooledSession> sessions : idleSessions.values()) {
+                Iterator<PooledSession> iterator = sessions.iterator();
+                while (iterator.hasNext()) {
+                    PooledSession session = iterator.next();
+                    if (session.isIdleLongerThan(idleTimeoutNanos, now)) {
+                        iterator.remove();
+                        evicted.add(session);
+                    }
+                }
+            }
+            reservedSlots -= evicted.size();
+            if (!evicted.isEmpty()) {
+                sessionReturned.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+        evicted.forEach(this::quit);
+    }
+
+    /**
+     * Quits every session of the pool, leased or idle. Sessions released afterwards are quit immediately.
+     */
+    public void shutdown() {
+        lock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            idleSessions.clear();
+            sessionReturned.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        evictor.shutdownNow();
+        new ArrayList<>(liveSessions).forEach(this::quit);
+    }
+
+    public int getLiveSessionCount() {
+        return liveSessions.size();
+    }
+
+    public int getIdleSessionCount() {
+        lock.lock();
+        try {
+            return idleSessions.values().stream().mapToInt(Deque::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Takes an idle session of the device or reserves a slot for a new one. Idle sessions of other devices that
+     * have to make room are moved to {@code evicted} so they can be quit outside the lock.
+     *
+     * @return The idle session to reuse, or null if a slot for a new session was reserved.
+     */
+    private PooledSession reserveSlot(String deviceName, long deadline, List<PooledSession> evicted) {
+        lock.lock();
+        try {
+            while (true) {
+                if (closed) {
+                    throw new NoSessionAvailableException("Session pool is shut down.");
+                }
+                Deque<PooledSession> deviceSessions = idleSessions.get(deviceName);
+                if (deviceSessions != null && !deviceSessions.isEmpty()) {
+                    return deviceSessions.pollFirst();
+                }
+                if (!startingSessions.containsKey(deviceName)) {
+                    if (reservedSlots < maxSessions) {
+                        reservedSlots++;
+                        return null;
+                    }
+                    PooledSession oldestIdleSession = pollOldestIdleSession();
+                    if (oldestIdleSession != null) {
+                        reservedSlots--;
+                        evicted.add(oldestIdleSession);
+                        continue;
+                    }
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new NoSessionAvailableException("No session available for device " + deviceName + " within "
+                            + Duration.ofNanos(leaseTimeoutNanos) + ", all " + maxSessions + " sessions are leased.");
+                }
+                sessionReturned.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new NoSessionAvailableException("Interrupted while waiting for a session on device " + deviceName, interruptedException);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private boolean reserveStartingSlot(String deviceName) {
+        lock.lock();
+        try {
+            if (closed || reservedSlots >= maxSessions) {
+                return false;
+            }
+            reservedSlots++;
+            startingSessions.merge(deviceName, 1, Integer::sum);
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void completeStartingSlot(String deviceName, DriverFactory<? extends WebDriver> driverFactory) {
+        PooledSession session = driverFactory == null ? null : new PooledSession(deviceName, driverFactory);
+        if (session != null) {
+            liveSessions.add(session);
+        }
+        lock.lock();
+        try {
+            startingSessions.computeIfPresent(deviceName, (device, count) -> count > 1 ? count - 1 : null);
+            if (session != null && !closed) {
+                session.markIdle(System.nanoTime());
+                idleSessions.computeIfAbsent(deviceName, device -> new ArrayDeque<>()).addFirst(session);
+                session = null;
+            } else {
+                reservedSlots--;
+            }
+            sessionReturned.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        if (session != null) {
+            quit(session);
+        }
+    }
+
+    private PooledSession pollOldestIdleSession() {
+        Deque<PooledSession> oldestSessions = null;
+        for (Deque<PooledSession> sessions : idleSessions.values()) {
+            if (!sessions.isEmpty() && (oldestSessions == null
+                    || sessions.peekLast().getIdleSinceNanos() - oldestSessions.peekLast().getIdleSinceNanos() < 0)) {
+                oldestSessions = sessions;
+            }
+        }
+        return oldestSessions == null ? null : oldestSessions.pollLast();
+    }
+
+    private PooledSession startSession(String deviceName) {
+        try {
+            PooledSession session = new PooledSession(deviceName, DriverManager.startSession(deviceName, () -> sessionFactory.create(deviceName)).session());
+            liveSessions.add(session);
+            return session;
+        } catch (RuntimeException exception) {
+            lock.lock();
+            try {
+                reservedSlots--;
+                sessionReturned.signalAll();
+            } finally {
+                lock.unlock();
+            }
+            throw new NoSessionAvailableException("Failed to start a session on device " + deviceName, exception);
+        }
+    }
+
+    private void quit(PooledSession session) {
+        if (liveSessions.remove(session)) {
+            quitDriver(session);
+        }
+    }
+
+    private void quitDriver(PooledSession session) {
+        try {
+            session.getDriverFactory().quitDriver();
+        } catch (RuntimeException exception) {
+            ErrorMessage.caughtException(exception, "Failed to quit session " + session);
+        }
+    }
+}
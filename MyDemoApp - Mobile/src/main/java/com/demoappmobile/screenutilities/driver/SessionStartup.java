@@ -0,0 +1,14 @@
+package com.demoappmobile.screenutilities.driver;
+
+import java.time.Duration;
+
+/**
+ * The outcome of starting a driver session on a device, together with how long the start-up took.
+ *
+ * @param deviceName  The device the session was started on.
+ * @param session     The started session.
+ * @param startupTime The wall-clock time spent starting the session.
+ * @param <T>         The type of the started session.
+ */
+public record SessionStartup<T>(String deviceName, T session, Duration startupTime) {
+}
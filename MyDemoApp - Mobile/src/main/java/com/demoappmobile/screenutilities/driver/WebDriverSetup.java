@@ -2,34 +2,34 @@ package com.demoappmobile.screenutilities.driver;
 
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.support.ui.WebDriverWait;
 
 import java.time.Duration;
 
 public class WebDriverSetup extends BaseDriverSetup<WebDriver> {
 
-    private static WebDriverSetup instance;
+    private static final ThreadLocal<WebDriverSetup> instance = ThreadLocal.withInitial(WebDriverSetup::new);
 
     private WebDriverSetup() { }
 
     public static WebDriverSetup getInstance() {
-        if (instance == null) {
-            instance = new WebDriverSetup();
-        }
-        return instance;
+        return instance.get();
+    }
+
+    public static void removeInstance() {
+        instance.remove();
     }
 
     @Override
     public void initDriver(String chromeDriverPath) {
         System.setProperty("webdriver.chrome.driver", chromeDriverPath);
         driver = new ChromeDriver();
-        wait = new WebDriverWait(driver, Configuration.WAIT_TIME);
+        wait = newWebDriverWait(getDeviceProfile().waitTime());
     }
 
     @Override
     public void initDriver(String chromeDriverPath, Duration timeout) {
         System.setProperty("webdriver.chrome.driver", chromeDriverPath);
         driver = new ChromeDriver();
-        wait = new WebDriverWait(driver, timeout);
+        wait = newWebDriverWait(timeout);
     }
 }
@@ -0,0 +1,339 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import com.demoappmobile.screenutilities.driver.Configuration;
+import com.demoappmobile.screenutilities.driver.DeviceProfile;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.URL;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * An in-process stand-in for an Appium server driving the demo app, speaking the W3C WebDriver protocol and the
+ * Appium extensions the framework uses over real HTTP on the loopback interface. Every session serves a scripted
+ * model of the app, see {@link StubSession}, so screens, waits, retries and the whole driver stack can be run,
+ * measured and regression tested without an emulator.
+ * <p>
+ * The {@link StubBehavior} adds latency and jitter to every command and injects faults. It can be replaced while
+ * sessions are running, e.g. to let a benchmark measure with and without faults.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * try (StubAppiumServer server = StubAppiumServer.start(StubBehavior.latency(Duration.ofMillis(30), Duration.ofMillis(10)))) {
+ *     SessionPool pool = new SessionPool(new StubSessionFactory(server), 1, Duration.ofMinutes(5), Duration.ofMinutes(1));
+ *     DriverManager.getInstance().attachSession(pool.lease("stub-device"));
+ *     // ... screens as usual ...
+ * }
+ * }</pre>
+ * Test suites run against the shared server by setting the "platform" parameter of testng.xml to STUB.
+ */
+public final class StubAppiumServer implements AutoCloseable {
+
+    private static StubAppiumServer shared;
+
+    private final Json json = new Json();
+    private final Map<String, StubSession> sessions = new ConcurrentHashMap<>();
+    private final AtomicLong commandCount = new AtomicLong();
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final URL url;
+    private volatile StubBehavior behavior;
+    private volatile Random random;
+
+    private StubAppiumServer(StubBehavior behavior) throws IOException {
+        setBehavior(behavior);
+        AtomicInteger threadCount = new AtomicInteger();
+        this.executor = Executors.newCachedThreadPool(runnable -> {
+            Thread thread = new Thread(runnable, "stub-appium-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.httpServer = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        httpServer.setExecutor(executor);
+        httpServer.createContext("/", this::handle);
+        httpServer.start();
+        this.url = URI.create("http://" + InetAddress.getLoopbackAddress().getHostAddress() + ":" + httpServer.getAddress().getPort()).toURL();
+    }
+
+    /**
+     * Starts a server on a free port of the loopback interface.
+     *
+     * @param behavior How the server answers.
+     * @return The running server, to be closed when done.
+     */
+    public static StubAppiumServer start(StubBehavior behavior) {
+        try {
+            return new StubAppiumServer(behavior);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to start the stub Appium server", e);
+        }
+    }
+
+    /**
+     * Returns the server shared by the sessions of the "STUB" platform, started on first use with the latency and
+     * jitter of {@link Configuration}. It runs until the JVM exits.
+     *
+     * @return The shared server.
+     */
+    public static synchronized StubAppiumServer shared() {
+        if (shared == null) {
+            shared = start(StubBehavior.latency(Configuration.STUB_LATENCY, Configuration.STUB_JITTER));
+        }
+        return shared;
+    }
+
+    /**
+     * @return The address to send commands to, in place of the {@link DeviceProfile#appiumServerUrl()} of a device.
+     */
+    public URL getUrl() {
+        return url;
+    }
+
+    public StubBehavior getBehavior() {
+        return behavior;
+    }
+
+    /**
+     * Replaces how the server answers, for the commands of all sessions received from now on.
+     */
+    public void setBehavior(StubBehavior behavior) {
+        this.random = new Random(behavior.getSeed());
+        this.behavior = behavior;
+    }
+
+    /**
+     * @return The number of sessions that were created and not deleted yet.
+     */
+    public int getSessionCount() {
+        return sessions.size();
+    }
+
+    /**
+     * @return The number of commands answered so far, session creations and deletions included.
+     */
+    public long getCommandCount() {
+        return commandCount.get();
+    }
+
+    @Override
+    public void close() {
+        httpServer.stop(0);
+        executor.shutdownNow();
+        sessions.clear();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            commandCount.incrementAndGet();
+            Object value;
+            int status = 200;
+            try {
+                value = route(exchange.getRequestMethod(), exchange.getRequestURI().getPath(), readBody(exchange));
+            } catch (StubError error) {
+                status = error.getHttpStatus();
+                value = errorValue(error.getError(), error.getMessage());
+            } catch (RuntimeException exception) {
+                status = 500;
+                value = errorValue("unknown error", String.valueOf(exception));
+            }
+            Map<String, Object> response = new LinkedHashMap<>();
+            response.put("value", value);
+            byte[] body = json.toJson(response).getBytes(StandardCharsets.UTF_8);
+            exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+            exchange.sendResponseHeaders(status, body.length);
+            try (OutputStream output = exchange.getResponseBody()) {
+                output.write(body);
+            }
+        }
+    }
+
+    private Map<String, Object> readBody(HttpExchange exchange) throws IOException {
+        try (InputStream input = exchange.getRequestBody()) {
+            String body = new String(input.readAllBytes(), StandardCharsets.UTF_8);
+            return body.isBlank() ? Map.of() : json.toType(body, Json.MAP_TYPE);
+        }
+    }
+
+    private Object route(String method, String path, Map<String, Object> parameters) {
+        // Appium clients may prefix all routes with /wd/hub
+        String[] segments = path.replaceFirst("^/wd/hub", "").replaceAll("^/+|/+$", "").split("/");
+        if (segments[0].equals("status")) {
+            return Map.of("ready", true, "message", "Stub Appium server");
+        }
+        if (!segments[0].equals("session")) {
+            throw new StubError("unknown command", 404, "Unknown command " + method + " " + path);
+        }
+        if (segments.length == 1 && method.equals("POST")) {
+            delay();
+            return createSession(parameters);
+        }
+        StubSession session = sessions.get(segments[1]);
+        if (session == null) {
+            throw new StubError("invalid session id", 404, "No active session with id " + segments[1]);
+        }
+        String command = commandName(method, segments);
+        delay();
+        StubFault fault = behavior.drawFault(command, random);
+        if (fault != null && !command.equals("DELETE session")) {
+            throw fault.toError();
+        }
+        return execute(session, command, segments, parameters);
+    }
+
+    private Object execute(StubSession session, String command, String[] segments, Map<String, Object> parameters) {
+        String elementId = segments.length > 3 && segments[2].equals("element") ? segments[3] : null;
+        return switch (command) {
+            case "DELETE session" -> {
+                sessions.remove(session.getId());
+                yield null;
+            }
+            case "POST element" -> session.findElement(string(parameters, "using"), string(parameters, "value"), null);
+            case "POST elements" -> session.findElements(string(parameters, "using"), string(parameters, "value"), null);
+            case "POST element/element" -> session.findElement(string(parameters, "using"), string(parameters, "value"), elementId);
+            case "POST element/elements" -> session.findElements(string(parameters, "using"), string(parameters, "value"), elementId);
+            case "GET element/text" -> session.getText(elementId);
+            case "GET element/attribute", "GET element/property" -> session.getAttribute(elementId, segments[5]);
+            case "GET element/name" -> session.getTagName(elementId);
+            case "GET element/displayed" -> session.isDisplayed(elementId);
+            case "GET element/enabled" -> session.isEnabled(elementId);
+            case "GET element/selected" -> session.isSelected(elementId);
+            case "GET element/rect" -> session.getRect(elementId);
+            case "GET element/css" -> "";
+            case "POST element/click" -> {
+                session.click(elementId);
+                yield null;
+            }
+            case "POST element/value" -> {
+                session.sendKeys(elementId, keys(parameters));
+                yield null;
+            }
+            case "POST element/clear" -> {
+                session.clear(elementId);
+                yield null;
+            }
+            case "GET source" -> session.getPageSource();
+            case "GET contexts" -> session.getContexts();
+            case "GET context" -> session.getContext();
+            case "POST context" -> {
+                session.switchContext(string(parameters, "name"));
+                yield null;
+            }
+            case "GET window/rect", "GET window/size" -> Map.of("x", 0, "y", 0, "width", 1080, "height", 2400);
+            case "POST actions" -> {
+                session.performActions((List<?>) parameters.getOrDefault("actions", List.of()));
+                yield null;
+            }
+            case "POST execute/sync" -> executeScript(session, string(parameters, "script"));
+            case "POST appium/device/terminate_app" -> {
+                session.terminateApp();
+                yield true;
+            }
+            case "POST appium/device/activate_app" -> {
+                session.activateApp();
+                yield null;
+            }
+            // Timeouts, orientation, keyboard and the like are accepted and have no effect on the model
+            default -> null;
+        };
+    }
+
+    private Object executeScript(StubSession session, String script) {
+        // Mobile commands are executed, scripts meant for a WebView are not evaluated
+        return switch (script.trim()) {
+            case "mobile: terminateApp" -> {
+                session.terminateApp();
+                yield true;
+            }
+            case "mobile: activateApp" -> {
+                session.activateApp();
+                yield null;
+            }
+            default -> null;
+        };
+    }
+
+    private Map<String, Object> createSession(Map<String, Object> parameters) {
+        StubSession session = new StubSession(UUID.randomUUID().toString());
+        sessions.put(session.getId(), session);
+        Map<String, Object> capabilities = new LinkedHashMap<>();
+        capabilities.put("platformName", "Android");
+        capabilities.put("appium:automationName", "UiAutomator2");
+        if (parameters.get("capabilities") instanceof Map<?, ?> requested && requested.get("alwaysMatch") instanceof Map<?, ?> alwaysMatch) {
+            alwaysMatch.forEach((name, value) -> capabilities.putIfAbsent(String.valueOf(name), value));
+        }
+        return Map.of("sessionId", session.getId(), "capabilities", capabilities);
+    }
+
+    /**
+     * @return The command as method and route with the session and element ids left out, e.g. "POST element/click".
+     */
+    private static String commandName(String method, String[] segments) {
+        if (segments.length == 2) {
+            return method + " session";
+        }
+        StringBuilder command = new StringBuilder(method).append(' ').append(segments[2]);
+        for (int i = 3; i < segments.length; i++) {
+            boolean elementId = segments[2].equals("element") && i == 3;
+            boolean attributeName = i == 5 && (segments[4].equals("attribute") || segments[4].equals("property") || segments[4].equals("css"));
+            if (!elementId && !attributeName) {
+                command.append('/').append(segments[i]);
+            }
+        }
+        return command.toString();
+    }
+
+    private void delay() {
+        long delayNanos = behavior.delayNanos(random);
+        long deadline = System.nanoTime() + delayNanos;
+        while (delayNanos > 0) {
+            LockSupport.parkNanos(delayNanos);
+            delayNanos = deadline - System.nanoTime();
+        }
+    }
+
+    private static String keys(Map<String, Object> parameters) {
+        if (parameters.get("text") instanceof String text) {
+            return text;
+        }
+        if (parameters.get("value") instanceof List<?> characters) {
+            StringBuilder text = new StringBuilder();
+            characters.forEach(text::append);
+            return text.toString();
+        }
+        throw StubError.invalidArgument("Keys to send are missing");
+    }
+
+    private static String string(Map<String, Object> parameters, String name) {
+        if (parameters.get(name) instanceof String value) {
+            return value;
+        }
+        throw StubError.invalidArgument("Parameter " + name + " is missing");
+    }
+
+    private static Map<String, Object> errorValue(String error, String message) {
+        Map<String, Object> value = new LinkedHashMap<>();
+        value.put("error", error);
+        value.put("message", message);
+        value.put("stacktrace", "");
+        return value;
+    }
+}
@@ -0,0 +1,105 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.Random;
+
+/**
+ * How the {@link StubAppiumServer} answers: how long every command takes and how often commands fail with an
+ * injected {@link StubFault}. Behaviors are immutable; the {@code with...} methods return modified copies.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * StubBehavior behavior = StubBehavior.latency(Duration.ofMillis(40), Duration.ofMillis(15))
+ *                                     .withFault(StubFault.STALE_ELEMENT, 0.05)
+ *                                     .withSeed(42);
+ * }</pre>
+ */
+public final class StubBehavior {
+
+    private final Duration latency;
+    private final Duration jitter;
+    private final Map<StubFault, Double> faultRates;
+    private final long seed;
+
+    private StubBehavior(Duration latency, Duration jitter, Map<StubFault, Double> faultRates, long seed) {
+        if (latency.isNegative() || jitter.isNegative()) {
+            throw new IllegalArgumentException("Latency and jitter must not be negative.");
+        }
+        this.latency = latency;
+        this.jitter = jitter;
+        this.faultRates = faultRates;
+        this.seed = seed;
+    }
+
+    /**
+     * @return A behavior answering every command immediately and without faults, to measure the framework alone.
+     */
+    public static StubBehavior instant() {
+        return latency(Duration.ZERO, Duration.ZERO);
+    }
+
+    /**
+     * @param latency The time every command takes at least, like the round trip to Appium and the device.
+     * @param jitter  The maximum time added to the latency, uniformly distributed.
+     * @return A behavior answering after the given latency, without faults.
+     */
+    public static StubBehavior latency(Duration latency, Duration jitter) {
+        return new StubBehavior(latency, jitter, Collections.unmodifiableMap(new EnumMap<>(StubFault.class)), 0);
+    }
+
+    /**
+     * @param fault The fault to inject.
+     * @param rate  The share of the commands the fault applies to that fail with it, from 0 to 1.
+     * @return A copy of this behavior injecting the fault.
+     */
+    public StubBehavior withFault(StubFault fault, double rate) {
+        if (rate < 0 || rate > 1) {
+            throw new IllegalArgumentException("Fault rate must be between 0 and 1, got " + rate);
+        }
+        Map<StubFault, Double> rates = new EnumMap<>(StubFault.class);
+        rates.putAll(faultRates);
+        rates.put(fault, rate);
+        return new StubBehavior(latency, jitter, Collections.unmodifiableMap(rates), seed);
+    }
+
+    /**
+     * @param seed The seed of the random jitter and faults, so runs with the same commands fail the same way.
+     * @return A copy of this behavior with the given seed.
+     */
+    public StubBehavior withSeed(long seed) {
+        return new StubBehavior(latency, jitter, faultRates, seed);
+    }
+
+    public Duration getLatency() {
+        return latency;
+    }
+
+    public Duration getJitter() {
+        return jitter;
+    }
+
+    public Map<StubFault, Double> getFaultRates() {
+        return faultRates;
+    }
+
+    long delayNanos(Random random) {
+        long jitterNanos = jitter.toNanos();
+        return latency.toNanos() + (jitterNanos == 0 ? 0 : (long) (random.nextDouble() * jitterNanos));
+    }
+
+    StubFault drawFault(String commandName, Random random) {
+        for (Map.Entry<StubFault, Double> faultRate : faultRates.entrySet()) {
+            if (faultRate.getKey().appliesTo(commandName) && random.nextDouble() < faultRate.getValue()) {
+                return faultRate.getKey();
+            }
+        }
+        return null;
+    }
+
+    long getSeed() {
+        return seed;
+    }
+}
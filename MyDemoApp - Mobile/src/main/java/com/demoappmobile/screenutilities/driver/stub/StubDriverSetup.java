@@ -0,0 +1,40 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import com.demoappmobile.screenutilities.driver.BaseDriverSetup;
+import com.demoappmobile.screenutilities.driver.CircuitBreaker;
+import com.demoappmobile.screenutilities.driver.CircuitBreakingCommandExecutor;
+import com.demoappmobile.screenutilities.driver.RunConfiguration;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.options.UiAutomator2Options;
+
+import java.time.Duration;
+
+/**
+ * Starts Android sessions on a {@link StubAppiumServer} instead of a real Appium server. The driver is built like the
+ * one of the Android driver setup, behind a circuit breaking executor, so everything above the HTTP connection runs
+ * exactly as in a real test.
+ */
+public class StubDriverSetup extends BaseDriverSetup<AndroidDriver> {
+
+    private final StubAppiumServer server;
+
+    public StubDriverSetup(StubAppiumServer server) {
+        this.server = server;
+    }
+
+    @Override
+    public void initDriver(String deviceName) {
+        initDriver(deviceName, RunConfiguration.current().profileFor(deviceName, "STUB").waitTime());
+    }
+
+    @Override
+    public void initDriver(String deviceName, Duration timeout) {
+        deviceProfile = RunConfiguration.current().profileFor(deviceName, "STUB");
+        circuitBreaker = new CircuitBreaker("stub session on device " + deviceName);
+        UiAutomator2Options options = new UiAutomator2Options();
+        options.setDeviceName(deviceName);
+        options.setUdid(deviceName);
+        driver = new AndroidDriver(new CircuitBreakingCommandExecutor(server.getUrl(), circuitBreaker), options);
+        wait = newWebDriverWait(timeout);
+    }
+}
@@ -0,0 +1,42 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+/**
+ * A W3C error answered by the {@link StubAppiumServer}, e.g. a missing element or an injected {@link StubFault}.
+ */
+class StubError extends RuntimeException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final String error;
+    private final int httpStatus;
+
+    StubError(String error, int httpStatus, String message) {
+        super(message);
+        this.error = error;
+        this.httpStatus = httpStatus;
+    }
+
+    static StubError noSuchElement(String using, String value) {
+        return new StubError("no such element", 404, "No element found using " + using + " '" + value + "'");
+    }
+
+    static StubError staleElement(String elementId) {
+        return new StubError("stale element reference", 404, "Element " + elementId + " belongs to a screen that is no longer shown");
+    }
+
+    static StubError invalidSelector(String using, String value) {
+        return new StubError("invalid selector", 400, "The stub cannot evaluate " + using + " '" + value + "'");
+    }
+
+    static StubError invalidArgument(String message) {
+        return new StubError("invalid argument", 400, message);
+    }
+
+    String getError() {
+        return error;
+    }
+
+    int getHttpStatus() {
+        return httpStatus;
+    }
+}
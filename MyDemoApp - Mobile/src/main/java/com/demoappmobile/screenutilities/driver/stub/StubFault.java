@@ -0,0 +1,47 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+/**
+ * A failure the {@link StubAppiumServer} can inject instead of executing a command, answered with the W3C error a
+ * real Appium server sends for it.
+ */
+public enum StubFault {
+
+    /**
+     * Element commands fail as if the element was re-rendered since it was found.
+     */
+    STALE_ELEMENT("stale element reference", 404, "The element is no longer attached to the view hierarchy"),
+    /**
+     * Clicks fail as if another element, e.g. an animation or a toast, covered the target.
+     */
+    CLICK_INTERCEPTED("element click intercepted", 400, "The click was received by another element"),
+    /**
+     * Any command fails as if the device did not answer in time.
+     */
+    TIMEOUT("timeout", 500, "The device did not respond in time");
+
+    private final String error;
+    private final int httpStatus;
+    private final String message;
+
+    StubFault(String error, int httpStatus, String message) {
+        this.error = error;
+        this.httpStatus = httpStatus;
+        this.message = message;
+    }
+
+    StubError toError() {
+        return new StubError(error, httpStatus, message);
+    }
+
+    /**
+     * @param commandName The command as method and route without ids, e.g. "POST element/click".
+     * @return true if the fault can happen to the command.
+     */
+    boolean appliesTo(String commandName) {
+        return switch (this) {
+            case STALE_ELEMENT -> commandName.contains(" element/");
+            case CLICK_INTERCEPTED -> commandName.equals("POST element/click");
+            case TIMEOUT -> true;
+        };
+    }
+}
@@ -0,0 +1,206 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+/**
+ * The screens of the demo app as served by the {@link StubAppiumServer}: native screens as UiAutomator2 page sources
+ * and the pages of the WebView as XHTML. The sources carry the attributes and the structure the locators of the
+ * screen classes rely on, not the full hierarchy of the real app.
+ */
+enum StubScreen {
+
+    CATALOG(false, """
+            <hierarchy rotation="0">
+              <android.widget.FrameLayout displayed="true" enabled="true" bounds="[0,0][1080,2400]">
+                %s
+                <android.view.ViewGroup content-desc="container header" displayed="true" enabled="true" bounds="[0,220][1080,340]">
+                  <android.widget.TextView text="Products" displayed="true" enabled="true" bounds="[40,240][400,320]"/>
+                </android.view.ViewGroup>
+                <android.widget.ScrollView content-desc="products screen" scrollable="true" displayed="true" enabled="true" bounds="[0,340][1080,2400]">
+                  <android.view.ViewGroup displayed="true" enabled="true" bounds="[0,340][1080,2400]">
+                    <android.view.ViewGroup content-desc="products list" displayed="true" enabled="true" bounds="[0,340][1080,2100]">
+                      %s
+                    </android.view.ViewGroup>
+                    <android.view.ViewGroup content-desc="store footer spacer" displayed="true" enabled="true" bounds="[0,2100][1080,2120]"/>
+                    <android.view.ViewGroup content-desc="store footer" displayed="true" enabled="true" bounds="[0,2120][1080,2400]">
+                      <android.widget.ImageView content-desc="twitter" displayed="true" enabled="true" bounds="[300,2200][400,2300]"/>
+                      <android.widget.ImageView content-desc="facebook" displayed="true" enabled="true" bounds="[490,2200][590,2300]"/>
+                      <android.widget.ImageView content-desc="linkedin" displayed="true" enabled="true" bounds="[680,2200][780,2300]"/>
+                      <android.widget.TextView text="© 2024 Sauce Labs. All Rights Reserved." displayed="true" enabled="true" bounds="[100,2320][980,2380]"/>
+                    </android.view.ViewGroup>
+                  </android.view.ViewGroup>
+                </android.widget.ScrollView>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """.formatted(StubScreen.TOP_BAR, StubScreen.products()),
+            "//android.view.ViewGroup[@content-desc='store item'] | //android.view.ViewGroup[@content-desc='store footer']", 4),
+
+    LOGIN(false, """
+            <hierarchy rotation="0">
+              <android.widget.FrameLayout displayed="true" enabled="true" bounds="[0,0][1080,2400]">
+                %s
+                <android.widget.ScrollView content-desc="login screen" scrollable="false" displayed="true" enabled="true" bounds="[0,220][1080,2400]">
+                  <android.view.ViewGroup displayed="true" enabled="true" bounds="[0,220][1080,2400]">
+                    <android.view.ViewGroup content-desc="container header" displayed="true" enabled="true" bounds="[0,220][1080,340]">
+                      <android.widget.TextView text="Login" displayed="true" enabled="true" bounds="[40,240][400,320]"/>
+                    </android.view.ViewGroup>
+                    <android.widget.EditText content-desc="Username input field" text="" displayed="true" enabled="true" bounds="[40,600][1040,720]"/>
+                    <android.widget.EditText content-desc="Password input field" text="" password="true" displayed="true" enabled="true" bounds="[40,800][1040,920]"/>
+                    <android.view.ViewGroup content-desc="Login button" clickable="true" displayed="true" enabled="true" bounds="[40,1000][1040,1120]">
+                      <android.widget.TextView text="Login" displayed="true" enabled="true" bounds="[460,1030][620,1090]"/>
+                    </android.view.ViewGroup>
+                  </android.view.ViewGroup>
+                </android.widget.ScrollView>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """.formatted(StubScreen.TOP_BAR), null, 0),
+
+    SIDE_MENU(false, """
+            <hierarchy rotation="0">
+              <android.widget.FrameLayout displayed="true" enabled="true" bounds="[0,0][1080,2400]">
+                %s
+                <android.widget.ScrollView content-desc="menu" scrollable="true" displayed="true" enabled="true" bounds="[0,220][860,2400]">
+                  <android.view.ViewGroup displayed="true" enabled="true" bounds="[0,220][860,2400]">
+                    %s
+                  </android.view.ViewGroup>
+                </android.widget.ScrollView>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """.formatted(StubScreen.TOP_BAR, StubScreen.menuItems()), null, 0),
+
+    WEBVIEW(false, """
+            <hierarchy rotation="0">
+              <android.widget.FrameLayout displayed="true" enabled="true" bounds="[0,0][1080,2400]">
+                %s
+                <android.view.ViewGroup content-desc="container header" displayed="true" enabled="true" bounds="[0,220][1080,340]">
+                  <android.widget.TextView text="Webview" displayed="true" enabled="true" bounds="[40,240][400,320]"/>
+                </android.view.ViewGroup>
+                <android.widget.EditText content-desc="URL input field" text="" displayed="true" enabled="true" bounds="[40,600][1040,720]"/>
+                <android.view.ViewGroup content-desc="Go To Site button" clickable="true" displayed="true" enabled="true" bounds="[40,800][1040,920]">
+                  <android.widget.TextView text="Go To Site" displayed="true" enabled="true" bounds="[420,830][660,890]"/>
+                </android.view.ViewGroup>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """.formatted(StubScreen.TOP_BAR), null, 0),
+
+    SWAG_LABS_LOGIN(true, """
+            <html>
+              <body>
+                <div class="login_logo">Swag Labs</div>
+                <div class="login_wrapper">
+                  <form>
+                    <input id="user-name" name="user-name" class="input_error form_input" type="text" value=""/>
+                    <input id="password" name="password" class="input_error form_input" type="password" value=""/>
+                    <div class="error-message-container"></div>
+                    <input id="login-button" name="login-button" class="submit-button btn_action" type="submit" value="Login"/>
+                  </form>
+                </div>
+              </body>
+            </html>
+            """, null, 0),
+
+    SWAG_LABS_HOME(true, """
+            <html>
+              <body>
+                <div class="bm-menu-wrap" hidden="true">
+                  <nav class="bm-item-list">
+                    <a id="inventory_sidebar_link" class="bm-item menu-item">All Items</a>
+                    <a id="about_sidebar_link" class="bm-item menu-item">About</a>
+                    <a id="logout_sidebar_link" class="bm-item menu-item">Logout</a>
+                    <a id="reset_sidebar_link" class="bm-item menu-item">Reset App State</a>
+                  </nav>
+                  <button id="react-burger-cross-btn">Close Menu</button>
+                </div>
+                <div class="primary_header">
+                  <button id="react-burger-menu-btn">Open Menu</button>
+                  <div class="app_logo">Swag Labs</div>
+                  <div id="shopping_cart_container" class="shopping_cart_container">
+                    <a class="shopping_cart_link"></a>
+                  </div>
+                </div>
+                <div class="inventory_list">
+                  <div class="inventory_item"><div class="inventory_item_name">Sauce Labs Backpack</div></div>
+                  <div class="inventory_item"><div class="inventory_item_name">Sauce Labs Bike Light</div></div>
+                  <div class="inventory_item"><div class="inventory_item_name">Sauce Labs Bolt T-Shirt</div></div>
+                </div>
+              </body>
+            </html>
+            """, null, 0);
+
+    private static final String TOP_BAR = """
+            <android.view.ViewGroup content-desc="top bar" displayed="true" enabled="true" bounds="[0,80][1080,220]">
+                  <android.view.ViewGroup content-desc="open menu" clickable="true" displayed="true" enabled="true" bounds="[20,100][120,200]"/>
+                  <android.view.ViewGroup content-desc="longpress reset app" displayed="true" enabled="true" bounds="[440,100][640,200]">
+                    <android.widget.ImageView displayed="true" enabled="true" bounds="[440,100][640,200]"/>
+                  </android.view.ViewGroup>
+                  <android.view.ViewGroup content-desc="sort button" clickable="true" displayed="true" enabled="true" bounds="[860,100][960,200]"/>
+                  <android.view.ViewGroup content-desc="cart badge" clickable="true" displayed="true" enabled="true" bounds="[960,100][1060,200]"/>
+                </android.view.ViewGroup>""";
+
+    private final boolean web;
+    private final String source;
+    private final String scrollItems;
+    private final int visibleScrollItems;
+
+    StubScreen(boolean web, String source, String scrollItems, int visibleScrollItems) {
+        this.web = web;
+        this.source = source;
+        this.scrollItems = scrollItems;
+        this.visibleScrollItems = visibleScrollItems;
+    }
+
+    /**
+     * @return true for pages of the WebView, false for native screens.
+     */
+    boolean isWeb() {
+        return web;
+    }
+
+    String getSource() {
+        return source;
+    }
+
+    /**
+     * @return An XPath selecting the items of the scrollable list of the screen, in list order; null if the screen
+     * does not scroll.
+     */
+    String getScrollItems() {
+        return scrollItems;
+    }
+
+    /**
+     * @return How many items of the scrollable list are on screen at once.
+     */
+    int getVisibleScrollItems() {
+        return visibleScrollItems;
+    }
+
+    // Called while the constants are created, before any non-constant static field is initialized
+    private static String products() {
+        String[] names = {"Sauce Labs Backpack", "Sauce Labs Bike Light", "Sauce Labs Bolt T-Shirt", "Sauce Labs Fleece Jacket",
+                "Sauce Labs Onesie", "Test.allTheThings() T-Shirt"};
+        StringBuilder products = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            int top = 360 + i * 290;
+            products.append("""
+                    <android.view.ViewGroup content-desc="store item" displayed="true" enabled="true" bounds="[40,%d][1040,%d]">
+                            <android.widget.ImageView content-desc="Product Image" displayed="true" enabled="true" bounds="[60,%d][300,%d]"/>
+                            <android.widget.TextView content-desc="store item text" text="%s" displayed="true" enabled="true" bounds="[320,%d][1020,%d]"/>
+                            <android.widget.TextView content-desc="store item price" text="$29.99" displayed="true" enabled="true" bounds="[320,%d][600,%d]"/>
+                          </android.view.ViewGroup>
+                    """.formatted(top, top + 270, top + 10, top + 250, names[i], top + 20, top + 100, top + 120, top + 180));
+        }
+        return products.toString();
+    }
+
+    private static String menuItems() {
+        String[] names = {"catalog", "webview", "qr code scanner", "geo location", "drawing", "about", "reset app", "biometrics",
+                "log in", "log out", "api calls", "sauce bot video"};
+        StringBuilder menuItems = new StringBuilder();
+        for (int i = 0; i < names.length; i++) {
+            int top = 240 + i * 150;
+            menuItems.append("""
+                    <android.view.ViewGroup content-desc="menu item %s" clickable="true" displayed="true" enabled="true" bounds="[0,%d][860,%d]"/>
+                    """.formatted(names[i], top, top + 140));
+        }
+        return menuItems.toString();
+    }
+}
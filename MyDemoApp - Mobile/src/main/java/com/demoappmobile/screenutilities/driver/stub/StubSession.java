@@ -0,0 +1,591 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.transform.OutputKeys;
+import javax.xml.transform.Transformer;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamResult;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * One session of the {@link StubAppiumServer}: the state of the scripted demo app and the elements found in it.
+ * <p>
+ * The app starts on the catalog. The menu button opens the side menu, whose items lead to the login, the WebView
+ * screen and back to the catalog; items of screens that are not modelled close the menu. Logging in follows the
+ * rules of the real app for the users of {@code credentials.properties}. Going to a site on the WebView screen adds a
+ * WebView context serving the Swag Labs login and inventory pages.
+ * <p>
+ * Elements stay valid while their screen is shown, also when it changes, e.g. by typing or by an error message.
+ * Elements of a screen that was left are stale.
+ */
+final class StubSession {
+
+    static final String NATIVE_CONTEXT = "NATIVE_APP";
+    static final String WEBVIEW_CONTEXT = "WEBVIEW_com.saucelabs.mydemoapp.rn";
+    static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    private static final Set<String> SWAG_LABS_USERS = Set.of("standard_user", "problem_user", "performance_glitch_user",
+            "error_user", "visual_user");
+    private static final Pattern BOUNDS = Pattern.compile("\\[(-?\\d+),(-?\\d+)]\\[(-?\\d+),(-?\\d+)]");
+    private static final Pattern UI_SELECTOR = Pattern.compile("\\.(description|descriptionContains|text|textContains|resourceId|className)\\(\"((?:[^\"\\\\]|\\\\.)*)\"\\)");
+    private static final Pattern CSS_TYPE = Pattern.compile("^(\\*|[a-zA-Z][\\w-]*)?");
+    private static final Pattern CSS_QUALIFIER = Pattern.compile("#([\\w-]+)|\\.([\\w-]+)|\\[([\\w-]+)(?:=(?:'([^']*)'|\"([^\"]*)\"|([\\w-]+)))?]");
+    private static final ThreadLocal<DocumentBuilder> documentBuilders = ThreadLocal.withInitial(StubSession::newDocumentBuilder);
+    private static final ThreadLocal<Transformer> transformers = ThreadLocal.withInitial(StubSession::newTransformer);
+    private static final ThreadLocal<XPath> xPaths = ThreadLocal.withInitial(() -> XPathFactory.newInstance().newXPath());
+
+    private final String id;
+    private int nextViewId;
+    private View nativeView;
+    private View webView;
+    private String context = NATIVE_CONTEXT;
+    private boolean loggedIn;
+    private boolean running = true;
+
+    StubSession(String id) {
+        this.id = id;
+        this.nativeView = new View(StubScreen.CATALOG);
+    }
+
+    String getId() {
+        return id;
+    }
+
+    synchronized Map<String, Object> findElement(String using, String value, String parentId) {
+        List<Map<String, Object>> elements = findElements(using, value, parentId);
+        if (elements.isEmpty()) {
+            throw StubError.noSuchElement(using, value);
+        }
+        return elements.get(0);
+    }
+
+    synchronized List<Map<String, Object>> findElements(String using, String value, String parentId) {
+        View view = currentView();
+        Node root = parentId == null ? view.document : view.element(parentId);
+        String xpath = view.screen.isWeb() ? webXPath(using, value) : nativeXPath(using, value);
+        if (xpath == null) {
+            throw StubError.invalidSelector(using, value);
+        }
+        List<Map<String, Object>> references = new ArrayList<>();
+        for (Element element : evaluate(root, xpath)) {
+            String elementId = view.idOf(element);
+            references.add(Map.of(ELEMENT_KEY, elementId, "ELEMENT", elementId));
+        }
+        return references;
+    }
+
+    synchronized String getText(String elementId) {
+        View view = currentView();
+        Element element = view.element(elementId);
+        if (!view.screen.isWeb()) {
+            return element.getAttribute("text");
+        }
+        return element.getTagName().equals("input") ? "" : element.getTextContent().trim().replaceAll("\\s+", " ");
+    }
+
+    synchronized String getAttribute(String elementId, String name) {
+        Element element = currentView().element(elementId);
+        return element.hasAttribute(name) ? element.getAttribute(name) : null;
+    }
+
+    synchronized String getTagName(String elementId) {
+        return currentView().element(elementId).getTagName();
+    }
+
+    synchronized boolean isDisplayed(String elementId) {
+        View view = currentView();
+        Element element = view.element(elementId);
+        if (!view.screen.isWeb()) {
+            return !"false".equals(element.getAttribute("displayed"));
+        }
+        for (Node node = element; node instanceof Element ancestor; node = node.getParentNode()) {
+            if (ancestor.hasAttribute("hidden") || "hidden".equals(ancestor.getAttribute("type"))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    synchronized boolean isEnabled(String elementId) {
+        View view = currentView();
+        Element element = view.element(elementId);
+        return view.screen.isWeb() ? !element.hasAttribute("disabled") : !"false".equals(element.getAttribute("enabled"));
+    }
+
+    synchronized boolean isSelected(String elementId) {
+        View view = currentView();
+        Element element = view.element(elementId);
+        if (view.screen.isWeb()) {
+            return element.hasAttribute("checked") || element.hasAttribute("selected");
+        }
+        return "true".equals(element.getAttribute("selected")) || "true".equals(element.getAttribute("checked"));
+    }
+
+    synchronized Map<String, Object> getRect(String elementId) {
+        Matcher bounds = BOUNDS.matcher(currentView().element(elementId).getAttribute("bounds"));
+        if (!bounds.matches()) {
+            return Map.of("x", 0, "y", 0, "width", 100, "height", 40);
+        }
+        int left = Integer.parseInt(bounds.group(1));
+        int top = Integer.parseInt(bounds.group(2));
+        return Map.of("x", left, "y", top, "width", Integer.parseInt(bounds.group(3)) - left, "height", Integer.parseInt(bounds.group(4)) - top);
+    }
+
+    synchronized void click(String elementId) {
+        View view = currentView();
+        Element element = view.element(elementId);
+        if (view.screen.isWeb()) {
+            clickWeb(view, element.getAttribute("id"));
+        } else {
+            clickNative(view, element.getAttribute("content-desc"));
+        }
+    }
+
+    synchronized void sendKeys(String elementId, String text) {
+        View view = currentView();
+        String attribute = view.screen.isWeb() ? "value" : "text";
+        Element element = view.element(elementId);
+        element.setAttribute(attribute, element.getAttribute(attribute) + text);
+        view.changed();
+    }
+
+    synchronized void clear(String elementId) {
+        View view = currentView();
+        view.element(elementId).setAttribute(view.screen.isWeb() ? "value" : "text", "");
+        view.changed();
+    }
+
+    synchronized String getPageSource() {
+        return currentView().source();
+    }
+
+    synchronized List<String> getContexts() {
+        return webView == null ? List.of(NATIVE_CONTEXT) : List.of(NATIVE_CONTEXT, WEBVIEW_CONTEXT);
+    }
+
+    synchronized String getContext() {
+        return context;
+    }
+
+    synchronized void switchContext(String name) {
+        if (!getContexts().contains(name)) {
+            throw new StubError("no such context", 404, "No such context found: " + name);
+        }
+        context = name;
+    }
+
+    /**
+     * Performs W3C actions. A pointer moving up or down while pressed scrolls the list of the native screen by one
+     * item, like the swipes of the scroll search; everything else, like taps, changes nothing.
+     */
+    synchronized void performActions(List<?> inputSources) {
+        for (Object inputSource : inputSources) {
+            if (!(inputSource instanceof Map<?, ?> source) || !"pointer".equals(source.get("type"))) {
+                continue;
+            }
+            Number startY = null;
+            Number endY = null;
+            boolean pressed = false;
+            for (Object action : (List<?>) source.get("actions")) {
+                Map<?, ?> step = (Map<?, ?>) action;
+                switch (String.valueOf(step.get("type"))) {
+                    case "pointerDown" -> pressed = true;
+                    case "pointerUp" -> pressed = false;
+                    case "pointerMove" -> {
+                        if (pressed) {
+                            endY = (Number) step.get("y");
+                        } else {
+                            startY = (Number) step.get("y");
+                        }
+                    }
+                    default -> { }
+                }
+            }
+            if (startY != null && endY != null && endY.doubleValue() != startY.doubleValue() && context.equals(NATIVE_CONTEXT)) {
+                // Swiping up reveals the items further down the list
+                nativeView.scroll(endY.doubleValue() < startY.doubleValue() ? 1 : -1);
+            }
+        }
+    }
+
+    synchronized void terminateApp() {
+        running = false;
+    }
+
+    /**
+     * Brings the app to the foreground; an app that was terminated starts over on the catalog, logged out.
+     */
+    synchronized void activateApp() {
+        if (!running) {
+            running = true;
+            loggedIn = false;
+            webView = null;
+            context = NATIVE_CONTEXT;
+            nativeView = new View(StubScreen.CATALOG);
+        }
+    }
+
+    @Override
+    public String toString() {
+        Map<String, Object> state = new LinkedHashMap<>();
+        state.put("screen", nativeView.screen);
+        state.put("webView", webView == null ? null : webView.screen);
+        state.put("context", context);
+        state.put("loggedIn", loggedIn);
+        return "StubSession" + state;
+    }
+
+    private View currentView() {
+        if (context.equals(NATIVE_CONTEXT)) {
+            return nativeView;
+        }
+        if (webView == null) {
+            throw new StubError("no such window", 404, "The WebView of the context " + context + " was closed");
+        }
+        return webView;
+    }
+
+    private void clickNative(View view, String contentDescription) {
+        switch (contentDescription) {
+            case "open menu" -> showNative(StubScreen.SIDE_MENU);
+            case "menu item catalog" -> showNative(StubScreen.CATALOG);
+            // While logged in the app has nothing to log in to, it stays on the products
+            case "menu item log in" -> showNative(loggedIn ? StubScreen.CATALOG : StubScreen.LOGIN);
+            case "menu item log out" -> {
+                loggedIn = false;
+                showNative(StubScreen.LOGIN);
+            }
+            case "menu item webview" -> showNative(StubScreen.WEBVIEW);
+            case "Login button" -> logIn(view);
+            case "Go To Site button" -> goToSite(view);
+            default -> {
+                if (contentDescription.startsWith("menu item ")) {
+                    showNative(StubScreen.CATALOG);
+                }
+            }
+        }
+    }
+
+    private void showNative(StubScreen screen) {
+        if (nativeView.screen == StubScreen.WEBVIEW && screen != StubScreen.WEBVIEW) {
+            // Leaving the WebView screen destroys the WebView and its context
+            webView = null;
+        }
+        nativeView = new View(screen);
+    }
+
+    private void logIn(View view) {
+        String username = view.first("//*[@content-desc='Username input field']").getAttribute("text");
+        String password = view.first("//*[@content-desc='Password input field']").getAttribute("text");
+        if (username.equals("alice@example.com")) {
+            showLoginError(view, "Sorry, this user has been locked out.");
+        } else if (username.equals("bob@example.com") && password.equals("10203040")) {
+            loggedIn = true;
+            showNative(StubScreen.CATALOG);
+        } else {
+            showLoginError(view, "Provided credentials do not match any user in this service.");
+        }
+    }
+
+    private void showLoginError(View view, String message) {
+        Element loginButton = view.first("//*[@content-desc='Login button']");
+        Element previousError = view.first("//*[@content-desc='generic-error-message']");
+        if (previousError != null) {
+            previousError.getParentNode().removeChild(previousError);
+        }
+        Element error = view.document.createElement("android.view.ViewGroup");
+        error.setAttribute("content-desc", "generic-error-message");
+        error.setAttribute("displayed", "true");
+        error.setAttribute("enabled", "true");
+        error.setAttribute("bounds", "[40,940][1040,990]");
+        Element text = view.document.createElement("android.widget.TextView");
+        text.setAttribute("text", message);
+        text.setAttribute("displayed", "true");
+        text.setAttribute("enabled", "true");
+        text.setAttribute("bounds", "[40,940][1040,990]");
+        error.appendChild(text);
+        loginButton.getParentNode().insertBefore(error, loginButton);
+        view.changed();
+    }
+
+    private void goToSite(View view) {
+        if (!view.first("//*[@content-desc='URL input field']").getAttribute("text").isBlank()) {
+            webView = new View(StubScreen.SWAG_LABS_LOGIN);
+        }
+    }
+
+    private void clickWeb(View view, String elementId) {
+        switch (elementId) {
+            case "login-button" -> logInToSwagLabs(view);
+            case "react-burger-menu-btn" -> {
+                view.first("//div[@class='bm-menu-wrap']").removeAttribute("hidden");
+                view.changed();
+            }
+            case "react-burger-cross-btn" -> {
+                view.first("//div[@class='bm-menu-wrap']").setAttribute("hidden", "true");
+                view.changed();
+            }
+            case "inventory_sidebar_link" -> webView = new View(StubScreen.SWAG_LABS_HOME);
+            case "logout_sidebar_link" -> webView = new View(StubScreen.SWAG_LABS_LOGIN);
+            default -> { }
+        }
+    }
+
+    private void logInToSwagLabs(View view) {
+        String username = view.first("//input[@id='user-name']").getAttribute("value");
+        String password = view.first("//input[@id='password']").getAttribute("value");
+        String error;
+        if (username.isEmpty()) {
+            error = "Epic sadface: Username is required";
+        } else if (username.equals("locked_out_user")) {
+            error = "Epic sadface: Sorry, this user has been locked out.";
+        } else if (SWAG_LABS_USERS.contains(username) && password.equals("secret_sauce")) {
+            webView = new View(StubScreen.SWAG_LABS_HOME);
+            return;
+        } else {
+            error = "Epic sadface: Username and password do not match any user in this service";
+        }
+        Element container = view.first("//div[@class='error-message-container']");
+        container.setTextContent("");
+        Element heading = view.document.createElement("h3");
+        heading.setAttribute("data-test", "error");
+        heading.setTextContent(error);
+        container.appendChild(heading);
+        view.changed();
+    }
+
+    private static String nativeXPath(String using, String value) {
+        return switch (using) {
+            case "xpath" -> value;
+            case "accessibility id" -> "//*[@content-desc=" + literal(value) + "]";
+            case "id" -> "//*[@resource-id=" + literal(value) + "]";
+            case "class name" -> "//" + value;
+            case "-android uiautomator" -> uiSelectorXPath(value);
+            default -> null;
+        };
+    }
+
+    private static String webXPath(String using, String value) {
+        return switch (using) {
+            case "xpath" -> value;
+            case "id" -> "//*[@id=" + literal(value) + "]";
+            case "name" -> "//*[@name=" + literal(value) + "]";
+            case "tag name" -> "//" + value;
+            case "class name" -> "//*[" + hasClass(value) + "]";
+            case "link text" -> "//a[normalize-space(.)=" + literal(value) + "]";
+            case "css selector" -> cssXPath(value);
+            default -> null;
+        };
+    }
+
+    /**
+     * Translates the selector of the innermost {@code UiSelector}, e.g. the target of a {@code scrollIntoView}. The
+     * stub has no off-screen elements to scroll to, finding the target is all scrolling into view does.
+     */
+    private static String uiSelectorXPath(String uiAutomator) {
+        Matcher selector = UI_SELECTOR.matcher(uiAutomator);
+        String xpath = null;
+        while (selector.find()) {
+            String value = literal(selector.group(2).replace("\\\"", "\""));
+            xpath = switch (selector.group(1)) {
+                case "description" -> "//*[@content-desc=" + value + "]";
+                case "descriptionContains" -> "//*[contains(@content-desc, " + value + ")]";
+                case "text" -> "//*[@text=" + value + "]";
+                case "textContains" -> "//*[contains(@text, " + value + ")]";
+                case "resourceId" -> "//*[@resource-id=" + value + "]";
+                default -> "//" + selector.group(2);
+            };
+        }
+        return xpath;
+    }
+
+    /**
+     * Translates CSS selectors made of type, id, class and attribute selectors joined by descendant or child
+     * combinators, which covers the selectors of the WebView screens. Anything else is not supported.
+     */
+    static String cssXPath(String css) {
+        StringBuilder xpath = new StringBuilder();
+        String axis = "//";
+        for (String compound : css.trim().replaceAll("\\s*>\\s*", " > ").split("\\s+")) {
+            if (compound.equals(">")) {
+                axis = "/";
+                continue;
+            }
+            Matcher type = CSS_TYPE.matcher(compound);
+            type.lookingAt();
+            xpath.append(axis).append(type.group(1) == null ? "*" : type.group(1));
+            Matcher qualifier = CSS_QUALIFIER.matcher(compound);
+            int position = type.end();
+            while (position < compound.length()) {
+                if (!qualifier.find(position) || qualifier.start() != position) {
+                    return null;
+                }
+                if (qualifier.group(1) != null) {
+                    xpath.append("[@id=").append(literal(qualifier.group(1))).append(']');
+                } else if (qualifier.group(2) != null) {
+                    xpath.append('[').append(hasClass(qualifier.group(2))).append(']');
+                } else {
+                    String expected = qualifier.group(4) != null ? qualifier.group(4) : qualifier.group(5) != null ? qualifier.group(5) : qualifier.group(6);
+                    xpath.append("[@").append(qualifier.group(3)).append(expected == null ? "" : "=" + literal(expected)).append(']');
+                }
+                position = qualifier.end();
+            }
+            axis = "//";
+        }
+        return xpath.isEmpty() ? null : xpath.toString();
+    }
+
+    private static String hasClass(String className) {
+        return "contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + className + " ") + ")";
+    }
+
+    private static String literal(String value) {
+        if (!value.contains("'")) {
+            return "'" + value + "'";
+        }
+        if (!value.contains("\"")) {
+            return "\"" + value + "\"";
+        }
+        return "concat('" + value.replace("'", "', \"'\", '") + "')";
+    }
+
+    private static List<Element> evaluate(Node root, String xpath) {
+        NodeList nodes;
+        try {
+            nodes = (NodeList) xPaths.get().evaluate(xpath, root, XPathConstants.NODESET);
+        } catch (XPathExpressionException e) {
+            throw StubError.invalidSelector("xpath", xpath);
+        }
+        List<Element> elements = new ArrayList<>(nodes.getLength());
+        for (int i = 0; i < nodes.getLength(); i++) {
+            if (nodes.item(i) instanceof Element element) {
+                elements.add(element);
+            }
+        }
+        return elements;
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("No XML parser available", e);
+        }
+    }
+
+    private static Transformer newTransformer() {
+        try {
+            Transformer transformer = TransformerFactory.newInstance().newTransformer();
+            transformer.setOutputProperty(OutputKeys.ENCODING, "UTF-8");
+            transformer.setOutputProperty(OutputKeys.STANDALONE, "yes");
+            return transformer;
+        } catch (TransformerException e) {
+            throw new IllegalStateException("No XML serializer available", e);
+        }
+    }
+
+    /**
+     * A screen as currently shown: its hierarchy, the ids of the elements found in it and the scroll position of
+     * its list.
+     */
+    private final class View {
+
+        private final StubScreen screen;
+        private final Document document;
+        private final String idPrefix = id + "-" + nextViewId++ + "-";
+        private final Map<String, Element> elementsById = new HashMap<>();
+        private final Map<Element, String> idsByElement = new IdentityHashMap<>();
+        private int scrollPosition;
+        private String source;
+
+        private View(StubScreen screen) {
+            this.screen = screen;
+            try {
+                this.document = documentBuilders.get().parse(new InputSource(new StringReader(screen.getSource())));
+            } catch (SAXException | IOException e) {
+                throw new IllegalStateException("Invalid source of " + screen, e);
+            }
+            scroll(0);
+        }
+
+        private Element element(String elementId) {
+            Element element = elementsById.get(elementId);
+            if (element == null) {
+                throw StubError.staleElement(elementId);
+            }
+            return element;
+        }
+
+        private String idOf(Element element) {
+            return idsByElement.computeIfAbsent(element, found -> {
+                String elementId = idPrefix + elementsById.size();
+                elementsById.put(elementId, found);
+                return elementId;
+            });
+        }
+
+        private Element first(String xpath) {
+            List<Element> elements = evaluate(document, xpath);
+            return elements.isEmpty() ? null : elements.get(0);
+        }
+
+        private void scroll(int items) {
+            if (screen.getScrollItems() == null) {
+                return;
+            }
+            List<Element> scrollItems = evaluate(document, screen.getScrollItems());
+            int lastPosition = Math.max(0, scrollItems.size() - screen.getVisibleScrollItems());
+            scrollPosition = Math.max(0, Math.min(lastPosition, scrollPosition + items));
+            for (int i = 0; i < scrollItems.size(); i++) {
+                String displayed = String.valueOf(i >= scrollPosition && i < scrollPosition + screen.getVisibleScrollItems());
+                for (Element element : evaluate(scrollItems.get(i), "descendant-or-self::*")) {
+                    element.setAttribute("displayed", displayed);
+                }
+            }
+            changed();
+        }
+
+        private void changed() {
+            source = null;
+        }
+
+        private String source() {
+            if (source == null) {
+                StringWriter writer = new StringWriter();
+                try {
+                    transformers.get().transform(new DOMSource(document), new StreamResult(writer));
+                } catch (TransformerException e) {
+                    throw new IllegalStateException("Failed to serialize " + screen, e);
+                }
+                source = writer.toString();
+            }
+            return source;
+        }
+    }
+}
@@ -0,0 +1,26 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import com.demoappmobile.screenutilities.driver.AppiumSessionFactory;
+import com.demoappmobile.screenutilities.driver.DriverFactory;
+import org.openqa.selenium.WebDriver;
+
+/**
+ * Creates sessions of a {@link StubAppiumServer} for a {@link com.demoappmobile.screenutilities.driver.SessionPool}.
+ * Health checks and resets are the ones of real Appium sessions, the stub answers them like Appium does.
+ */
+public class StubSessionFactory extends AppiumSessionFactory {
+
+    private final StubAppiumServer server;
+
+    public StubSessionFactory(StubAppiumServer server) {
+        super("STUB");
+        this.server = server;
+    }
+
+    @Override
+    public DriverFactory<? extends WebDriver> create(String deviceName) {
+        StubDriverSetup driverSetup = new StubDriverSetup(server);
+        driverSetup.initDriver(deviceName);
+        return driverSetup;
+    }
+}
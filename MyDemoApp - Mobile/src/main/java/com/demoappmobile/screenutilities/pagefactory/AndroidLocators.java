@@ -0,0 +1,54 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import org.openqa.selenium.By;
+
+import java.lang.reflect.Field;
+
+/**
+ * Reads the Android locator of a field from its {@link AndroidFindBy} annotation. The locators Appium builds for
+ * PageFactory are wrapped into chains that cannot be inspected, so the simple, single-strategy annotations are read
+ * directly.
+ */
+final class AndroidLocators {
+
+    private AndroidLocators() {
+        // Prevent instantiation
+    }
+
+    /**
+     * @return The locator of the field, or null if the field has no single {@link AndroidFindBy} annotation with
+     * exactly one strategy.
+     */
+    static By of(Field field) {
+        AndroidFindBy[] annotations = field.getAnnotationsByType(AndroidFindBy.class);
+        if (annotations.length != 1) {
+            return null;
+        }
+        AndroidFindBy annotation = annotations[0];
+        By locator = null;
+        int strategies = 0;
+        if (!annotation.accessibility().isEmpty()) {
+            locator = AppiumBy.accessibilityId(annotation.accessibility());
+            strategies++;
+        }
+        if (!annotation.id().isEmpty()) {
+            locator = AppiumBy.id(annotation.id());
+            strategies++;
+        }
+        if (!annotation.xpath().isEmpty()) {
+            locator = By.xpath(annotation.xpath());
+            strategies++;
+        }
+        if (!annotation.className().isEmpty()) {
+            locator = AppiumBy.className(annotation.className());
+            strategies++;
+        }
+        if (!annotation.uiAutomator().isEmpty()) {
+            locator = AppiumBy.androidUIAutomator(annotation.uiAutomator());
+            strategies++;
+        }
+        return strategies == 1 ? locator : null;
+    }
+}
@@ -0,0 +1,26 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a screen into caching its located elements. The {@code WebElement} fields of an annotated screen are decorated
+ * by a {@link CachingFieldDecorator}, which locates every element once and reuses it until it turns stale or the
+ * context is switched, instead of locating it again on every method call.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @CacheElements
+ * public class Login extends BasicScreen {
+ *
+ *     @AndroidFindBy(accessibility = "Username input field")
+ *     private WebElement usernameField;
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface CacheElements {
+}
@@ -0,0 +1,103 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import io.appium.java_client.internal.CapabilityHelpers;
+import io.appium.java_client.pagefactory.AppiumElementLocatorFactory;
+import io.appium.java_client.pagefactory.AppiumFieldDecorator;
+import io.appium.java_client.pagefactory.DefaultElementByBuilder;
+import org.openqa.selenium.HasCapabilities;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.ElementLocatorFactory;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+
+/**
+ * A field decorator that locates the element of a {@code WebElement} field once and reuses it, where the proxies of
+ * {@link AppiumFieldDecorator} locate the element again on every method call. Elements are located with the same
+ * Appium annotations and locators, and kept in an {@link ElementCache} owned by the screen.
+ * <p>
+ * A cached element that turned stale is dropped and located once more, and the call is repeated on the fresh
+ * element. Lists and widget fields are left to {@link AppiumFieldDecorator}.
+ */
+public class CachingFieldDecorator implements FieldDecorator {
+
+    private final ElementLocatorFactory locatorFactory;
+    private final FieldDecorator delegate;
+    private final ElementCache cache;
+
+    /**
+     * @param driver The driver the elements are located with.
+     * @param cache  The cache of the decorated screen.
+     */
+    public CachingFieldDecorator(WebDriver driver, ElementCache cache) {
+        this(new AppiumElementLocatorFactory(driver, AppiumFieldDecorator.DEFAULT_WAITING_TIMEOUT,
+                        new DefaultElementByBuilder(readCapability(driver, "platformName"), readCapability(driver, "automationName"))),
+                new AppiumFieldDecorator(driver), cache);
+    }
+
+    CachingFieldDecorator(ElementLocatorFactory locatorFactory, FieldDecorator delegate, ElementCache cache) {
+        this.locatorFactory = locatorFactory;
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Object decorate(ClassLoader loader, Field field) {
+        if (field.getType() != WebElement.class) {
+            return delegate.decorate(loader, field);
+        }
+        ElementLocator locator = locatorFactory.createLocator(field);
+        if (locator == null) {
+            return null;
+        }
+        return Proxy.newProxyInstance(loader, new Class<?>[]{WebElement.class}, new CachedElementHandler(field, locator, cache));
+    }
+
+    private static String readCapability(WebDriver driver, String name) {
+        if (driver instanceof HasCapabilities hasCapabilities) {
+            // The platform name is a Platform rather than a String once the session has been created
+            Object value = CapabilityHelpers.getCapability(hasCapabilities.getCapabilities(), name, Object.class);
+            return value == null ? null : String.valueOf(value);
+        }
+        return null;
+    }
+
+    /**
+     * Forwards every call to the cached element of one field. Deliberately does not implement
+     * {@link org.openqa.selenium.WrapsElement}: callers unwrapping the element would keep using it after it turned
+     * stale, while calls through the proxy recover from that.
+     */
+    private record CachedElementHandler(Field field, ElementLocator locator, ElementCache cache) implements InvocationHandler {
+
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "equals" -> proxy == args[0];
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    default -> locator.toString();
+                };
+            }
+            try {
+                return method.invoke(cache.resolve(field, locator), args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+            }
+            cache.invalidate(field);
+            try {
+                return method.invoke(cache.resolve(field, locator), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
@@ -0,0 +1,94 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+
+import java.lang.reflect.Field;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+/**
+ * The elements located for the fields of one screen instance. Entries are dropped when their element turns stale and
+ * all of them are dropped once the context generation changes, because elements of another context cannot be used.
+ * A cache belongs to the screen and thereby to the thread that created it and must not be shared.
+ */
+public class ElementCache {
+
+    private final Map<Field, WebElement> elements = new HashMap<>();
+    private final IntSupplier contextGeneration;
+    private int cachedGeneration;
+    private long hits;
+    private long misses;
+    private long invalidations;
+
+    /**
+     * @param contextGeneration Supplies a number that changes whenever the context of the session is switched.
+     */
+    public ElementCache(IntSupplier contextGeneration) {
+        this.contextGeneration = contextGeneration;
+        this.cachedGeneration = contextGeneration.getAsInt();
+    }
+
+    /**
+     * Returns the cached element of a field, locating and caching it first if necessary.
+     *
+     * @param field   The decorated field.
+     * @param locator The locator of the field.
+     * @return The located element.
+     */
+    WebElement resolve(Field field, ElementLocator locator) {
+        int generation = contextGeneration.getAsInt();
+        if (generation != cachedGeneration) {
+            invalidations += elements.size();
+            elements.clear();
+            cachedGeneration = generation;
+        }
+        WebElement element = elements.get(field);
+        if (element != null) {
+            hits++;
+            return element;
+        }
+        misses++;
+        element = locator.findElement();
+        elements.put(field, element);
+        return element;
+    }
+
+    /**
+     * Drops the cached element of a field, so that it is located again on its next use.
+     *
+     * @param field The decorated field.
+     */
+    void invalidate(Field field) {
+        if (elements.remove(field) != null) {
+            invalidations++;
+        }
+    }
+
+    /**
+     * @return How often a cached element was reused instead of located.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return How often an element had to be located.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return How many cached elements were dropped because they turned stale or the context was switched.
+     */
+    public long getInvalidations() {
+        return invalidations;
+    }
+
+    @Override
+    public String toString() {
+        return "ElementCache[hits=" + hits + ", misses=" + misses + ", invalidations=" + invalidations + "]";
+    }
+}
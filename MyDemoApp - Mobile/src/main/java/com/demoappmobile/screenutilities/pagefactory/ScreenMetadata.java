@@ -0,0 +1,156 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import io.appium.java_client.pagefactory.AndroidFindBy;
+import io.appium.java_client.pagefactory.Widget;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.pagefactory.FieldDecorator;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * What PageFactory needs to know about a screen class, computed once per class instead of on every screen
+ * construction: the fields a decorator can fill, already made accessible, and the constructor taking a driver.
+ * <p>
+ * {@link #initElements(FieldDecorator, Object)} does what {@code PageFactory.initElements} does, without walking the
+ * class hierarchy and its annotations again for every screen instance.
+ */
+public final class ScreenMetadata {
+
+    private static final ClassValue<ScreenMetadata> metadata = new ClassValue<>() {
+        @Override
+        protected ScreenMetadata computeValue(Class<?> type) {
+            return new ScreenMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Field[] decoratedFields;
+    private Constructor<?> driverConstructor;
+    private Map<Field, By> fieldLocators;
+
+    private ScreenMetadata(Class<?> type) {
+        this.type = type;
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> declaringClass = type; declaringClass != Object.class; declaringClass = declaringClass.getSuperclass()) {
+            for (Field field : declaringClass.getDeclaredFields()) {
+                if (isDecorated(field)) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        this.decoratedFields = fields.toArray(new Field[0]);
+    }
+
+    public static ScreenMetadata of(Class<?> type) {
+        return metadata.get(type);
+    }
+
+    /**
+     * Fills the element fields of a screen with the proxies created by the decorator.
+     *
+     * @param decorator The decorator creating the proxies.
+     * @param screen    The screen to fill, an instance of the class of this metadata.
+     */
+    public void initElements(FieldDecorator decorator, Object screen) {
+        ClassLoader loader = type.getClassLoader();
+        try {
+            for (Field field : decoratedFields) {
+                Object value = decorator.decorate(loader, field);
+                if (value != null) {
+                    field.set(screen, value);
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot initialise the elements of " + type.getName(), e);
+        }
+    }
+
+    /**
+     * Reads the Android locators of the {@code WebElement} fields of a screen from their {@link AndroidFindBy}
+     * annotations.
+     *
+     * @param screen The screen, with its element fields already filled.
+     * @return The locator of every element that has one, keyed by the element the field holds and compared by
+     * identity.
+     */
+    public Map<Object, By> androidLocators(Object screen) {
+        // PageFactory proxies locate their element in equals and hashCode
+        Map<Object, By> locators = new IdentityHashMap<>();
+        try {
+            for (Map.Entry<Field, By> fieldLocator : fieldLocators().entrySet()) {
+                Object element = fieldLocator.getKey().get(screen);
+                if (element != null) {
+                    locators.put(element, fieldLocator.getValue());
+                }
+            }
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Cannot read the elements of " + type.getName(), e);
+        }
+        return locators;
+    }
+
+    /**
+     * @return The Android locator of every {@code WebElement} field of the screen class that has a single-strategy
+     * {@link AndroidFindBy} annotation.
+     */
+    public Map<Field, By> fieldLocators() {
+        if (fieldLocators == null) {
+            Map<Field, By> locators = new LinkedHashMap<>();
+            for (Field field : decoratedFields) {
+                By locator = field.getType() == WebElement.class ? AndroidLocators.of(field) : null;
+                if (locator != null) {
+                    locators.put(field, locator);
+                }
+            }
+            fieldLocators = Collections.unmodifiableMap(locators);
+        }
+        return fieldLocators;
+    }
+
+    /**
+     * Creates an instance of the screen class with its constructor taking a {@link WebDriver}.
+     *
+     * @param driver The driver of the screen.
+     * @return The new screen.
+     */
+    public Object newScreen(WebDriver driver) {
+        try {
+            return driverConstructor().newInstance(driver);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Cannot create screen " + type.getName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Cannot create screen " + type.getName(), e);
+        }
+    }
+
+    private Constructor<?> driverConstructor() throws NoSuchMethodException {
+        // Looked up lazily, components are decorated like screens but may not be created through a registry
+        if (driverConstructor == null) {
+            driverConstructor = type.getConstructor(WebDriver.class);
+        }
+        return driverConstructor;
+    }
+
+    private static boolean isDecorated(Field field) {
+        if (Modifier.isStatic(field.getModifiers()) || Modifier.isFinal(field.getModifiers())) {
+            return false;
+        }
+        Class<?> fieldType = field.getType();
+        return WebElement.class.isAssignableFrom(fieldType) || List.class.isAssignableFrom(fieldType) || Widget.class.isAssignableFrom(fieldType);
+    }
+}
@@ -0,0 +1,31 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a native screen into answering visibility checks from page-source snapshots on Android. The
+ * {@code AndroidFindBy} locators of its {@code WebElement} fields are evaluated locally on a snapshot of the screen,
+ * fetched once and reused until a command may have changed the screen, instead of being looked up on the device one
+ * by one. Only clicks, typing and the other interactions still go to the device.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @SnapshotLookups
+ * public class Catalog extends BasicScreen {
+ *
+ *     @AndroidFindBy(xpath = "//android.widget.TextView[@text='Products']")
+ *     private WebElement productsHeader;
+ *
+ *     public boolean isProductHeaderVisible() {
+ *         return isElementVisible(productsHeader);
+ *     }
+ * }
+ * }</pre>
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target(ElementType.TYPE)
+public @interface SnapshotLookups {
+}
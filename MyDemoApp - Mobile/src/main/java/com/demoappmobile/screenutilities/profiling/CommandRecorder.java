@@ -0,0 +1,329 @@
+package com.demoappmobile.screenutilities.profiling;
+
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.Response;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Predicate;
+
+/**
+ * Records every WebDriver command sent to the Appium server: when it started, how long the round trip took, the size
+ * of its request and response payloads and whether it succeeded. Commands are attributed to the running test method
+ * and to the screen methods on the call stack, which answers where the wall time of a test goes:
+ * <ul>
+ *     <li>the round trips, which is Appium's HTTP handling and the time the device needs; the client cannot tell the
+ *     two apart, Appium reports no timing of its own;</li>
+ *     <li>everything else, the time the test spends in the framework, its waits and its own code.</li>
+ * </ul>
+ * Three outputs are written at the end of a suite: the raw commands as JSON lines, a JSON report aggregated per test
+ * method and per screen method, and the folded stacks read by flame-graph tools such as {@code flamegraph.pl} or
+ * speedscope, in microseconds.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @BeforeSuite
+ * public void enableCommandRecorder() {
+ *     CommandRecorder.install(new CommandRecorder(BasicScreen.class::isAssignableFrom));
+ * }
+ *
+ * @BeforeMethod
+ * public void startRecording(Method method) {
+ *     CommandRecorder.installed().startTest(method.getDeclaringClass().getSimpleName() + "." + method.getName());
+ * }
+ *
+ * @AfterMethod
+ * public void stopRecording() {
+ *     CommandRecorder.installed().endTest();
+ * }
+ * }</pre>
+ */
+public final class CommandRecorder {
+
+    static final String NO_TEST = "(no test)";
+    static final String NO_SCREEN = "-";
+    static final String FRAMEWORK_FRAME = "(framework)";
+    private static final int MAX_RECORDS = 100_000;
+    private static final StackWalker stackWalker = StackWalker.getInstance(StackWalker.Option.RETAIN_CLASS_REFERENCE);
+    private static volatile CommandRecorder installed;
+
+    private final Predicate<Class<?>> isScreen;
+    private final Json json = new Json();
+    private final ThreadLocal<RunningTest> runningTest = new ThreadLocal<>();
+    private final Queue<CommandRecord> records = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger recordCount = new AtomicInteger();
+    private final LongAdder droppedRecords = new LongAdder();
+    private final ConcurrentMap<String, Aggregate> perTest = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Aggregate> perScreenMethod = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, LongAdder> foldedStacks = new ConcurrentHashMap<>();
+
+    /**
+     * @param isScreen Tells the classes whose methods count as screen methods, e.g. the subclasses of the basic screen.
+     */
+    public CommandRecorder(Predicate<Class<?>> isScreen) {
+        this.isScreen = isScreen;
+    }
+
+    /**
+     * Starts recording the commands of all sessions with the given recorder, or stops recording if it is null.
+     */
+    public static void install(CommandRecorder recorder) {
+        installed = recorder;
+    }
+
+    /**
+     * @return The installed recorder, or null if commands are not recorded.
+     */
+    public static CommandRecorder installed() {
+        return installed;
+    }
+
+    /**
+     * Attributes the commands of the calling thread to a test method until {@link #endTest()}.
+     *
+     * @param testName The name of the test method.
+     */
+    public void startTest(String testName) {
+        runningTest.set(new RunningTest(sanitize(testName), System.nanoTime()));
+    }
+
+    /**
+     * Ends the test method of the calling thread, booking the time it spent outside of commands as framework time.
+     */
+    public void endTest() {
+        RunningTest test = runningTest.get();
+        if (test == null) {
+            return;
+        }
+        runningTest.remove();
+        long wallNanos = System.nanoTime() - test.startNanos;
+        Aggregate aggregate = perTest.computeIfAbsent(test.name, name -> new Aggregate());
+        aggregate.wallNanos.add(wallNanos);
+        long frameworkMicros = Math.max(0, wallNanos - test.commandNanos) / 1_000;
+        foldedStacks.computeIfAbsent(test.name + ";" + FRAMEWORK_FRAME, stack -> new LongAdder()).add(frameworkMicros);
+    }
+
+    /**
+     * Records one executed command. Called by the command executor for every command, successful or not.
+     *
+     * @param command       The command.
+     * @param response      The response of the command, or null if it threw.
+     * @param failure       The exception the command threw, or null.
+     * @param startNanos    The {@link System#nanoTime()} the command was sent at.
+     * @param durationNanos How long the round trip took.
+     */
+    public void record(Command command, Response response, RuntimeException failure, long startNanos, long durationNanos) {
+        RunningTest test = runningTest.get();
+        String testName = test == null ? NO_TEST : test.name;
+        if (test != null) {
+            test.commandNanos += durationNanos;
+        }
+        List<String> screenFrames = screenFrames();
+        String screenMethod = screenFrames.isEmpty() ? NO_SCREEN : screenFrames.get(screenFrames.size() - 1);
+        String result = failure != null ? failure.getClass().getSimpleName() : response == null || response.getState() == null ? "success" : response.getState();
+        int requestSize = sizeOf(command.getParameters());
+        int responseSize = response == null ? 0 : sizeOf(response.getValue());
+        boolean failed = !"success".equals(result);
+
+        perTest.computeIfAbsent(testName, name -> new Aggregate()).add(durationNanos, requestSize, responseSize, failed);
+        perScreenMethod.computeIfAbsent(screenMethod, name -> new Aggregate()).add(durationNanos, requestSize, responseSize, failed);
+        StringBuilder stack = new StringBuilder(testName);
+        for (String frame : screenFrames) {
+            stack.append(';').append(frame);
+        }
+        stack.append(';').append(command.getName());
+        foldedStacks.computeIfAbsent(stack.toString(), key -> new LongAdder()).add(durationNanos / 1_000);
+
+        if (recordCount.incrementAndGet() <= MAX_RECORDS) {
+            long startMillis = System.currentTimeMillis() - (System.nanoTime() - startNanos) / 1_000_000;
+            records.add(new CommandRecord(startMillis, durationNanos / 1_000, Thread.currentThread().getName(), testName, screenMethod,
+                    command.getName(), requestSize, responseSize, result));
+        } else {
+            droppedRecords.increment();
+        }
+    }
+
+    /**
+     * Builds the report: the commands aggregated per test method and per screen method, each sorted by the time spent
+     * in commands in descending order.
+     *
+     * @return The report as nested maps and lists, ready to be serialized to JSON.
+     */
+    public Map<String, Object> toReport() {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("droppedRecords", droppedRecords.sum());
+        report.put("tests", toReport(perTest, "test"));
+        report.put("screenMethods", toReport(perScreenMethod, "screenMethod"));
+        return report;
+    }
+
+    /**
+     * Writes the report, the raw commands and the folded stacks into a directory, creating it if missing:
+     * {@code command-report.json}, {@code commands.jsonl} and {@code commands.folded}.
+     *
+     * @param directory The directory to write to.
+     */
+    public void writeReports(Path directory) {
+        try {
+            Files.createDirectories(directory);
+            Files.writeString(directory.resolve("command-report.json"), json.toJson(toReport()), StandardCharsets.UTF_8);
+            try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve("commands.jsonl"), StandardCharsets.UTF_8)) {
+                for (CommandRecord record : records) {
+                    writer.write(json.toJson(record.toMap()).replace("\n", ""));
+                    writer.newLine();
+                }
+            }
+            try (BufferedWriter writer = Files.newBufferedWriter(directory.resolve("commands.folded"), StandardCharsets.UTF_8)) {
+                for (Map.Entry<String, Long> stack : foldedStacks()) {
+                    writer.write(stack.getKey() + " " + stack.getValue());
+                    writer.newLine();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write command reports to " + directory, e);
+        }
+    }
+
+    /**
+     * @return The folded stacks with their time in microseconds, sorted by stack.
+     */
+    List<Map.Entry<String, Long>> foldedStacks() {
+        return foldedStacks.entrySet()
+                           .stream()
+                           .filter(entry -> entry.getValue().sum() > 0)
+                           .map(entry -> Map.entry(entry.getKey(), entry.getValue().sum()))
+                           .sorted(Map.Entry.comparingByKey())
+                           .toList();
+    }
+
+    private List<String> screenFrames() {
+        // Outermost screen method first, as flame graphs expect
+        List<String> frames = stackWalker.walk(stream -> stream.filter(frame -> isScreen.test(frame.getDeclaringClass()))
+                                                             .map(frame -> frame.getDeclaringClass().getSimpleName() + "." + frame.getMethodName())
+                                                             .toList());
+        List<String> outermostFirst = new ArrayList<>(frames.size());
+        for (int i = frames.size() - 1; i >= 0; i--) {
+            // Overloads and recursion call into the same method, which is one frame of the graph
+            if (outermostFirst.isEmpty() || !outermostFirst.get(outermostFirst.size() - 1).equals(frames.get(i))) {
+                outermostFirst.add(frames.get(i));
+            }
+        }
+        return outermostFirst;
+    }
+
+    private int sizeOf(Object payload) {
+        if (payload == null) {
+            return 0;
+        }
+        if (payload instanceof String text) {
+            return text.length();
+        }
+        if (payload instanceof Map<?, ?> map && map.isEmpty()) {
+            return 0;
+        }
+        try {
+            return json.toJson(payload).length();
+        } catch (RuntimeException e) {
+            return -1;
+        }
+    }
+
+    private static List<Map<String, Object>> toReport(Map<String, Aggregate> aggregates, String keyName) {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        aggregates.entrySet()
+                  .stream()
+                  .sorted(Comparator.comparingLong((Map.Entry<String, Aggregate> entry) -> entry.getValue().commandNanos.sum())
+                                    .reversed()
+                                    .thenComparing(Map.Entry::getKey))
+                  .forEach(entry -> entries.add(entry.getValue().toReport(keyName, entry.getKey())));
+        return entries;
+    }
+
+    private static String sanitize(String frame) {
+        // Semicolons separate frames and the last space separates the value in the folded format
+        return frame.replace(';', ',').replace(' ', '_');
+    }
+
+    private static final class RunningTest {
+
+        private final String name;
+        private final long startNanos;
+        private long commandNanos;
+
+        private RunningTest(String name, long startNanos) {
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+    }
+
+    private static final class Aggregate {
+
+        private final LongAdder commands = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder commandNanos = new LongAdder();
+        private final LongAdder requestSize = new LongAdder();
+        private final LongAdder responseSize = new LongAdder();
+        private final LongAdder wallNanos = new LongAdder();
+
+        private void add(long durationNanos, int requestChars, int responseChars, boolean failed) {
+            commands.increment();
+            commandNanos.add(durationNanos);
+            requestSize.add(Math.max(0, requestChars));
+            responseSize.add(Math.max(0, responseChars));
+            if (failed) {
+                failures.increment();
+            }
+        }
+
+        private Map<String, Object> toReport(String keyName, String key) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put(keyName, key);
+            report.put("commands", commands.sum());
+            report.put("failures", failures.sum());
+            report.put("commandMs", commandNanos.sum() / 1_000_000.0);
+            if (wallNanos.sum() > 0) {
+                report.put("wallMs", wallNanos.sum() / 1_000_000.0);
+                report.put("frameworkMs", Math.max(0, wallNanos.sum() - commandNanos.sum()) / 1_000_000.0);
+            }
+            report.put("requestChars", requestSize.sum());
+            report.put("responseChars", responseSize.sum());
+            return report;
+        }
+    }
+
+    private record CommandRecord(long startMillis, long durationMicros, String thread, String test, String screenMethod,
+                                 String command, int requestChars, int responseChars, String result) {
+
+        private Map<String, Object> toMap() {
+            Map<String, Object> fields = new LinkedHashMap<>();
+            fields.put("startMillis", startMillis);
+            fields.put("durationMicros", durationMicros);
+            fields.put("thread", thread);
+            fields.put("test", test);
+            fields.put("screenMethod", screenMethod);
+            fields.put("command", command);
+            fields.put("requestChars", requestChars);
+            fields.put("responseChars", responseChars);
+            fields.put("result", result);
+            return fields;
+        }
+    }
+}
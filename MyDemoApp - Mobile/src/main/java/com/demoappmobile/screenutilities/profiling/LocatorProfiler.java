@@ -0,0 +1,209 @@
+package com.demoappmobile.screenutilities.profiling;
+
+import com.demoappmobile.screenutilities.action.retry.LatencyHistogram;
+import com.demoappmobile.screenutilities.snapshot.PageSourceSnapshot;
+import org.openqa.selenium.By;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.reflect.Field;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+/**
+ * Times every element lookup sent to the Appium server, whether issued by {@code ElementFinder}, PageFactory proxies
+ * or the driver directly, and attributes it to the screen field whose annotation declares the locator. Lookups by
+ * XPath, the slowest strategy on UiAutomator2, are checked once against the page source: if the element they find
+ * has a unique accessibility id or resource id, that faster locator is proposed.
+ * <p>
+ * At the end of a suite, {@link #writeReport(Path)} exports the locators as JSON, slowest in total first.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * @BeforeSuite
+ * public void enableLocatorProfiler() {
+ *     LocatorProfiler.install(new LocatorProfiler());
+ * }
+ *
+ * @AfterSuite
+ * public void exportLocatorProfile() {
+ *     LocatorProfiler.installed().writeReport(Path.of("target", "locator-report.json"));
+ * }
+ * }</pre>
+ */
+public final class LocatorProfiler {
+
+    private static final Set<String> LOOKUP_COMMANDS = Set.of(DriverCommand.FIND_ELEMENT, DriverCommand.FIND_ELEMENTS,
+            DriverCommand.FIND_CHILD_ELEMENT, DriverCommand.FIND_CHILD_ELEMENTS);
+    private static final String NO_FIELD = "-";
+    private static volatile LocatorProfiler installed;
+
+    private final ConcurrentMap<LocatorKey, LocatorStatistics> statistics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<LocatorKey, String> fieldNames = new ConcurrentHashMap<>();
+    private final Set<Class<?>> registeredScreens = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Starts profiling the lookups of all sessions with the given profiler, or stops profiling if it is null.
+     */
+    public static void install(LocatorProfiler profiler) {
+        installed = profiler;
+    }
+
+    /**
+     * @return The installed profiler, or null if lookups are not profiled.
+     */
+    public static LocatorProfiler installed() {
+        return installed;
+    }
+
+    /**
+     * Remembers which fields of a screen class declare which locators, so lookups can be reported by field. Every
+     * class is registered once, later calls return at once.
+     *
+     * @param screenClass The screen class.
+     * @param locators    The locators of the element fields of the class.
+     */
+    public void registerScreen(Class<?> screenClass, Map<Field, By> locators) {
+        if (registeredScreens.add(screenClass)) {
+            locators.forEach((field, locator) -> {
+                if (locator instanceof By.Remotable remotable) {
+                    By.Remotable.Parameters parameters = remotable.getRemoteParameters();
+                    fieldNames.merge(new LocatorKey(parameters.using(), String.valueOf(parameters.value())),
+                            screenClass.getSimpleName() + "." + field.getName(), (first, second) -> first + ", " + second);
+                }
+            });
+        }
+    }
+
+    /**
+     * Executes a command, timing it if it is an element lookup. The first successful XPath lookup of a locator also
+     * fetches the page source, to look for a faster locator of the found element.
+     *
+     * @param command  The command to execute.
+     * @param executor Sends the command to the server.
+     * @return The response of the command.
+     */
+    public Response profile(Command command, Function<Command, Response> executor) {
+        if (!LOOKUP_COMMANDS.contains(command.getName())) {
+            return executor.apply(command);
+        }
+        LocatorKey key = new LocatorKey(String.valueOf(command.getParameters().get("using")), String.valueOf(command.getParameters().get("value")));
+        long start = System.nanoTime();
+        Response response = executor.apply(command);
+        LocatorStatistics locatorStatistics = statistics.computeIfAbsent(key, LocatorStatistics::new);
+        locatorStatistics.latency.recordNanos(System.nanoTime() - start);
+        if (!isFound(response)) {
+            locatorStatistics.notFound.increment();
+        } else if (key.using().equals("xpath") && locatorStatistics.adviceRequested.compareAndSet(false, true)) {
+            adviseFasterLocator(key, locatorStatistics, command, executor);
+        }
+        return response;
+    }
+
+    /**
+     * Builds the report: one entry per locator, sorted by the total time spent looking it up in descending order.
+     *
+     * @return The report as nested maps and lists, ready to be serialized to JSON.
+     */
+    public Map<String, Object> toReport() {
+        List<Map<String, Object>> locators = new ArrayList<>();
+        statistics.values()
+                  .stream()
+                  .sorted(Comparator.comparingLong((LocatorStatistics locatorStatistics) -> locatorStatistics.latency.getTotalMicros())
+                                    .reversed()
+                                    .thenComparing(locatorStatistics -> locatorStatistics.key.toString()))
+                  .forEach(locatorStatistics -> locators.add(locatorStatistics.toReport(fieldNames.getOrDefault(locatorStatistics.key, NO_FIELD))));
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("generatedAt", Instant.now().toString());
+        report.put("locators", locators);
+        return report;
+    }
+
+    /**
+     * Writes the report as JSON to the given file, creating missing parent directories.
+     *
+     * @param reportFile The file to write.
+     */
+    public void writeReport(Path reportFile) {
+        try {
+            if (reportFile.getParent() != null) {
+                Files.createDirectories(reportFile.getParent());
+            }
+            Files.writeString(reportFile, new Json().toJson(toReport()), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write locator report to " + reportFile, e);
+        }
+    }
+
+    private static void adviseFasterLocator(LocatorKey key, LocatorStatistics locatorStatistics, Command command, Function<Command, Response> executor) {
+        try {
+            Response pageSource = executor.apply(new Command(command.getSessionId(), DriverCommand.GET_PAGE_SOURCE));
+            if (isFound(pageSource) && pageSource.getValue() instanceof String source) {
+                By fasterLocator = PageSourceSnapshot.parse(source).fasterLocator(By.xpath(key.value()));
+                locatorStatistics.suggestion = fasterLocator == null ? null : toAnnotation(fasterLocator);
+            }
+        } catch (RuntimeException e) {
+            // Profiling must never fail a test, the locator just goes without a suggestion
+        }
+    }
+
+    private static String toAnnotation(By locator) {
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String attribute = parameters.using().equals("accessibility id") ? "accessibility" : "id";
+        return "@AndroidFindBy(" + attribute + " = \"" + parameters.value() + "\")";
+    }
+
+    private static boolean isFound(Response response) {
+        return response != null && (response.getState() == null || "success".equals(response.getState()));
+    }
+
+    private record LocatorKey(String using, String value) {
+
+        @Override
+        public String toString() {
+            return using + ": " + value;
+        }
+    }
+
+    private static final class LocatorStatistics {
+
+        private final LocatorKey key;
+        private final LatencyHistogram latency = new LatencyHistogram();
+        private final LongAdder notFound = new LongAdder();
+        private final AtomicBoolean adviceRequested = new AtomicBoolean();
+        private volatile String suggestion;
+
+        private LocatorStatistics(LocatorKey key) {
+            this.key = key;
+        }
+
+        private Map<String, Object> toReport(String field) {
+            Map<String, Object> report = new LinkedHashMap<>();
+            report.put("field", field);
+            report.put("strategy", key.using());
+            report.put("locator", key.value());
+            report.put("totalMs", latency.getTotalMicros() / 1_000.0);
+            report.put("latencyMs", latency.toReport());
+            report.put("notFound", notFound.sum());
+            report.put("suggestion", suggestion);
+            return report;
+        }
+    }
+}
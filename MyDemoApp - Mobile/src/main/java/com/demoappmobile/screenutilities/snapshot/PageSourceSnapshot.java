@@ -0,0 +1,300 @@
+package com.demoappmobile.screenutilities.snapshot;
+
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NamedNodeMap;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+import org.xml.sax.Attributes;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.helpers.DefaultHandler;
+
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilder;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.parsers.ParserConfigurationException;
+import javax.xml.parsers.SAXParser;
+import javax.xml.parsers.SAXParserFactory;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpression;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The UiAutomator2 page source of a native screen, fetched once and searched locally. Locators by xpath, resource id,
+ * accessibility id and class name are answered from the snapshot without talking to the device; other strategies,
+ * such as UiAutomator selectors, are not supported.
+ * <p>
+ * The page source is kept as a tree of elements and their attributes only, without the whitespace text between them.
+ * XPath expressions are compiled once per thread and reused for every snapshot.
+ */
+public final class PageSourceSnapshot {
+
+    private static final String RESOURCE_ID = "resource-id";
+    private static final String CONTENT_DESC = "content-desc";
+    private static final int MAX_COMPILED_EXPRESSIONS = 256;
+    // Parsers, builders and XPath expressions are not thread-safe, every thread keeps its own
+    private static final ThreadLocal<SAXParser> parsers = ThreadLocal.withInitial(PageSourceSnapshot::newParser);
+    private static final ThreadLocal<DocumentBuilder> documentBuilders = ThreadLocal.withInitial(PageSourceSnapshot::newDocumentBuilder);
+    private static final ThreadLocal<Map<String, XPathExpression>> compiledExpressions = ThreadLocal.withInitial(
+            () -> new LinkedHashMap<>(64, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, XPathExpression> eldest) {
+                    return size() > MAX_COMPILED_EXPRESSIONS;
+                }
+            });
+
+    private final Document document;
+    private final int fingerprint;
+    private Set<String> contentSignatures;
+
+    private PageSourceSnapshot(Document document, int fingerprint) {
+        this.document = document;
+        this.fingerprint = fingerprint;
+    }
+
+    /**
+     * @param pageSource The page source as returned by {@code driver.getPageSource()}.
+     * @return The parsed snapshot.
+     * @throws IllegalArgumentException If the page source is not well-formed XML.
+     */
+    public static PageSourceSnapshot parse(String pageSource) {
+        try {
+            Document document = documentBuilders.get().newDocument();
+            SAXParser parser = parsers.get();
+            parser.reset();
+            parser.parse(new InputSource(new StringReader(pageSource)), new TreeBuilder(document));
+            return new PageSourceSnapshot(document, pageSource.hashCode());
+        } catch (SAXException | IOException e) {
+            throw new IllegalArgumentException("Page source is not well-formed XML", e);
+        }
+    }
+
+    /**
+     * @param locator A locator.
+     * @return true if the snapshot can answer the locator.
+     */
+    public static boolean supports(By locator) {
+        return locator instanceof By.Remotable remotable && switch (remotable.getRemoteParameters().using()) {
+            case "xpath", "id", "accessibility id", "class name" -> true;
+            default -> false;
+        };
+    }
+
+    /**
+     * Finds the first element matching the locator, like {@code driver.findElement} does.
+     *
+     * @param locator A locator the snapshot {@link #supports(By) supports}.
+     * @return The attributes of the element, or null if no element matches.
+     * @throws IllegalArgumentException If the locator is not supported or not a valid XPath expression.
+     */
+    public Map<String, String> findAttributes(By locator) {
+        Element element = find(locator);
+        return element == null ? null : attributesOf(element);
+    }
+
+    /**
+     * @param locator A locator the snapshot {@link #supports(By) supports}.
+     * @return true if an element matches the locator and UiAutomator2 reported it as displayed.
+     * @throws IllegalArgumentException If the locator is not supported or not a valid XPath expression.
+     */
+    public boolean isDisplayed(By locator) {
+        Element element = find(locator);
+        return element != null && !"false".equals(element.getAttribute("displayed"));
+    }
+
+    /**
+     * Proposes a faster locator for the element a locator finds: its accessibility id if no other element shares it,
+     * otherwise its resource id if no other element shares that.
+     *
+     * @param locator A locator the snapshot {@link #supports(By) supports}.
+     * @return The faster locator, or null if the element is not found or has no unique accessibility or resource id.
+     */
+    public By fasterLocator(By locator) {
+        Element element = find(locator);
+        if (element == null) {
+            return null;
+        }
+        String description = element.getAttribute(CONTENT_DESC);
+        if (!description.isEmpty() && countWith(CONTENT_DESC, description) == 1) {
+            return AppiumBy.accessibilityId(description);
+        }
+        String resourceId = element.getAttribute(RESOURCE_ID);
+        if (!resourceId.isEmpty() && countWith(RESOURCE_ID, resourceId) == 1) {
+            return AppiumBy.id(resourceId);
+        }
+        return null;
+    }
+
+    /**
+     * @return A hash of the whole page source, including the bounds of every element. Two snapshots with the same
+     * fingerprint show the same screen, scrolled to the same position.
+     */
+    public int fingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * @return A signature of every element showing text or a content description, made of its class, resource id,
+     * content description and text but not its position. Telling how much two snapshots of a list overlap.
+     */
+    public Set<String> contentSignatures() {
+        if (contentSignatures == null) {
+            Set<String> signatures = new HashSet<>();
+            NodeList elements = document.getElementsByTagName("*");
+            for (int i = 0; i < elements.getLength(); i++) {
+                Element element = (Element) elements.item(i);
+                String text = element.getAttribute("text");
+                String description = element.getAttribute(CONTENT_DESC);
+                if (!text.isEmpty() || !description.isEmpty()) {
+                    signatures.add(element.getTagName() + '|' + element.getAttribute(RESOURCE_ID) + '|' + description + '|' + text);
+                }
+            }
+            contentSignatures = signatures;
+        }
+        return contentSignatures;
+    }
+
+    private int countWith(String attribute, String value) {
+        int count = 0;
+        NodeList elements = document.getElementsByTagName("*");
+        for (int i = 0; i < elements.getLength(); i++) {
+            if (value.equals(((Element) elements.item(i)).getAttribute(attribute))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private Element find(By locator) {
+        if (!supports(locator)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated on a page source: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        return switch (parameters.using()) {
+            case "xpath" -> evaluate(value);
+            case "id" -> findFirst(document.getDocumentElement(), RESOURCE_ID, value);
+            case "accessibility id" -> findFirst(document.getDocumentElement(), CONTENT_DESC, value);
+            default -> findFirst(document.getDocumentElement(), "class", value);
+        };
+    }
+
+    private Element evaluate(String xpath) {
+        try {
+            NodeList nodes = (NodeList) compile(xpath).evaluate(document, XPathConstants.NODESET);
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element element) {
+                    return element;
+                }
+            }
+            return null;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath expression: " + xpath, e);
+        }
+    }
+
+    private static XPathExpression compile(String xpath) throws XPathExpressionException {
+        Map<String, XPathExpression> expressions = compiledExpressions.get();
+        XPathExpression expression = expressions.get(xpath);
+        if (expression == null) {
+            expression = XPathFactory.newInstance().newXPath().compile(xpath);
+            expressions.put(xpath, expression);
+        }
+        return expression;
+    }
+
+    private static Element findFirst(Element root, String attribute, String value) {
+        if (root == null) {
+            return null;
+        }
+        for (Node child = root.getFirstChild(); child != null; child = child.getNextSibling()) {
+            if (child instanceof Element element) {
+                if (matches(element.getAttribute(attribute), attribute, value)) {
+                    return element;
+                }
+                Element match = findFirst(element, attribute, value);
+                if (match != null) {
+                    return match;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static boolean matches(String actual, String attribute, String expected) {
+        // Like UiAutomator2, an id without a package matches the id in any package
+        return actual.equals(expected) || attribute.equals(RESOURCE_ID) && !expected.contains(":id/") && actual.endsWith(":id/" + expected);
+    }
+
+    private static Map<String, String> attributesOf(Element element) {
+        NamedNodeMap attributes = element.getAttributes();
+        Map<String, String> values = new HashMap<>(attributes.getLength() * 2);
+        for (int i = 0; i < attributes.getLength(); i++) {
+            Node attribute = attributes.item(i);
+            values.put(attribute.getNodeName(), attribute.getNodeValue());
+        }
+        return values;
+    }
+
+    private static SAXParser newParser() {
+        try {
+            SAXParserFactory factory = SAXParserFactory.newInstance();
+            factory.setFeature(XMLConstants.FEATURE_SECURE_PROCESSING, true);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            return factory.newSAXParser();
+        } catch (ParserConfigurationException | SAXException e) {
+            throw new IllegalStateException("Cannot configure the page source parser", e);
+        }
+    }
+
+    private static DocumentBuilder newDocumentBuilder() {
+        try {
+            return DocumentBuilderFactory.newInstance().newDocumentBuilder();
+        } catch (ParserConfigurationException e) {
+            throw new IllegalStateException("Cannot configure the page source tree", e);
+        }
+    }
+
+    /**
+     * Builds the element tree while parsing, skipping text, comments and processing instructions, which UiAutomator2
+     * page sources only contain as indentation.
+     */
+    private static final class TreeBuilder extends DefaultHandler {
+
+        private final Document document;
+        private final Deque<Node> parents = new ArrayDeque<>();
+
+        private TreeBuilder(Document document) {
+            this.document = document;
+            parents.push(document);
+        }
+
+        @Override
+        public void startElement(String uri, String localName, String qualifiedName, Attributes attributes) {
+            Element element = document.createElement(qualifiedName);
+            for (int i = 0; i < attributes.getLength(); i++) {
+                element.setAttribute(attributes.getQName(i), attributes.getValue(i));
+            }
+            parents.peek().appendChild(element);
+            parents.push(element);
+        }
+
+        @Override
+        public void endElement(String uri, String localName, String qualifiedName) {
+            parents.pop();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+package com.demoappmobile.screenutilities.snapshot;
+
+import com.demoappmobile.Logger.InfoMessage;
+import io.appium.java_client.AppiumDriver;
+import org.openqa.selenium.By;
+import org.openqa.selenium.Dimension;
+import org.openqa.selenium.interactions.PointerInput;
+import org.openqa.selenium.interactions.Sequence;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Scrolls a native list until an element shows up, checking every position on a page-source snapshot instead of
+ * looking the element up on the device. Compared to {@code SwipeHandler.swipeUntilElementFound}, which swipes a fixed
+ * distance and runs a full lookup after every swipe until its timeout:
+ * <ul>
+ *     <li>the end of the list is detected: a swipe that leaves the page source unchanged ends the search at once;</li>
+ *     <li>the swipe distance adapts to the list: it grows while consecutive positions mostly show the same elements and
+ *     shrinks when nothing of the previous position is left on screen, the sign that elements may have been skipped.
+ *     </li>
+ * </ul>
+ * Swipes are performed as W3C pointer actions in the middle of the screen.
+ */
+public class ScrollSearch {
+
+    static final double INITIAL_DISTANCE = 0.5;
+    static final double MIN_DISTANCE = 0.2;
+    static final double MAX_DISTANCE = 0.7;
+    private static final Duration SWIPE_DURATION = Duration.ofMillis(300);
+    // Positions sharing more than this part of their elements are scrolled through with longer swipes
+    private static final double LARGE_OVERLAP = 0.5;
+
+    private final AppiumDriver driver;
+    private final SnapshotSource snapshotSource;
+    private final PointerInput finger = new PointerInput(PointerInput.Kind.TOUCH, "finger");
+    private Dimension screenSize;
+    private int swipeCount;
+
+    public ScrollSearch(AppiumDriver driver, SnapshotSource snapshotSource) {
+        this.driver = driver;
+        this.snapshotSource = snapshotSource;
+    }
+
+    /**
+     * Swipes until an element matching the locator is displayed, the end of the list is reached or the timeout
+     * passes.
+     *
+     * @param locator   A locator the snapshot {@link PageSourceSnapshot#supports(By) supports}.
+     * @param direction The direction the finger swipes in.
+     * @param timeout   How long to search at most.
+     * @return true if the element is displayed, false if the list ended or the time ran out without it.
+     */
+    public boolean scrollUntilDisplayed(By locator, Direction direction, Duration timeout) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        PageSourceSnapshot snapshot = snapshotSource.current();
+        double distance = INITIAL_DISTANCE;
+        int swipes = 0;
+        while (!snapshot.isDisplayed(locator)) {
+            if (System.nanoTime() - deadline >= 0) {
+                return false;
+            }
+            swipe(direction, distance);
+            swipes++;
+            PageSourceSnapshot previous = snapshot;
+            snapshot = snapshotSource.refresh();
+            if (snapshot.fingerprint() == previous.fingerprint()) {
+                InfoMessage.endOfListReached(swipes);
+                return snapshot.isDisplayed(locator);
+            }
+            distance = adaptDistance(distance, previous.contentSignatures(), snapshot.contentSignatures());
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of swipes performed so far.
+     */
+    public int getSwipeCount() {
+        return swipeCount;
+    }
+
+    static double adaptDistance(double distance, Set<String> before, Set<String> after) {
+        if (before.isEmpty()) {
+            return distance;
+        }
+        long shared = before.stream().filter(after::contains).count();
+        if (shared == 0) {
+            // Nothing seen before is still on screen, elements in between may have been skipped
+            return Math.max(MIN_DISTANCE, distance / 2);
+        }
+        if ((double) shared / before.size() > LARGE_OVERLAP) {
+            return Math.min(MAX_DISTANCE, distance * 1.5);
+        }
+        return distance;
+    }
+
+    private void swipe(Direction direction, double distance) {
+        Dimension size = screenSize();
+        int x = size.getWidth() / 2;
+        int travel = (int) (size.getHeight() * distance);
+        int start = direction == Direction.UP ? (size.getHeight() + travel) / 2 : (size.getHeight() - travel) / 2;
+        int end = direction == Direction.UP ? start - travel : start + travel;
+        Sequence swipe = new Sequence(finger, 0)
+                .addAction(finger.createPointerMove(Duration.ZERO, PointerInput.Origin.viewport(), x, start))
+                .addAction(finger.createPointerDown(PointerInput.MouseButton.LEFT.asArg()))
+                .addAction(finger.createPointerMove(SWIPE_DURATION, PointerInput.Origin.viewport(), x, end))
+                .addAction(finger.createPointerUp(PointerInput.MouseButton.LEFT.asArg()));
+        driver.perform(List.of(swipe));
+        swipeCount++;
+    }
+
+    private Dimension screenSize() {
+        // The screen does not change size during a session, one lookup serves every search
+        if (screenSize == null) {
+            screenSize = driver.manage().window().getSize();
+        }
+        return screenSize;
+    }
+
+    /**
+     * The direction the finger swipes in, as the direction names of {@code SwipeHandler}: swiping up reveals the
+     * elements further down a list.
+     */
+    public enum Direction {
+        UP,
+        DOWN
+    }
+}
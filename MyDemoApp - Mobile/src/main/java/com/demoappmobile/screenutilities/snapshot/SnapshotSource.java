@@ -0,0 +1,93 @@
+package com.demoappmobile.screenutilities.snapshot;
+
+import com.demoappmobile.screenutilities.driver.CommandCounter;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebDriver;
+
+import java.time.Duration;
+import java.util.function.LongSupplier;
+
+/**
+ * Hands out the page-source snapshot of a session, fetching a new one only when the screen may have changed. A
+ * snapshot stays current until the session sends a command that may change the screen, such as a click, a swipe or a
+ * context switch; lookups and reads keep it. Those commands are counted per session, whichever thread sends them, so
+ * a snapshot stays right when a pooled session moves to another thread.
+ * <p>
+ * The app may still change on its own, e.g. when a list finishes loading, so a lookup that does not find an element
+ * in the current snapshot fetches a fresh one before giving up.
+ */
+public class SnapshotSource {
+
+    private final WebDriver driver;
+    private final LongSupplier mutationCount;
+    private PageSourceSnapshot snapshot;
+    private long takenAtMutation = -1;
+    private long fetchCount;
+
+    public SnapshotSource(WebDriver driver) {
+        this.driver = driver;
+        this.mutationCount = CommandCounter.sessionMutations(driver);
+    }
+
+    /**
+     * @return The current snapshot, fetched if there is none or the screen may have changed since.
+     */
+    public PageSourceSnapshot current() {
+        if (snapshot == null || takenAtMutation != mutationCount.getAsLong()) {
+            return refresh();
+        }
+        return snapshot;
+    }
+
+    /**
+     * @return A freshly fetched snapshot, which becomes the current one.
+     */
+    public PageSourceSnapshot refresh() {
+        snapshot = PageSourceSnapshot.parse(driver.getPageSource());
+        takenAtMutation = mutationCount.getAsLong();
+        fetchCount++;
+        return snapshot;
+    }
+
+    /**
+     * Drops the current snapshot, for changes of the screen that were not caused through this session.
+     */
+    public void invalidate() {
+        snapshot = null;
+    }
+
+    /**
+     * Waits until an element matching the locator is displayed, polling fresh snapshots instead of looking the
+     * element up on the device.
+     *
+     * @param locator         A locator the snapshot {@link PageSourceSnapshot#supports(By) supports}.
+     * @param timeout         How long to wait for the element.
+     * @param pollingInterval How long to pause between two snapshots.
+     * @return true if the element is displayed, false if it was not within the timeout.
+     */
+    public boolean waitUntilDisplayed(By locator, Duration timeout, Duration pollingInterval) {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        PageSourceSnapshot polled = current();
+        while (!polled.isDisplayed(locator)) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                return false;
+            }
+            try {
+                Thread.sleep(Math.min(pollingInterval.toMillis(), remainingMillis));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+            polled = refresh();
+        }
+        return true;
+    }
+
+    /**
+     * @return The number of page sources fetched so far.
+     */
+    public long getFetchCount() {
+        return fetchCount;
+    }
+}
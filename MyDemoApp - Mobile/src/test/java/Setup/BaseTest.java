@@ -1,52 +1,212 @@
 package Setup;
 
+import com.demoappmobile.Logger.ActionLogSink;
+import com.demoappmobile.screen.BasicScreen;
 import com.demoappmobile.screen.nativecontext.Catalog;
+import com.demoappmobile.screenutilities.action.retry.ActionHandler;
+import com.demoappmobile.screenutilities.action.retry.RetryTelemetry;
+import com.demoappmobile.screenutilities.driver.Configuration;
 import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.driver.PooledSession;
+import com.demoappmobile.screenutilities.driver.RunConfiguration;
+import com.demoappmobile.screenutilities.driver.SessionPool;
+import com.demoappmobile.screenutilities.profiling.CommandRecorder;
+import com.demoappmobile.screenutilities.profiling.LocatorProfiler;
 import org.openqa.selenium.WebDriver;
 import org.testng.ITestContext;
 import org.testng.ITestResult;
-import org.testng.annotations.AfterTest;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.AfterSuite;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.BeforeSuite;
+import org.testng.xml.XmlTest;
+import utilities.Account;
+import utilities.AccountRole;
+import utilities.CredentialManager;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
 public abstract class BaseTest {
 
+    // Devices are handed out per <test>, since every <test> runs its methods on its own worker threads
+    private static final Map<String, AtomicInteger> nextDeviceIndexOfTest = new ConcurrentHashMap<>();
+    private static final ThreadLocal<Map<String, String>> deviceOfTest = ThreadLocal.withInitial(HashMap::new);
+
     protected String WEB_VIEW_URL = "https://www.saucedemo.com";
-    protected WebDriver driver;
-    protected Catalog catalog;
-    protected DriverManager driverManager;
+
+    // Test class instances are shared between worker threads when running with parallel="methods"
+    private final ThreadLocal<Catalog> catalog = new ThreadLocal<>();
+
+    @BeforeSuite(alwaysRun = true)
+    public void enableRetryTelemetry() {
+        ActionHandler.setRetryListener(RetryTelemetry.getInstance());
+    }
+
+    /**
+     * Moves rendering of action log messages to a background thread, which also writes them as JSON lines for
+     * later analysis. Test threads only pay for queueing the message.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void enableActionLog() throws IOException {
+        ActionLogSink.install(ActionLogSink.open(Configuration.ACTION_LOG_FILE, Configuration.ACTION_LOG_CAPACITY,
+                Configuration.ACTION_LOG_OVERFLOW_POLICY));
+    }
+
+    /**
+     * Times every element lookup when running with {@code -Dlocator.profiler=true}, to find the locators worth
+     * replacing by a faster strategy.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void enableLocatorProfiler() {
+        if (Configuration.LOCATOR_PROFILING) {
+            LocatorProfiler.install(new LocatorProfiler());
+        }
+    }
+
+    /**
+     * Records every command sent to Appium when running with {@code -Dcommand.recorder=true}, to see how much of the
+     * wall time of a test is spent in round trips and which tests and screen methods send the most commands.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void enableCommandRecorder() {
+        if (Configuration.COMMAND_RECORDING) {
+            CommandRecorder.install(new CommandRecorder(BasicScreen.class::isAssignableFrom));
+        }
+    }
+
+    /**
+     * Reads the run settings once, with the suite parameters of testng.xml overriding the run.properties file, before
+     * any session is started with them.
+     */
+    @BeforeSuite(alwaysRun = true)
+    public void loadRunConfiguration(ITestContext context) {
+        RunConfiguration.install(RunConfiguration.load(context.getSuite().getXmlSuite().getParameters()));
+    }
+
+    /**
+     * Starts a session for every configured device in the background, so that session start-up overlaps
+     * with the remaining suite and class setup instead of blocking the first test method of every thread.
+     */
+    @BeforeSuite(alwaysRun = true, dependsOnMethods = "loadRunConfiguration")
+    public void warmUpSessions(ITestContext context) {
+        for (XmlTest xmlTest : context.getSuite().getXmlSuite().getTests()) {
+            List<String> devices = Arrays.asList(xmlTest.getParameter("device").split("\\s*,\\s*"));
+            SessionPool.forPlatform(xmlTest.getParameter("platform")).warmUp(devices);
+        }
+    }
 
     @BeforeMethod(alwaysRun = true)
     public void driverSetup(ITestContext context, ITestResult iTestResult) throws IOException, InterruptedException {
-        String platform = context.getCurrentXmlTest().getParameter("platform");
-        String device = context.getCurrentXmlTest().getParameter("device");
-        driverManager = DriverManager.getInstance();
-        switch (platform.toUpperCase()) {
-            case "ANDROID":
-                driverManager.initAndroidDriver(device);
-                driver = driverManager.getDriver();
-                break;
-            case "IOS":
-                driverManager.initIOSDriver(device);
-                driver = driverManager.getDriver();
-                break;
-            default:
-                throw new IllegalArgumentException("Unknown platform: " + platform);
+        CommandRecorder recorder = CommandRecorder.installed();
+        if (recorder != null) {
+            recorder.startTest(iTestResult.getTestClass().getRealClass().getSimpleName() + "." + iTestResult.getMethod().getMethodName());
         }
+        String platform = context.getCurrentXmlTest().getParameter("platform");
+        String device = resolveDevice(context.getCurrentXmlTest());
+        PooledSession session = SessionPool.forPlatform(platform).lease(device);
+        DriverManager.getInstance().attachSession(session);
         commonSetup();
     }
 
+    @AfterMethod(alwaysRun = true)
+    public void releaseSession(ITestContext context) {
+        CommandRecorder recorder = CommandRecorder.installed();
+        if (recorder != null) {
+            recorder.endTest();
+        }
+        catalog.remove();
+        PooledSession session = DriverManager.getInstance().detachSession();
+        SessionPool.forPlatform(context.getCurrentXmlTest().getParameter("platform")).release(session);
+    }
+
+    /**
+     * Returns the accounts the test leased, whether it passed or not.
+     */
+    @AfterMethod(alwaysRun = true)
+    public void returnAccounts() {
+        CredentialManager.getAccountPool().releaseAll();
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void shutdownSessions() {
+        SessionPool.shutdownAll();
+    }
+
+    /**
+     * Writes which actions and elements needed retries, how often and how long they took, so that flaky
+     * locators can be found without digging through the logs.
+     */
+    @AfterSuite(alwaysRun = true)
+    public void exportRetryTelemetry() {
+        RetryTelemetry.getInstance().writeReport(Configuration.RETRY_REPORT_FILE);
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void exportLocatorProfile() {
+        LocatorProfiler profiler = LocatorProfiler.installed();
+        if (profiler != null) {
+            profiler.writeReport(Configuration.LOCATOR_REPORT_FILE);
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void exportCommandRecording() {
+        CommandRecorder recorder = CommandRecorder.installed();
+        if (recorder != null) {
+            recorder.writeReports(Configuration.COMMAND_REPORT_DIRECTORY);
+        }
+    }
+
+    @AfterSuite(alwaysRun = true)
+    public void closeActionLog() {
+        ActionLogSink.uninstall();
+    }
+
+    /**
+     * Picks the device of the current worker thread from the comma separated "device" parameter of its test.
+     * Every thread of a test gets a device of its own and keeps it for its whole lifetime, so two threads never
+     * drive the same device.
+     *
+     * @throws IllegalStateException If the test runs on more threads than it lists devices.
+     */
+    private String resolveDevice(XmlTest xmlTest) {
+        return deviceOfTest.get().computeIfAbsent(xmlTest.getName(), testName -> {
+            String[] devices = xmlTest.getParameter("device").split("\\s*,\\s*");
+            int index = nextDeviceIndexOfTest.computeIfAbsent(testName, name -> new AtomicInteger()).getAndIncrement();
+            if (index >= devices.length) {
+                throw new IllegalStateException("Test \"" + testName + "\" runs on more threads than the " + devices.length
+                        + " devices it lists, set thread-count to at most the number of devices.");
+            }
+            return devices[index];
+        });
+    }
+
     /**
      * Common setup actions to be performed at the start of each test method.
      * Navigates to the initial URL and performs any required initial actions on the page.
      */
     private void commonSetup() {
-        catalog = new Catalog(driver);
+        catalog.set(DriverManager.getInstance().getScreenRegistry().get(Catalog.class));
+    }
+
+    protected WebDriver getDriver() {
+        return DriverManager.getInstance().getDriver();
     }
 
-    @AfterTest
-    public void close(){
-//        driver.quit();
+    protected Catalog getCatalog() {
+        return catalog.get();
+    }
+
+    /**
+     * Leases an account of the role that no other test running in parallel uses. It is returned when the test ends.
+     */
+    protected Account leaseAccount(AccountRole role) {
+        return CredentialManager.getAccountPool().lease(role);
     }
-}
\ No newline at end of file
+}
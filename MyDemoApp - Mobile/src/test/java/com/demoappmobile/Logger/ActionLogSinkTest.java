@@ -0,0 +1,148 @@
+package com.demoappmobile.Logger;
+
+import org.openqa.selenium.json.Json;
+import org.slf4j.event.Level;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.io.StringWriter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+public class ActionLogSinkTest {
+
+    @Test
+    public void writesOneJsonLinePerEventWithoutAnsiColours() {
+        StringWriter output = new StringWriter();
+        ActionLogSink sink = new ActionLogSink(output, 16, ActionLogSink.OverflowPolicy.DROP);
+
+        sink.publish(event("clickingElement", "//android.widget.Button", null, InfoMessage.CLICKING_ELEMENT, "//android.widget.Button"));
+        sink.publish(event("sessionStarted", null, 1500L, InfoMessage.SESSION_STARTED, "emulator-5554", 1500L));
+        sink.close();
+
+        List<String> lines = output.toString().lines().toList();
+        Assert.assertEquals(lines.size(), 2);
+        Map<String, Object> click = new Json().toType(lines.get(0), Json.MAP_TYPE);
+        Assert.assertEquals(click.get("action"), "clickingElement");
+        Assert.assertEquals(click.get("locator"), "//android.widget.Button");
+        Assert.assertEquals(click.get("thread"), "worker-1");
+        Assert.assertEquals(click.get("session"), "emulator-5554");
+        Assert.assertEquals(click.get("message"), "Clicking element //android.widget.Button");
+        Map<String, Object> sessionStarted = new Json().toType(lines.get(1), Json.MAP_TYPE);
+        Assert.assertEquals(sessionStarted.get("durationMillis"), 1500L);
+        Assert.assertFalse(output.toString().contains("\u001B"));
+    }
+
+    @Test
+    public void dropsEventsWhileTheBufferIsFull() throws InterruptedException {
+        StalledWriter output = new StalledWriter();
+        ActionLogSink sink = new ActionLogSink(output, 2, ActionLogSink.OverflowPolicy.DROP);
+
+        sink.publish(event("clickingElement", null, null, "first"));
+        Assert.assertTrue(output.writing.await(5, TimeUnit.SECONDS));
+        sink.publish(event("clickingElement", null, null, "second"));
+        sink.publish(event("clickingElement", null, null, "third"));
+        sink.publish(event("clickingElement", null, null, "fourth"));
+        output.resume.countDown();
+        sink.close();
+
+        Assert.assertEquals(sink.getDroppedCount(), 1);
+        Assert.assertEquals(output.toString().lines().count(), 3);
+    }
+
+    @Test
+    public void blocksWhileTheBufferIsFull() throws Exception {
+        StalledWriter output = new StalledWriter();
+        ActionLogSink sink = new ActionLogSink(output, 1, ActionLogSink.OverflowPolicy.BLOCK);
+
+        sink.publish(event("clickingElement", null, null, "first"));
+        Assert.assertTrue(output.writing.await(5, TimeUnit.SECONDS));
+        sink.publish(event("clickingElement", null, null, "second"));
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> sink.publish(event("clickingElement", null, null, "third")));
+        Thread.sleep(200);
+        Assert.assertFalse(blocked.isDone());
+
+        output.resume.countDown();
+        Assert.assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        sink.close();
+
+        Assert.assertEquals(sink.getDroppedCount(), 0);
+        Assert.assertEquals(output.toString().lines().count(), 3);
+    }
+
+    @Test
+    public void closeWaitsForBlockedPublishers() throws Exception {
+        StalledWriter output = new StalledWriter();
+        ActionLogSink sink = new ActionLogSink(output, 1, ActionLogSink.OverflowPolicy.BLOCK);
+
+        sink.publish(event("clickingElement", null, null, "first"));
+        Assert.assertTrue(output.writing.await(5, TimeUnit.SECONDS));
+        sink.publish(event("clickingElement", null, null, "second"));
+        CompletableFuture<Boolean> blocked = CompletableFuture.supplyAsync(() -> sink.publish(event("clickingElement", null, null, "third")));
+        Thread.sleep(200);
+        CompletableFuture<Void> closing = CompletableFuture.runAsync(sink::close);
+        Thread.sleep(200);
+        Assert.assertFalse(closing.isDone());
+
+        output.resume.countDown();
+        closing.get(5, TimeUnit.SECONDS);
+
+        Assert.assertTrue(blocked.get(5, TimeUnit.SECONDS));
+        Assert.assertEquals(output.toString().lines().count(), 3);
+    }
+
+    @Test
+    public void skipsEventsThatCannotBeRendered() {
+        StringWriter output = new StringWriter();
+        ActionLogSink sink = new ActionLogSink(output, 1, ActionLogSink.OverflowPolicy.BLOCK);
+        Object unprintable = new Object() {
+            @Override
+            public String toString() {
+                throw new IllegalStateException("Element is gone");
+            }
+        };
+
+        sink.publish(event("clickingElement", null, null, InfoMessage.CLICKING_ELEMENT, unprintable));
+        sink.publish(event("clickingElement", null, null, "second"));
+        sink.publish(event("clickingElement", null, null, "third"));
+        sink.close();
+
+        Assert.assertEquals(output.toString().lines().count(), 2);
+    }
+
+    @Test
+    public void refusesEventsOnceClosed() {
+        ActionLogSink sink = new ActionLogSink(new StringWriter(), 4, ActionLogSink.OverflowPolicy.BLOCK);
+        sink.close();
+
+        Assert.assertFalse(sink.publish(event("clickingElement", null, null, "late")));
+    }
+
+    private static ActionLogEvent event(String action, String locator, Long durationMillis, String template, Object... arguments) {
+        return new ActionLogEvent(System.currentTimeMillis(), Level.INFO, "ActionLogSinkTest", action, locator, "worker-1",
+                "emulator-5554", durationMillis, template, arguments);
+    }
+
+    /**
+     * Holds the rendering thread inside its first write until the test lets it resume.
+     */
+    private static final class StalledWriter extends StringWriter {
+
+        private final CountDownLatch writing = new CountDownLatch(1);
+        private final CountDownLatch resume = new CountDownLatch(1);
+
+        @Override
+        public StringWriter append(CharSequence csq) {
+            writing.countDown();
+            try {
+                resume.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return super.append(csq);
+        }
+    }
+}
@@ -0,0 +1,57 @@
+package com.demoappmobile.Logger;
+
+import ch.qos.logback.classic.Level;
+import org.openqa.selenium.By;
+import org.openqa.selenium.WebElement;
+import org.slf4j.LoggerFactory;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class InfoMessageTest {
+
+    private final ch.qos.logback.classic.Logger infoLogger = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(InfoMessage.class);
+    private final Level originalLevel = infoLogger.getLevel();
+
+    @AfterMethod(alwaysRun = true)
+    public void restoreLevel() {
+        infoLogger.setLevel(originalLevel);
+    }
+
+    @Test
+    public void elementIsNotDescribedWhileInfoIsDisabled() {
+        AtomicInteger toStringCalls = new AtomicInteger();
+        WebElement webElement = element("[[AndroidDriver: UiAutomator2] -> xpath: //android.widget.Button]", toStringCalls);
+        infoLogger.setLevel(Level.WARN);
+
+        InfoMessage.clickingElement(webElement);
+
+        Assert.assertEquals(toStringCalls.get(), 0);
+        infoLogger.setLevel(Level.INFO);
+        InfoMessage.clickingElement(webElement);
+        Assert.assertEquals(toStringCalls.get(), 1);
+    }
+
+    @Test
+    public void descriptionsKeepTheSelector() {
+        WebElement webElement = element("[[AndroidDriver: UiAutomator2] -> xpath: //android.widget.TextView[@text='Products']]", new AtomicInteger());
+
+        Assert.assertEquals(BasicMessage.getXpathFromWebElement(webElement), "//android.widget.TextView[@text='Products']");
+        Assert.assertEquals(BasicMessage.getXpathFromWebElement(webElement), "//android.widget.TextView[@text='Products']");
+        Assert.assertEquals(BasicMessage.getXpathFromLocator(By.xpath("//android.widget.TextView[@text='Products']")),
+                "By.xpath: //android.widget.TextView[@text='Products']");
+    }
+
+    private static WebElement element(String description, AtomicInteger toStringCalls) {
+        return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+            if (method.getName().equals("toString")) {
+                toStringCalls.incrementAndGet();
+                return description;
+            }
+            throw new UnsupportedOperationException(method.getName());
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package com.demoappmobile.ansi;
+
+import com.demoappmobile.ansi.colors.Color;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.Test;
+
+public class AnsiTemplateTest {
+
+    private static final String SENDING_KEYS = Color.blue("Sending " + Color.blueBold("{}") + Color.blue(" to element ") + Color.blueBold("{}"));
+
+    @AfterMethod(alwaysRun = true)
+    public void enableColors() {
+        AnsiTemplate.setColorsEnabled(true);
+    }
+
+    @Test
+    public void rendersArgumentsBetweenTheColoredSegments() {
+        AnsiTemplate template = AnsiTemplate.of(SENDING_KEYS);
+
+        Assert.assertEquals(template.render("bob", "usernameField"), SENDING_KEYS.replaceFirst("\\{}", "bob").replaceFirst("\\{}", "usernameField"));
+        Assert.assertEquals(template.renderPlain("bob", "usernameField"), "Sending bob to element usernameField");
+        Assert.assertEquals(template.renderPlain("bob"), "Sending bob to element {}");
+        Assert.assertSame(AnsiTemplate.of(SENDING_KEYS), template);
+    }
+
+    @Test
+    public void noColorModeStripsCodesWhenCompiling() {
+        AnsiTemplate.setColorsEnabled(false);
+
+        AnsiTemplate template = AnsiTemplate.of(SENDING_KEYS);
+
+        Assert.assertEquals(template.render("bob", "usernameField"), "Sending bob to element usernameField");
+        Assert.assertEquals(AnsiTemplate.of(Color.green("Ending: " + Color.greenBold("@AfterClass"))).render(), "Ending: @AfterClass");
+    }
+}
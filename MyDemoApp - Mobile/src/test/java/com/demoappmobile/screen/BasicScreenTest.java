@@ -0,0 +1,94 @@
+package com.demoappmobile.screen;
+
+import com.demoappmobile.screen.nativecontext.ApiCalls;
+import com.demoappmobile.screen.nativecontext.Catalog;
+import com.demoappmobile.screen.nativecontext.Login;
+import com.demoappmobile.screenutilities.ScreenRegistry;
+import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.management.ManagementFactory;
+
+public class BasicScreenTest {
+
+    private FakeAndroidSession session;
+    private ScreenRegistry screens;
+
+    @BeforeMethod
+    public void attachSession() {
+        session = new FakeAndroidSession().attach();
+        screens = DriverManager.getInstance().getScreenRegistry();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachSession() {
+        session.detach();
+    }
+
+    @Test
+    public void screensShareTheHelpersOfTheirSession() {
+        Catalog catalog = screens.get(Catalog.class);
+        Login login = screens.get(Login.class);
+        ApiCalls apiCalls = new ApiCalls(session.getDriver());
+
+        for (BasicScreen screen : new BasicScreen[]{login, apiCalls}) {
+            Assert.assertSame(screen.sessionContext, catalog.sessionContext);
+            Assert.assertSame(screen.commonMethods, catalog.commonMethods);
+            Assert.assertSame(screen.elementFinder, catalog.elementFinder);
+            Assert.assertSame(screen.visibilityHandler, catalog.visibilityHandler);
+            Assert.assertSame(screen.swipeHandler, catalog.swipeHandler);
+            Assert.assertSame(screen.webDriverWait, catalog.webDriverWait);
+        }
+    }
+
+    @Test
+    public void navigatingToAKnownScreenAllocatesNothingOfNote() {
+        screens.get(Catalog.class);
+        screens.get(Login.class);
+        long firstVisit = allocatedBytes(() -> new ApiCalls(session.getDriver()));
+
+        long revisit = allocatedBytes(() -> {
+            for (int i = 0; i < 100; i++) {
+                screens.get(Login.class);
+                screens.get(Catalog.class);
+            }
+        });
+
+        // Creating a screen still fills its element fields, returning to it must not even do that
+        Assert.assertTrue(revisit < firstVisit, "revisits allocated " + revisit + " bytes, creating one screen " + firstVisit);
+        Assert.assertEquals(session.getCommands().stream().filter(command -> !command.equals("newSession")).count(), 0);
+    }
+
+    @Test
+    public void visibilityChecksOfSnapshotScreensAreAnsweredFromOnePageSource() {
+        session.setPageSource("""
+                <hierarchy>
+                  <android.widget.TextView text="Products" displayed="true"/>
+                  <android.view.ViewGroup content-desc="Login button" displayed="true"/>
+                  <android.view.ViewGroup content-desc="container header">
+                    <android.widget.TextView text="Login" displayed="true"/>
+                  </android.view.ViewGroup>
+                </hierarchy>
+                """);
+        Catalog catalog = screens.get(Catalog.class);
+        Login login = screens.get(Login.class);
+
+        Assert.assertTrue(catalog.isProductHeaderVisible());
+        Assert.assertTrue(login.isLoginScreenHeaderVisible());
+        Assert.assertTrue(login.isLoginButtonVisible());
+
+        Assert.assertEquals(session.getCommands().stream().filter(command -> command.equals("getPageSource")).count(), 1);
+        Assert.assertFalse(session.getCommands().contains("findElement"));
+    }
+
+    private static long allocatedBytes(Runnable action) {
+        com.sun.management.ThreadMXBean threads = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long before = threads.getCurrentThreadAllocatedBytes();
+        action.run();
+        return threads.getCurrentThreadAllocatedBytes() - before;
+    }
+}
@@ -0,0 +1,61 @@
+package com.demoappmobile.screenutilities;
+
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.List;
+
+public class ContextSwitcherTest {
+
+    private FakeAndroidSession session;
+    private ContextSwitcher contextSwitcher;
+
+    @BeforeMethod
+    public void createSwitcher() {
+        session = new FakeAndroidSession().setContexts("NATIVE_APP", "WEBVIEW_com.saucelabs.mydemoapp");
+        contextSwitcher = new ContextSwitcher(session.getDriver());
+    }
+
+    @Test
+    public void switchesToTheActiveContextAreSkipped() {
+        contextSwitcher.switchToNative();
+        contextSwitcher.switchToWebView();
+        contextSwitcher.switchToWebView();
+        contextSwitcher.switchToNative();
+        contextSwitcher.switchToWebView();
+
+        Assert.assertEquals(contextCommands(), List.of("getCurrentContextHandle", "getContextHandles", "switchToContext",
+                "switchToContext", "switchToContext"));
+        Assert.assertEquals(contextSwitcher.getContextGeneration(), 3);
+    }
+
+    @Test
+    public void webViewIsLookedUpAgainOnceItsNameChanged() {
+        contextSwitcher.switchToWebView();
+        contextSwitcher.switchToNative();
+        session.setContexts("NATIVE_APP", "WEBVIEW_com.saucelabs.mydemoapp.2");
+        contextSwitcher.switchToWebView();
+
+        Assert.assertEquals(session.getDriver().getContext(), "WEBVIEW_com.saucelabs.mydemoapp.2");
+    }
+
+    @Test
+    @SuppressWarnings("try")
+    public void scopeRestoresThePreviousContextOnlyIfItSwitched() {
+        try (ContextSwitcher.ContextScope ignored = contextSwitcher.inWebView()) {
+            try (ContextSwitcher.ContextScope nested = contextSwitcher.inWebView()) {
+                Assert.assertEquals(session.getDriver().getContext(), "WEBVIEW_com.saucelabs.mydemoapp");
+            }
+            Assert.assertEquals(session.getDriver().getContext(), "WEBVIEW_com.saucelabs.mydemoapp");
+        }
+
+        Assert.assertEquals(session.getDriver().getContext(), "NATIVE_APP");
+        Assert.assertEquals(contextCommands().stream().filter("switchToContext"::equals).count(), 2);
+    }
+
+    private List<String> contextCommands() {
+        return session.getCommands().stream().filter(command -> command.contains("Context")).toList();
+    }
+}
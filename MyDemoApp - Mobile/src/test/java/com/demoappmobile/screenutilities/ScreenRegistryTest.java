@@ -0,0 +1,83 @@
+package com.demoappmobile.screenutilities;
+
+import com.demoappmobile.screenutilities.pagefactory.ScreenMetadata;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Field;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+public class ScreenRegistryTest {
+
+    // The registry creates screens through their (WebDriver) constructor, so they find the registry of the running test here
+    private static final ThreadLocal<ScreenRegistry> registryUnderTest = new ThreadLocal<>();
+
+    private ScreenRegistry registry;
+
+    @BeforeMethod
+    public void createRegistry() {
+        registry = new ScreenRegistry(null);
+        registryUnderTest.set(registry);
+        NavigationBar.instances = 0;
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void removeRegistry() {
+        registryUnderTest.remove();
+    }
+
+    @Test
+    public void createsEachScreenOncePerSession() {
+        Home home = registry.get(Home.class);
+
+        Assert.assertSame(registry.get(Home.class), home);
+        Assert.assertSame(home.navigationBar, registry.get(NavigationBar.class));
+        Assert.assertEquals(NavigationBar.instances, 1);
+        Assert.assertNotSame(new ScreenRegistry(null).get(Home.class), home);
+    }
+
+    @Test
+    public void decoratesOnlyElementFieldsOfTheWholeHierarchy() {
+        List<String> decoratedFields = new ArrayList<>();
+        Home home = new Home(null);
+
+        ScreenMetadata.of(Home.class).initElements((loader, field) -> {
+            decoratedFields.add(field.getName());
+            return field.getType() == WebElement.class ? null : List.of();
+        }, home);
+
+        Assert.assertEquals(new HashSet<>(decoratedFields), Set.of("header", "products", "backButton"));
+        Assert.assertEquals(home.products, List.of());
+    }
+
+    public static class Screen {
+        private WebElement backButton;
+        private String title;
+    }
+
+    public static class NavigationBar extends Screen {
+        private static int instances;
+
+        public NavigationBar(WebDriver driver) {
+            instances++;
+        }
+    }
+
+    public static class Home extends Screen {
+        private static final Field IGNORED = null;
+        private final NavigationBar navigationBar;
+        private WebElement header;
+        private List<WebElement> products;
+
+        public Home(WebDriver driver) {
+            this.navigationBar = registryUnderTest.get().get(NavigationBar.class);
+        }
+    }
+}
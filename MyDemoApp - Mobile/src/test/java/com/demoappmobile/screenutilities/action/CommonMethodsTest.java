@@ -0,0 +1,74 @@
+package com.demoappmobile.screenutilities.action;
+
+import com.demoappmobile.screenutilities.driver.RecordingDriver;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CommonMethodsTest {
+
+    private RecordingDriver recordingDriver;
+    private CommonMethods commonMethods;
+
+    @BeforeMethod
+    public void attachRecordingDriver() {
+        recordingDriver = new RecordingDriver().attach();
+        commonMethods = new CommonMethods();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void detachRecordingDriver() {
+        recordingDriver.detach();
+    }
+
+    @Test
+    public void clickElementChecksReadinessOnceBeforeClicking() {
+        WebElement loginButton = recordingDriver.element("loginButton");
+
+        commonMethods.clickElement(loginButton);
+
+        Assert.assertEquals(recordingDriver.getCommands(), List.of("loginButton.isDisplayed", "loginButton.isEnabled", "loginButton.click"));
+    }
+
+    @Test
+    public void sendKeysToElementChecksReadinessOnceBeforeTyping() {
+        WebElement usernameField = recordingDriver.element("usernameField");
+
+        commonMethods.sendKeysToElement(usernameField, "bob@example.com");
+
+        Assert.assertEquals(recordingDriver.getCommands(), List.of("usernameField.isDisplayed", "usernameField.isEnabled",
+                "usernameField.clear", "usernameField.sendKeys"));
+    }
+
+    @Test
+    public void getTextFromElementOnlyWaitsForVisibility() {
+        WebElement productsTitle = recordingDriver.element("productsTitle");
+
+        String text = commonMethods.getTextFromElement(productsTitle);
+
+        Assert.assertEquals(text, "productsTitle");
+        Assert.assertEquals(recordingDriver.getCommands(), List.of("productsTitle.isDisplayed", "productsTitle.getText"));
+    }
+
+    @Test
+    public void visibilityWaitKeepsPollingWhenElementIsReRendered() {
+        AtomicInteger checks = new AtomicInteger();
+        WebElement greeting = (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class},
+                (proxy, method, args) -> {
+                    if (method.getName().equals("isDisplayed") && checks.incrementAndGet() == 1) {
+                        throw new StaleElementReferenceException("Element was re-rendered");
+                    }
+                    return method.getName().equals("isDisplayed") ? Boolean.TRUE : null;
+                });
+
+        Assert.assertNull(ElementReadiness.toBeVisible(greeting).apply(null));
+        Assert.assertSame(ElementReadiness.toBeVisible(greeting).apply(null), greeting);
+    }
+}
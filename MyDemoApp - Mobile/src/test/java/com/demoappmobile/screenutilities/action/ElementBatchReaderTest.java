@@ -0,0 +1,82 @@
+package com.demoappmobile.screenutilities.action;
+
+import com.demoappmobile.screenutilities.ContextSwitcher;
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import com.demoappmobile.screenutilities.snapshot.SnapshotSource;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+public class ElementBatchReaderTest {
+
+    private static final String PAGE_SOURCE = """
+            <hierarchy>
+              <android.widget.FrameLayout class="android.widget.FrameLayout" displayed="true" enabled="true">
+                <android.widget.TextView class="android.widget.TextView" text="Products" displayed="true" enabled="true"/>
+                <android.widget.TextView class="android.widget.TextView" resource-id="com.saucelabs.mydemoapp.rn:id/price" text="$29.99" displayed="true" enabled="false"/>
+                <android.view.ViewGroup class="android.view.ViewGroup" content-desc="Login button" displayed="false" enabled="true"/>
+              </android.widget.FrameLayout>
+            </hierarchy>
+            """;
+
+    private FakeAndroidSession session;
+    private ContextSwitcher contextSwitcher;
+    private ElementBatchReader batchReader;
+
+    @BeforeMethod
+    public void createReader() {
+        session = new FakeAndroidSession().setContexts("NATIVE_APP", "WEBVIEW_com.saucelabs.mydemoapp").setPageSource(PAGE_SOURCE);
+        contextSwitcher = new ContextSwitcher(session.getDriver());
+        batchReader = new ElementBatchReader(session.getDriver(), contextSwitcher, new SnapshotSource(session.getDriver()));
+    }
+
+    @Test
+    public void nativeLocatorsAreReadFromOnePageSource() {
+        By header = By.xpath("//android.widget.TextView[@text='Products']");
+        By price = AppiumBy.id("price");
+        By loginButton = AppiumBy.accessibilityId("Login button");
+        By missing = AppiumBy.accessibilityId("Logout button");
+
+        ElementSnapshot snapshot = batchReader.readAll(List.of(header, price, loginButton, missing), ElementProperty.TEXT, ElementProperty.ENABLED);
+
+        Assert.assertEquals(snapshot.getText(header), "Products");
+        Assert.assertEquals(snapshot.getText(price), "$29.99");
+        Assert.assertFalse(snapshot.isEnabled(price));
+        Assert.assertTrue(snapshot.isEnabled(AppiumBy.accessibilityId("Login button")));
+        Assert.assertFalse(snapshot.isPresent(missing));
+        Assert.assertEquals(session.getCommands().stream().filter(command -> !command.contains("Context")).toList(), List.of("newSession", "getPageSource"));
+    }
+
+    @Test
+    public void webViewLocatorsAreReadByOneScript() {
+        contextSwitcher.switchToWebView();
+        By title = By.cssSelector(".title");
+        By menuButton = By.id("react-burger-menu-btn");
+        session.setScriptResult(Arrays.asList(Map.of("text", "Products", "displayed", true), null));
+
+        ElementSnapshot snapshot = batchReader.readAll(List.of(title, menuButton), ElementProperty.TEXT, ElementProperty.DISPLAYED);
+
+        Assert.assertEquals(snapshot.getText(title), "Products");
+        Assert.assertTrue(snapshot.isDisplayed(title));
+        Assert.assertFalse(snapshot.isPresent(menuButton));
+        Assert.assertEquals(session.getCommands().stream().filter(command -> !command.contains("Context")).toList(), List.of("newSession", "executeScript"));
+    }
+
+    @Test
+    public void locatorsNeitherWayCanHandleAreReadOneByOne() {
+        By uiAutomatorLocator = AppiumBy.androidUIAutomator("new UiSelector().text(\"Products\")");
+
+        ElementSnapshot snapshot = batchReader.readAll(List.of(uiAutomatorLocator), ElementProperty.DISPLAYED);
+
+        // The fake session finds no elements for multi-element lookups
+        Assert.assertFalse(snapshot.isPresent(uiAutomatorLocator));
+        Assert.assertTrue(session.getCommands().contains("findElements"));
+        Assert.assertFalse(session.getCommands().contains("getPageSource"));
+    }
+}
@@ -0,0 +1,171 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import com.demoappmobile.Exceptions.ExceptionNotHandledException;
+import com.demoappmobile.Exceptions.MaximumRetriesExceededException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriverException;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RetryPolicyTest {
+
+    private VirtualClock clock;
+
+    @BeforeMethod
+    public void createClock() {
+        clock = new VirtualClock();
+    }
+
+    @Test
+    public void fixedPolicyWaitsTheSameDelayBeforeEveryRetry() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(3, Duration.ofMillis(300)).withClock(clock);
+
+        runUntilExhausted(retryPolicy);
+
+        Assert.assertEquals(clock.sleeps, List.of(Duration.ofMillis(300), Duration.ofMillis(300), Duration.ofMillis(300)));
+    }
+
+    @Test
+    public void exponentialPolicyDoublesDelayUpToMaximum() {
+        RetryPolicy retryPolicy = RetryPolicy.exponential(5, Duration.ofMillis(100), 2.0, Duration.ofMillis(500)).withClock(clock);
+
+        runUntilExhausted(retryPolicy);
+
+        Assert.assertEquals(clock.sleeps, List.of(Duration.ofMillis(100), Duration.ofMillis(200), Duration.ofMillis(400),
+                Duration.ofMillis(500), Duration.ofMillis(500)));
+    }
+
+    @Test
+    public void decorrelatedJitterStaysBetweenBaseAndThreeTimesPreviousDelay() {
+        RetryPolicy lowest = RetryPolicy.decorrelatedJitter(3, Duration.ofMillis(100), Duration.ofSeconds(10), () -> 0.0).withClock(clock);
+        runUntilExhausted(lowest);
+        Assert.assertEquals(clock.sleeps, List.of(Duration.ofMillis(100), Duration.ofMillis(100), Duration.ofMillis(100)));
+
+        clock.sleeps.clear();
+        RetryPolicy highest = RetryPolicy.decorrelatedJitter(4, Duration.ofMillis(100), Duration.ofMillis(2000), () -> 1.0).withClock(clock);
+        runUntilExhausted(highest);
+        Assert.assertEquals(clock.sleeps, List.of(Duration.ofMillis(100), Duration.ofMillis(300), Duration.ofMillis(900), Duration.ofMillis(2000)));
+    }
+
+    @Test
+    public void deadlineStopsRetriesBeforeBudgetIsExceeded() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(10, Duration.ofMillis(400)).withDeadline(Duration.ofSeconds(1)).withClock(clock);
+
+        RetryPolicy.Execution execution = runUntilExhausted(retryPolicy);
+
+        Assert.assertEquals(execution.getRetries(), 2);
+        Assert.assertEquals(execution.getElapsedTime(), Duration.ofMillis(800));
+        Assert.assertEquals(execution.getExhaustionReason(), "Exceeded retry deadline of 1000 ms");
+    }
+
+    @Test
+    public void actionHandlerRetriesWithPolicyUntilActionSucceeds() {
+        RetryPolicy retryPolicy = RetryPolicy.exponential(3, Duration.ofMillis(50), 2.0, Duration.ofSeconds(1)).withClock(clock);
+        AtomicInteger attempts = new AtomicInteger();
+
+        String result = ActionHandler.executeStringWithRetry(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return "done";
+        }, retryPolicy, StaleElementReferenceException.class);
+
+        Assert.assertEquals(result, "done");
+        Assert.assertEquals(clock.sleeps, List.of(Duration.ofMillis(50), Duration.ofMillis(100)));
+    }
+
+    @Test
+    public void actionHandlerFailsWhenDeadlineIsExhausted() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(10, Duration.ofMillis(600)).withDeadline(Duration.ofSeconds(1)).withClock(clock);
+
+        MaximumRetriesExceededException exception = Assert.expectThrows(MaximumRetriesExceededException.class,
+                () -> ActionHandler.executeVoidWithRetry(() -> {
+                    throw new StaleElementReferenceException("stale");
+                }, retryPolicy, StaleElementReferenceException.class));
+
+        Assert.assertEquals(exception.getMessage(), "Exceeded retry deadline of 1000 ms");
+        Assert.assertTrue(exception.getCause() instanceof StaleElementReferenceException);
+        Assert.assertEquals(clock.sleeps.size(), 1);
+    }
+
+    @Test
+    public void actionHandlerDoesNotRetryUnhandledException() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(3, Duration.ofMillis(100)).withClock(clock);
+
+        Assert.assertThrows(ExceptionNotHandledException.class, () -> ActionHandler.executeVoidWithRetry(() -> {
+            throw new IllegalStateException("broken");
+        }, retryPolicy, StaleElementReferenceException.class));
+        Assert.assertTrue(clock.sleeps.isEmpty());
+    }
+
+    @Test
+    public void retryableExceptionsAreSharedAndMatchSubclasses() {
+        RetryableExceptions retryableExceptions = RetryableExceptions.of(WebDriverException.class, IllegalStateException.class);
+
+        Assert.assertSame(RetryableExceptions.of(WebDriverException.class, IllegalStateException.class), retryableExceptions);
+        Assert.assertTrue(retryableExceptions.contains(new StaleElementReferenceException("stale")));
+        Assert.assertFalse(retryableExceptions.contains(new IllegalArgumentException("broken")));
+    }
+
+    @Test
+    public void nonCapturingActionReceivesArgumentsOnEveryAttempt() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(2, Duration.ofMillis(100)).withClock(clock);
+        List<String> attempts = new ArrayList<>();
+
+        ActionHandler.executeVoidWithRetry("addAttempt", attempts, "attempt", (list, value) -> {
+            list.add(value);
+            if (list.size() < 3) {
+                throw new StaleElementReferenceException("stale");
+            }
+        }, retryPolicy, RetryableExceptions.of(StaleElementReferenceException.class));
+
+        Assert.assertEquals(attempts, List.of("attempt", "attempt", "attempt"));
+        Assert.assertEquals(clock.sleeps.size(), 2);
+    }
+
+    @Test
+    public void deadlineIncludesDurationOfFirstAttempt() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(3, Duration.ofMillis(200)).withDeadline(Duration.ofSeconds(1)).withClock(clock);
+
+        Assert.expectThrows(MaximumRetriesExceededException.class, () -> ActionHandler.executeWithRetry("advanceClock", clock, virtualClock -> {
+            virtualClock.nanoTime += Duration.ofMillis(900).toNanos();
+            throw new StaleElementReferenceException("stale");
+        }, retryPolicy, RetryableExceptions.of(StaleElementReferenceException.class)));
+        Assert.assertTrue(clock.sleeps.isEmpty());
+    }
+
+    private RetryPolicy.Execution runUntilExhausted(RetryPolicy retryPolicy) {
+        RetryPolicy.Execution execution = retryPolicy.start();
+        try {
+            while (execution.awaitNextAttempt()) {
+                // Every attempt fails
+            }
+        } catch (InterruptedException interruptedException) {
+            throw new AssertionError(interruptedException);
+        }
+        return execution;
+    }
+
+    private static final class VirtualClock implements RetryClock {
+
+        private final List<Duration> sleeps = new ArrayList<>();
+        private long nanoTime;
+
+        @Override
+        public long nanoTime() {
+            return nanoTime;
+        }
+
+        @Override
+        public void sleep(Duration duration) {
+            sleeps.add(duration);
+            nanoTime += duration.toNanos();
+        }
+    }
+}
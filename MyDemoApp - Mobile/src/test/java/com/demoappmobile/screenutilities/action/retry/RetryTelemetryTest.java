@@ -0,0 +1,149 @@
+package com.demoappmobile.screenutilities.action.retry;
+
+import com.demoappmobile.Exceptions.MaximumRetriesExceededException;
+import org.openqa.selenium.By;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public class RetryTelemetryTest {
+
+    private static final RetryableExceptions STALE_ELEMENT_EXCEPTIONS = RetryableExceptions.of(StaleElementReferenceException.class);
+
+    private RetryTelemetry retryTelemetry;
+    private SteppingClock clock;
+
+    @BeforeMethod
+    public void installTelemetry() {
+        retryTelemetry = new RetryTelemetry();
+        clock = new SteppingClock();
+        ActionHandler.setRetryListener(retryTelemetry);
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void uninstallTelemetry() {
+        ActionHandler.setRetryListener(null);
+    }
+
+    @Test
+    public void recordsAttemptsExceptionsAndTimeToSuccessPerActionAndElement() {
+        RetryPolicy retryPolicy = RetryPolicy.fixed(3, Duration.ofMillis(100)).withClock(clock);
+        By locator = By.xpath("//android.widget.TextView[@text='Products']");
+        int[] attempts = {0};
+
+        String text = ActionHandler.executeWithRetry("getTextFromElement", locator, by -> {
+            clock.advance(Duration.ofMillis(20));
+            if (++attempts[0] < 3) {
+                throw new StaleElementReferenceException("stale");
+            }
+            return "Products";
+        }, retryPolicy, STALE_ELEMENT_EXCEPTIONS);
+
+        Assert.assertEquals(text, "Products");
+        Map<String, Object> action = onlyAction();
+        Assert.assertEquals(action.get("action"), "getTextFromElement");
+        Assert.assertEquals(action.get("element"), locator.toString());
+        Assert.assertEquals(action.get("executions"), 1L);
+        Assert.assertEquals(action.get("attempts"), 3L);
+        Assert.assertEquals(action.get("retries"), 2L);
+        Assert.assertEquals(action.get("succeededAfterRetry"), 1L);
+        Assert.assertEquals(action.get("exceptions"), Map.of(StaleElementReferenceException.class.getName(), 2L));
+        Map<?, ?> timeToSuccess = (Map<?, ?>) action.get("timeToSuccessMs");
+        // Three attempts of 20 ms and two waits of 100 ms
+        Assert.assertEquals(timeToSuccess.get("max"), 260.0);
+        Map<?, ?> attemptLatency = (Map<?, ?>) action.get("attemptLatencyMs");
+        Assert.assertEquals(attemptLatency.get("count"), 3L);
+        Assert.assertEquals(attemptLatency.get("p50"), 20.0);
+    }
+
+    @Test
+    public void recordsFailuresAndSortsFlakiestActionsFirst() {
+        RetryPolicy retryPolicy = RetryPolicy.immediate(2).withClock(clock);
+
+        ActionHandler.executeVoidWithRetry("clickElement", "stable", target -> { }, retryPolicy, STALE_ELEMENT_EXCEPTIONS);
+        Assert.expectThrows(MaximumRetriesExceededException.class, () -> ActionHandler.executeVoidWithRetry("clickElement", "flaky", target -> {
+            throw new StaleElementReferenceException("stale");
+        }, retryPolicy, STALE_ELEMENT_EXCEPTIONS));
+
+        List<Map<String, Object>> actions = actions();
+        Assert.assertEquals(actions.get(0).get("element"), "flaky");
+        Assert.assertEquals(actions.get(0).get("failures"), 1L);
+        Assert.assertEquals(actions.get(0).get("retries"), 2L);
+        Assert.assertEquals(actions.get(1).get("element"), "stable");
+        Assert.assertEquals(actions.get(1).get("retries"), 0L);
+    }
+
+    @Test
+    public void writesReportAsJson() throws IOException {
+        ActionHandler.executeVoidWithRetry(() -> { }, RetryPolicy.immediate(1), NoSuchElementException.class);
+        Path reportFile = Files.createTempDirectory("retry-telemetry").resolve("reports").resolve("retry-report.json");
+
+        retryTelemetry.writeReport(reportFile);
+
+        String json = Files.readString(reportFile);
+        Assert.assertTrue(json.contains("\"action\": \"executeVoidWithRetry\""), json);
+        Assert.assertTrue(json.contains("\"element\": \"-\""), json);
+    }
+
+    @Test
+    public void histogramKeepsRelativePrecisionAcrossMagnitudes() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 100; millis++) {
+            histogram.recordNanos(Duration.ofMillis(millis).toNanos());
+        }
+
+        Assert.assertEquals(histogram.getTotalCount(), 100);
+        assertWithinPrecision(histogram.getValueAtPercentile(50), 50_000);
+        assertWithinPrecision(histogram.getValueAtPercentile(99), 99_000);
+        Assert.assertEquals(histogram.getValueAtPercentile(100), 100_000);
+        for (int index = LatencyHistogram.SUB_BUCKET_COUNT; index < 200; index++) {
+            Assert.assertEquals(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index)), index);
+            Assert.assertEquals(LatencyHistogram.bucketIndex(LatencyHistogram.bucketUpperBound(index) + 1), index + 1);
+        }
+    }
+
+    private static void assertWithinPrecision(long actualMicros, long expectedMicros) {
+        Assert.assertTrue(actualMicros >= expectedMicros && actualMicros <= expectedMicros * 17 / 16,
+                actualMicros + " is not within 1/16 of " + expectedMicros);
+    }
+
+    private Map<String, Object> onlyAction() {
+        List<Map<String, Object>> actions = actions();
+        Assert.assertEquals(actions.size(), 1);
+        return actions.get(0);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Map<String, Object>> actions() {
+        return (List<Map<String, Object>>) retryTelemetry.toReport().get("actions");
+    }
+
+    private static final class SteppingClock implements RetryClock {
+
+        private long nanoTime;
+
+        void advance(Duration duration) {
+            nanoTime += duration.toNanos();
+        }
+
+        @Override
+        public long nanoTime() {
+            return nanoTime;
+        }
+
+        @Override
+        public void sleep(Duration duration) {
+            advance(duration);
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.Exceptions.CircuitOpenException;
+import com.demoappmobile.screenutilities.action.retry.ActionHandler;
+import com.demoappmobile.screenutilities.action.retry.RetryPolicy;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.net.ServerSocket;
+import java.net.URL;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CircuitBreakerTest {
+
+    private static final Duration OPEN_DURATION = Duration.ofSeconds(30);
+
+    private long nanoTime;
+    private CircuitBreaker circuitBreaker;
+
+    @BeforeMethod
+    public void createCircuitBreaker() {
+        nanoTime = 0;
+        circuitBreaker = new CircuitBreaker("session on device emulator-5554", 3, OPEN_DURATION, () -> nanoTime);
+    }
+
+    @Test
+    public void opensAfterConsecutiveFailuresAndRejectsCommands() {
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+        circuitBreaker.acquirePermission();
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        CircuitOpenException exception = Assert.expectThrows(CircuitOpenException.class, circuitBreaker::acquirePermission);
+        Assert.assertEquals(exception.getCause().getMessage().lines().findFirst().orElse(""), "timeout");
+    }
+
+    @Test
+    public void successResetsConsecutiveFailures() {
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+        circuitBreaker.recordSuccess();
+        circuitBreaker.recordFailure(new WebDriverException("timeout"));
+
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+    }
+
+    @Test
+    public void letsSingleProbeThroughAfterOpenDuration() {
+        trip();
+        nanoTime += OPEN_DURATION.toNanos();
+
+        circuitBreaker.acquirePermission();
+
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.HALF_OPEN);
+        Assert.expectThrows(CircuitOpenException.class, circuitBreaker::acquirePermission);
+        circuitBreaker.recordSuccess();
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.CLOSED);
+        circuitBreaker.acquirePermission();
+    }
+
+    @Test
+    public void failedProbeOpensCircuitAgain() {
+        trip();
+        nanoTime += OPEN_DURATION.toNanos();
+        circuitBreaker.acquirePermission();
+
+        circuitBreaker.recordFailure(new WebDriverException("still down"));
+
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        nanoTime += OPEN_DURATION.toNanos() - 1;
+        Assert.expectThrows(CircuitOpenException.class, circuitBreaker::acquirePermission);
+    }
+
+    @Test
+    public void actionHandlerFailsImmediatelyWithoutRetryingOpenCircuit() {
+        trip();
+        AtomicInteger attempts = new AtomicInteger();
+
+        Assert.expectThrows(CircuitOpenException.class, () -> ActionHandler.executeVoidWithRetry(() -> {
+            attempts.incrementAndGet();
+            circuitBreaker.acquirePermission();
+        }, RetryPolicy.fixed(5, Duration.ofSeconds(1)), WebDriverException.class));
+        Assert.assertEquals(attempts.get(), 1);
+    }
+
+    @Test
+    public void executorCountsUnreachableServerAsFailure() throws Exception {
+        URL unreachableServer;
+        try (ServerSocket serverSocket = new ServerSocket(0)) {
+            unreachableServer = new URL("http://127.0.0.1:" + serverSocket.getLocalPort());
+        }
+        CircuitBreakingCommandExecutor executor = new CircuitBreakingCommandExecutor(unreachableServer, circuitBreaker);
+        Command statusCommand = new Command(null, "status");
+
+        for (int attempt = 0; attempt < 3; attempt++) {
+            Assert.expectThrows(RuntimeException.class, () -> executor.execute(statusCommand));
+        }
+
+        Assert.assertEquals(circuitBreaker.getState(), CircuitBreaker.State.OPEN);
+        Assert.expectThrows(CircuitOpenException.class, () -> executor.execute(statusCommand));
+    }
+
+    private void trip() {
+        for (int failure = 0; failure < 3; failure++) {
+            circuitBreaker.recordFailure(new WebDriverException("timeout"));
+        }
+    }
+}
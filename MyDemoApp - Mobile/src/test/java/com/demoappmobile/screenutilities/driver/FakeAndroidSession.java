@@ -0,0 +1,191 @@
+package com.demoappmobile.screenutilities.driver;
+
+import io.appium.java_client.MobileCommand;
+import io.appium.java_client.android.AndroidDriver;
+import io.appium.java_client.android.options.UiAutomator2Options;
+import io.appium.java_client.remote.AppiumCommandExecutor;
+import org.openqa.selenium.WebDriverException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A real {@link AndroidDriver} whose commands are answered in memory instead of by an Appium server, for tests that
+ * need actual screens. Every element lookup finds a new displayed and enabled element; all other commands succeed
+ * without a value. The session starts in the native context and can switch to the contexts set with
+ * {@link #setContexts(String...)}. Page source and script results are whatever was set last, apart from terminating
+ * the app, which always succeeds; a list set with {@link #setScrollPages(String...)} moves on by one page source per
+ * performed swipe. The names of the executed commands are recorded unless turned off with {@link #recordCommands(boolean)}.
+ */
+public class FakeAndroidSession implements DriverFactory<AndroidDriver> {
+
+    private static final String ELEMENT_KEY = "element-6066-11e4-a52e-4f735466cecf";
+
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final AtomicInteger nextElementId = new AtomicInteger();
+    private volatile boolean recordCommands = true;
+    private volatile List<String> contexts = List.of("NATIVE_APP");
+    private volatile String currentContext = "NATIVE_APP";
+    private volatile String pageSource = "<hierarchy/>";
+    private volatile Object scriptResult;
+    private volatile List<String> scrollPages = List.of();
+    private final AtomicInteger scrollPosition = new AtomicInteger();
+    private final AndroidDriver driver = new AndroidDriver(new InMemoryExecutor(), new UiAutomator2Options().setDeviceName("fake-device"));
+    private final WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+    /**
+     * Binds this session to the calling thread, as a lease from the session pool would.
+     */
+    public FakeAndroidSession attach() {
+        DriverManager.getInstance().attachSession(new PooledSession("fake-device", this));
+        return this;
+    }
+
+    public void detach() {
+        DriverManager.getInstance().detachSession();
+    }
+
+    /**
+     * @return The names of the executed commands, in the order they were executed.
+     */
+    public List<String> getCommands() {
+        return List.copyOf(commands);
+    }
+
+    /**
+     * Turns recording of the executed commands on or off, e.g. for benchmarks issuing millions of commands.
+     */
+    public FakeAndroidSession recordCommands(boolean recordCommands) {
+        this.recordCommands = recordCommands;
+        return this;
+    }
+
+    /**
+     * Replaces the contexts the app offers, e.g. when its WebView is recreated under a new name.
+     */
+    public FakeAndroidSession setContexts(String... contexts) {
+        this.contexts = List.of(contexts);
+        return this;
+    }
+
+    public FakeAndroidSession setPageSource(String pageSource) {
+        this.pageSource = pageSource;
+        return this;
+    }
+
+    /**
+     * Sets the page sources of a scrollable list, one per position. Every performed pointer action moves to the next
+     * position, the last position stays once reached like at the end of a list.
+     */
+    public FakeAndroidSession setScrollPages(String... pages) {
+        this.scrollPages = List.of(pages);
+        scrollPosition.set(0);
+        this.pageSource = pages[0];
+        return this;
+    }
+
+    public FakeAndroidSession setScriptResult(Object scriptResult) {
+        this.scriptResult = scriptResult;
+        return this;
+    }
+
+    @Override
+    public void initDriver(String deviceName) { }
+
+    @Override
+    public void initDriver(String deviceName, Duration timeout) { }
+
+    @Override
+    public AndroidDriver getDriver() {
+        return driver;
+    }
+
+    @Override
+    public WebDriverWait getWebDriverWait() {
+        return webDriverWait;
+    }
+
+    @Override
+    public WebDriverWait getWebDriverWait(Duration duration) {
+        return new WebDriverWait(driver, duration, Duration.ofMillis(10));
+    }
+
+    @Override
+    public void quitDriver() { }
+
+    private final class InMemoryExecutor extends AppiumCommandExecutor implements MutationCountingExecutor {
+
+        private final AtomicLong mutationCount = new AtomicLong();
+
+        private InMemoryExecutor() {
+            super(MobileCommand.commandRepository, localAddress());
+        }
+
+        @Override
+        public Response execute(Command command) {
+            if (recordCommands) {
+                commands.add(command.getName());
+            }
+            CommandCounter.record();
+            if (CommandCounter.mayChangeScreen(command.getName())) {
+                mutationCount.incrementAndGet();
+            }
+            Response response = new Response(new SessionId("fake-session"));
+            response.setState("success");
+            response.setValue(switch (command.getName()) {
+                case DriverCommand.NEW_SESSION -> Map.of("platformName", "Android", "appium:automationName", "UiAutomator2");
+                case DriverCommand.FIND_ELEMENT, DriverCommand.FIND_CHILD_ELEMENT -> Map.of(ELEMENT_KEY, "element-" + nextElementId.incrementAndGet());
+                case DriverCommand.FIND_ELEMENTS, DriverCommand.FIND_CHILD_ELEMENTS -> List.of();
+                case DriverCommand.IS_ELEMENT_DISPLAYED, DriverCommand.IS_ELEMENT_ENABLED -> true;
+                case DriverCommand.GET_PAGE_SOURCE -> pageSource;
+                case DriverCommand.EXECUTE_SCRIPT -> "mobile: terminateApp".equals(command.getParameters().get("script")) ? Boolean.TRUE : scriptResult;
+                case DriverCommand.GET_CURRENT_WINDOW_SIZE -> Map.of("width", 1080, "height", 2400);
+                case DriverCommand.ACTIONS -> scroll();
+                case MobileCommand.GET_CONTEXT_HANDLES -> contexts;
+                case MobileCommand.GET_CURRENT_CONTEXT_HANDLE -> currentContext;
+                case MobileCommand.SWITCH_TO_CONTEXT -> switchContext((String) command.getParameters().get("name"));
+                default -> null;
+            });
+            return response;
+        }
+
+        @Override
+        public long getMutationCount() {
+            return mutationCount.get();
+        }
+
+        private Object scroll() {
+            if (!scrollPages.isEmpty()) {
+                pageSource = scrollPages.get(Math.min(scrollPosition.incrementAndGet(), scrollPages.size() - 1));
+            }
+            return null;
+        }
+
+        private Object switchContext(String name) {
+            if (!contexts.contains(name)) {
+                throw new WebDriverException("No such context found: " + name);
+            }
+            currentContext = name;
+            return null;
+        }
+    }
+
+    private static URL localAddress() {
+        try {
+            return new URL("http://127.0.0.1:4723");
+        } catch (MalformedURLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,20 @@
+package com.demoappmobile.screenutilities.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+public class PortSlotsTest {
+
+    @Test
+    public void reusesTheSlotsOfQuitSessions() {
+        PortSlots portSlots = new PortSlots();
+        int first = portSlots.acquire();
+        int second = portSlots.acquire();
+        Assert.assertEquals(first, 0);
+        Assert.assertEquals(second, 1);
+
+        portSlots.release(first);
+        Assert.assertEquals(portSlots.acquire(), 0);
+        Assert.assertEquals(portSlots.acquire(), 2);
+    }
+}
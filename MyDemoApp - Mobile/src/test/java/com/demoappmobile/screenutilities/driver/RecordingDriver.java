@@ -0,0 +1,103 @@
+package com.demoappmobile.screenutilities.driver;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.ui.WebDriverWait;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * A fake driver session recording every WebDriver command sent to the driver and its elements, for tests asserting
+ * how many round trips to the Appium server an action costs. Methods declared by {@link Object}, such as toString used
+ * by log messages, are answered locally like a real remote element does and are not recorded.
+ */
+public class RecordingDriver implements DriverFactory<WebDriver> {
+
+    private final List<String> commands = new CopyOnWriteArrayList<>();
+    private final WebDriver driver = proxy(WebDriver.class, "driver", (method, args) -> null);
+    private final WebDriverWait webDriverWait = new WebDriverWait(driver, Duration.ofSeconds(1), Duration.ofMillis(10));
+
+    /**
+     * Creates a displayed and enabled element answering getText with its name.
+     */
+    public WebElement element(String name) {
+        return proxy(WebElement.class, name, (method, args) -> switch (method.getName()) {
+            case "isDisplayed", "isEnabled" -> true;
+            case "getText" -> name;
+            default -> null;
+        });
+    }
+
+    /**
+     * Binds this session to the calling thread, as a lease from the session pool would.
+     */
+    public RecordingDriver attach() {
+        DriverManager.getInstance().attachSession(new PooledSession("recording-device", this));
+        return this;
+    }
+
+    public void detach() {
+        DriverManager.getInstance().detachSession();
+    }
+
+    /**
+     * @return The recorded commands as "target.method", in the order they were sent.
+     */
+    public List<String> getCommands() {
+        return List.copyOf(commands);
+    }
+
+    public void clearCommands() {
+        commands.clear();
+    }
+
+    @Override
+    public void initDriver(String deviceName) { }
+
+    @Override
+    public void initDriver(String deviceName, Duration timeout) { }
+
+    @Override
+    public WebDriver getDriver() {
+        return driver;
+    }
+
+    @Override
+    public WebDriverWait getWebDriverWait() {
+        return webDriverWait;
+    }
+
+    @Override
+    public WebDriverWait getWebDriverWait(Duration duration) {
+        return new WebDriverWait(driver, duration, Duration.ofMillis(10));
+    }
+
+    @Override
+    public void quitDriver() { }
+
+    private <T> T proxy(Class<T> type, String name, Answer answer) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            if (method.getDeclaringClass() == Object.class) {
+                return switch (method.getName()) {
+                    case "toString" -> "[RecordingDriver] -> xpath: " + name + "]";
+                    case "hashCode" -> System.identityHashCode(proxy);
+                    case "equals" -> proxy == args[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                };
+            }
+            commands.add(name + "." + method.getName());
+            return answer.answer(method, args);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+
+    @FunctionalInterface
+    private interface Answer {
+        Object answer(Method method, Object[] args);
+    }
+}
@@ -0,0 +1,76 @@
+package com.demoappmobile.screenutilities.driver;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+public class RunConfigurationTest {
+
+    @Test
+    public void laterSourcesOverrideEarlierOnes() {
+        RunConfiguration configuration = RunConfiguration.of(List.of(
+                Map.of("wait.time", "10s", "appium.server.url", "http://127.0.0.1:4723", "app.path", "app.apk"),
+                Map.of("wait.time", "PT15S", "device", "emulator-5556"),
+                Map.of("appium.server.url", "http://grid:4723")));
+
+        DeviceProfile defaults = configuration.getDefaults();
+
+        Assert.assertEquals(defaults.waitTime(), Duration.ofSeconds(15));
+        Assert.assertEquals(defaults.appiumServerUrl(), "http://grid:4723");
+        Assert.assertEquals(defaults.appPath(), "app.apk");
+        Assert.assertEquals(defaults.pollingInterval(), Duration.ofMillis(500));
+        Assert.assertEquals(defaults.maxPooledSessions(), 4);
+    }
+
+    @Test
+    public void deviceProfilesOverridePlatformProfilesAndDefaults() {
+        RunConfiguration configuration = RunConfiguration.of(List.of(Map.of(
+                "polling.interval", "250",
+                "profile.ANDROID.wait.time", "20s",
+                "profile.ANDROID.session.pool.size", "2",
+                "profile.192.168.1.5:5555.wait.time", "5s",
+                "profile.192.168.1.5:5555.appium.server.url", "http://device-lab:4723")));
+
+        DeviceProfile physicalDevice = configuration.profileFor("192.168.1.5:5555", "android");
+        DeviceProfile emulator = configuration.profileFor("emulator-5556", "ANDROID");
+
+        Assert.assertEquals(physicalDevice.waitTime(), Duration.ofSeconds(5));
+        Assert.assertEquals(physicalDevice.appiumServerUrl(), "http://device-lab:4723");
+        Assert.assertEquals(physicalDevice.pollingInterval(), Duration.ofMillis(250));
+        Assert.assertEquals(emulator.waitTime(), Duration.ofSeconds(20));
+        Assert.assertEquals(emulator.appiumServerUrl(), "http://127.0.0.1:4723");
+        Assert.assertEquals(configuration.profileFor("ANDROID").maxPooledSessions(), 2);
+        Assert.assertEquals(configuration.profileFor("IOS"), configuration.getDefaults());
+    }
+
+    @Test
+    public void invalidSettingsFailWhenLoading() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RunConfiguration.of(List.of(Map.of("profile.emulator-5556.wait.tme", "20s"))));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RunConfiguration.of(List.of(Map.of("profile.emulator-5556.wait.time", "soon"))));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RunConfiguration.of(List.of(Map.of("session.pool.size", "0"))));
+    }
+
+    @Test
+    public void poolSettingsAreOnlyAcceptedPerPlatform() {
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RunConfiguration.of(List.of(Map.of("profile.emulator-5556.session.pool.size", "2"))));
+        Assert.assertThrows(IllegalArgumentException.class,
+                () -> RunConfiguration.of(List.of(Map.of("profile.emulator-5556.session.lease.timeout", "5m"))));
+        Assert.assertEquals(RunConfiguration.of(List.of(Map.of("profile.IOS.session.idle.timeout", "1m")))
+                                            .profileFor("IOS").sessionIdleTimeout(), Duration.ofMinutes(1));
+    }
+
+    @Test
+    public void missingAppPathIsReportedWithTheDevice() {
+        DeviceProfile profile = RunConfiguration.of(List.of()).profileFor("emulator-5556", "ANDROID");
+
+        IllegalStateException exception = Assert.expectThrows(IllegalStateException.class, () -> profile.requireAppPath("emulator-5556"));
+        Assert.assertTrue(exception.getMessage().contains("emulator-5556"));
+    }
+}
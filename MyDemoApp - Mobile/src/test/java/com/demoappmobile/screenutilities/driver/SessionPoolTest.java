@@ -0,0 +1,241 @@
+package com.demoappmobile.screenutilities.driver;
+
+import com.demoappmobile.Exceptions.NoSessionAvailableException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+public class SessionPoolTest {
+
+    private FakeSessionFactory sessionFactory;
+    private SessionPool sessionPool;
+
+    @BeforeMethod
+    public void createSessionFactory() {
+        sessionFactory = new FakeSessionFactory();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void shutdownPool() {
+        if (sessionPool != null) {
+            sessionPool.shutdown();
+        }
+    }
+
+    @Test
+    public void releasedSessionIsResetAndLeasedAgain() {
+        sessionPool = new SessionPool(sessionFactory, 2, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        PooledSession first = sessionPool.lease("emulator-5554");
+        sessionPool.release(first);
+        PooledSession second = sessionPool.lease("emulator-5554");
+
+        Assert.assertSame(second, first);
+        Assert.assertEquals(sessionFactory.created.size(), 1);
+        Assert.assertEquals(sessionFactory.created.get(0).resets, 1);
+    }
+
+    @Test
+    public void sessionReleasedInWebViewIsLeasedInNativeContext() {
+        FakeAndroidSession fakeSession = new FakeAndroidSession().setContexts("NATIVE_APP", "WEBVIEW_com.saucelabs.mydemoapp");
+        sessionPool = new SessionPool(new AppiumSessionFactory("ANDROID", "com.saucelabs.mydemoapp") {
+            @Override
+            public DriverFactory<? extends WebDriver> create(String deviceName) {
+                return fakeSession;
+            }
+        }, 1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        PooledSession first = sessionPool.lease("emulator-5554");
+        first.getContextSwitcher().switchToWebView();
+        int generationInWebView = first.getContextSwitcher().getContextGeneration();
+        sessionPool.release(first);
+        PooledSession second = sessionPool.lease("emulator-5554");
+
+        Assert.assertSame(second, first);
+        Assert.assertFalse(second.getContextSwitcher().isInWebView());
+        Assert.assertNotEquals(second.getContextSwitcher().getContextGeneration(), generationInWebView);
+        second.getContextSwitcher().switchToWebView();
+        Assert.assertEquals(fakeSession.getDriver().getContext(), "WEBVIEW_com.saucelabs.mydemoapp");
+    }
+
+    @Test
+    public void warmedUpSessionIsLeasedWithoutStartingAnotherOne() {
+        sessionPool = new SessionPool(sessionFactory, 2, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+        Map<String, Duration> startupTimes = sessionPool.warmUp(List.of("emulator-5554", "emulator-5556")).join();
+        PooledSession session = sessionPool.lease("emulator-5556");
+
+        Assert.assertEquals(startupTimes.keySet(), Set.of("emulator-5554", "emulator-5556"));
+        Assert.assertEquals(session.getDeviceName(), "emulator-5556");
+        Assert.assertEquals(sessionFactory.created.size(), 2);
+    }
+
+    @Test
+    public void leaseWaitsForSessionThatIsStillStarting() {
+        sessionFactory.startupDelay = Duration.ofMillis(200);
+        sessionPool = new SessionPool(sessionFactory, 2, Duration.ofMinutes(5), Duration.ofSeconds(5));
+
+        sessionPool.warmUp(List.of("emulator-5554"));
+        sessionPool.lease("emulator-5554");
+
+        Assert.assertEquals(sessionFactory.created.size(), 1);
+    }
+
+    @Test
+    public void leaseFailsWhenAllSessionsAreLeased() {
+        sessionPool = new SessionPool(sessionFactory, 1, Duration.ofMinutes(5), Duration.ofMillis(50));
+
+        sessionPool.lease("emulator-5554");
+
+        Assert.assertThrows(NoSessionAvailableException.class, () -> sessionPool.lease("emulator-5556"));
+    }
+
+    @Test
+    public void idleSessionOfAnotherDeviceIsEvictedWhenPoolIsFull() {
+        sessionPool = new SessionPool(sessionFactory, 1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        sessionPool.release(sessionPool.lease("emulator-5554"));
+        PooledSession session = sessionPool.lease("emulator-5556");
+
+        Assert.assertEquals(session.getDeviceName(), "emulator-5556");
+        Assert.assertTrue(sessionFactory.created.get(0).quit);
+        Assert.assertEquals(sessionPool.getLiveSessionCount(), 1);
+    }
+
+    @Test
+    public void unhealthyIdleSessionIsReplaced() {
+        sessionPool = new SessionPool(sessionFactory, 1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        PooledSession first = sessionPool.lease("emulator-5554");
+        sessionPool.release(first);
+        sessionFactory.created.get(0).healthy = false;
+        PooledSession second = sessionPool.lease("emulator-5554");
+
+        Assert.assertNotSame(second, first);
+        Assert.assertTrue(sessionFactory.created.get(0).quit);
+    }
+
+    @Test
+    public void sessionFailingToResetIsDiscarded() {
+        sessionPool = new SessionPool(sessionFactory, 1, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        PooledSession session = sessionPool.lease("emulator-5554");
+        sessionFactory.created.get(0).failReset = true;
+        sessionPool.release(session);
+
+        Assert.assertTrue(sessionFactory.created.get(0).quit);
+        Assert.assertEquals(sessionPool.getIdleSessionCount(), 0);
+        Assert.assertNotNull(sessionPool.lease("emulator-5554"));
+    }
+
+    @Test
+    public void invalidatingSessionTwiceFreesItsSlotOnce() {
+        sessionPool = new SessionPool(sessionFactory, 1, Duration.ofMinutes(5), Duration.ofMillis(50));
+
+        PooledSession session = sessionPool.lease("emulator-5554");
+        sessionPool.invalidate(session);
+        sessionPool.invalidate(session);
+        sessionPool.lease("emulator-5554");
+
+        Assert.assertEquals(sessionPool.getLiveSessionCount(), 1);
+        Assert.assertThrows(NoSessionAvailableException.class, () -> sessionPool.lease("emulator-5556"));
+    }
+
+    @Test
+    public void idleSessionsAreEvictedAfterIdleTimeout() {
+        sessionPool = new SessionPool(sessionFactory, 2, Duration.ZERO, Duration.ofSeconds(1));
+
+        sessionPool.release(sessionPool.lease("emulator-5554"));
+        sessionPool.evictIdleSessions();
+
+        Assert.assertEquals(sessionPool.getIdleSessionCount(), 0);
+        Assert.assertEquals(sessionPool.getLiveSessionCount(), 0);
+        Assert.assertTrue(sessionFactory.created.get(0).quit);
+    }
+
+    @Test
+    public void shutdownQuitsLeasedAndIdleSessions() {
+        sessionPool = new SessionPool(sessionFactory, 2, Duration.ofMinutes(5), Duration.ofSeconds(1));
+
+        sessionPool.release(sessionPool.lease("emulator-5554"));
+        sessionPool.lease("emulator-5556");
+        sessionPool.shutdown();
+
+        Assert.assertTrue(sessionFactory.created.stream().allMatch(session -> session.quit));
+        Assert.assertThrows(NoSessionAvailableException.class, () -> sessionPool.lease("emulator-5554"));
+    }
+
+    private static final class FakeSessionFactory implements SessionFactory {
+
+        private final List<FakeDriverFactory> created = new CopyOnWriteArrayList<>();
+        private Duration startupDelay = Duration.ZERO;
+
+        @Override
+        public DriverFactory<? extends WebDriver> create(String deviceName) throws InterruptedException {
+            Thread.sleep(startupDelay.toMillis());
+            FakeDriverFactory driverFactory = new FakeDriverFactory();
+            created.add(driverFactory);
+            return driverFactory;
+        }
+
+        @Override
+        public boolean isHealthy(DriverFactory<? extends WebDriver> driverFactory) {
+            return ((FakeDriverFactory) driverFactory).healthy;
+        }
+
+        @Override
+        public void reset(DriverFactory<? extends WebDriver> driverFactory) {
+            FakeDriverFactory fakeDriverFactory = (FakeDriverFactory) driverFactory;
+            if (fakeDriverFactory.failReset) {
+                throw new IllegalStateException("Application did not restart");
+            }
+            fakeDriverFactory.resets++;
+        }
+    }
+
+    private static final class FakeDriverFactory implements DriverFactory<WebDriver> {
+
+        private final WebDriver driver = (WebDriver) Proxy.newProxyInstance(WebDriver.class.getClassLoader(),
+                new Class<?>[]{WebDriver.class}, (proxy, method, args) -> null);
+        private boolean healthy = true;
+        private boolean failReset;
+        private boolean quit;
+        private int resets;
+
+        @Override
+        public void initDriver(String deviceName) { }
+
+        @Override
+        public void initDriver(String deviceName, Duration timeout) { }
+
+        @Override
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        @Override
+        public WebDriverWait getWebDriverWait() {
+            return null;
+        }
+
+        @Override
+        public WebDriverWait getWebDriverWait(Duration duration) {
+            return null;
+        }
+
+        @Override
+        public void quitDriver() {
+            quit = true;
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package com.demoappmobile.screenutilities.driver.stub;
+
+import com.demoappmobile.screen.nativecontext.Catalog;
+import com.demoappmobile.screen.nativecontext.Login;
+import com.demoappmobile.screen.webviewcontext.SwagLabsHome;
+import com.demoappmobile.screen.webviewcontext.SwagLabsLogin;
+import com.demoappmobile.screenutilities.driver.DriverManager;
+import com.demoappmobile.screenutilities.driver.PooledSession;
+import com.demoappmobile.screenutilities.driver.SessionPool;
+import io.appium.java_client.AppiumBy;
+import io.appium.java_client.android.AndroidDriver;
+import org.openqa.selenium.ElementClickInterceptedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebElement;
+import org.testng.Assert;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+
+public class StubAppiumServerTest {
+
+    private StubAppiumServer server;
+    private SessionPool sessionPool;
+    private AndroidDriver driver;
+
+    @BeforeClass
+    public void startServer() {
+        server = StubAppiumServer.start(StubBehavior.instant());
+        sessionPool = new SessionPool(new StubSessionFactory(server), 1, Duration.ofMinutes(1), Duration.ofSeconds(10));
+    }
+
+    @AfterClass(alwaysRun = true)
+    public void stopServer() {
+        sessionPool.shutdown();
+        server.close();
+    }
+
+    @BeforeMethod
+    public void leaseSession() {
+        PooledSession session = sessionPool.lease("stub-device");
+        DriverManager.getInstance().attachSession(session);
+        driver = (AndroidDriver) session.getDriver();
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void releaseSession() {
+        server.setBehavior(StubBehavior.instant());
+        // Releasing restarts the app, the next test starts on the catalog again
+        sessionPool.release(DriverManager.getInstance().detachSession());
+    }
+
+    @Test
+    public void nativeScreensFollowTheScriptedApp() {
+        Catalog catalog = DriverManager.getInstance().getScreenRegistry().get(Catalog.class);
+        Assert.assertTrue(catalog.isProductHeaderVisible());
+
+        Login login = catalog.goToLoginScreen();
+        login.fillUsernameField("alice@example.com").fillPasswordField("10203040").loginButtonClick();
+        Assert.assertTrue(login.isLockedOutErrorMessageVisible());
+
+        login = catalog.goToLoginScreen();
+        catalog = login.fillUsernameField("bob@example.com").fillPasswordField("10203040").loginButtonClick();
+        Assert.assertTrue(catalog.isProductHeaderVisible());
+        Assert.assertFalse(catalog.goToLoginScreen().isLoginButtonVisible());
+    }
+
+    @Test
+    public void scrollingRevealsTheEndOfTheList() {
+        Catalog catalog = DriverManager.getInstance().getScreenRegistry().get(Catalog.class);
+        WebElement twitterIcon = driver.findElement(AppiumBy.accessibilityId("twitter"));
+        Assert.assertFalse(twitterIcon.isDisplayed());
+
+        catalog.twitterButtonClick();
+
+        Assert.assertTrue(twitterIcon.isDisplayed());
+    }
+
+    @Test
+    public void goingToASiteOpensTheWebViewContext() {
+        Catalog catalog = DriverManager.getInstance().getScreenRegistry().get(Catalog.class);
+
+        SwagLabsLogin swagLabsLogin = catalog.goToWebViewScreen().fillUrlField("https://www.saucedemo.com").goToSiteButtonClick();
+        Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
+        SwagLabsHome swagLabsHome = swagLabsLogin.fillUsernameField("standard_user").fillPasswordField("secret_sauce").loginButtonClick();
+
+        Assert.assertTrue(swagLabsHome.isScreenHeaderVisible());
+        Assert.assertEquals(driver.getContext(), StubSession.WEBVIEW_CONTEXT);
+    }
+
+    @Test
+    public void latencyIsAddedToEveryCommand() {
+        server.setBehavior(StubBehavior.latency(Duration.ofMillis(30), Duration.ofMillis(10)));
+
+        long start = System.nanoTime();
+        driver.getPageSource();
+
+        Assert.assertTrue(System.nanoTime() - start >= Duration.ofMillis(30).toNanos());
+    }
+
+    @Test
+    public void injectedFaultsSurfaceAsTheirSeleniumExceptions() {
+        WebElement menuButton = driver.findElement(AppiumBy.accessibilityId("open menu"));
+
+        server.setBehavior(StubBehavior.instant().withFault(StubFault.STALE_ELEMENT, 1));
+        Assert.assertThrows(StaleElementReferenceException.class, menuButton::isDisplayed);
+        server.setBehavior(StubBehavior.instant().withFault(StubFault.CLICK_INTERCEPTED, 1));
+        Assert.assertTrue(menuButton.isDisplayed());
+        Assert.assertThrows(ElementClickInterceptedException.class, menuButton::click);
+        server.setBehavior(StubBehavior.instant().withFault(StubFault.TIMEOUT, 1));
+        Assert.assertThrows(TimeoutException.class, driver::getPageSource);
+    }
+
+    @Test
+    public void releasedSessionsAreReusedFromTheStart() {
+        DriverManager.getInstance().getScreenRegistry().get(Catalog.class).goToLoginScreen();
+        String sessionId = driver.getSessionId().toString();
+        sessionPool.release(DriverManager.getInstance().detachSession());
+
+        leaseSession();
+
+        Assert.assertEquals(driver.getSessionId().toString(), sessionId);
+        Assert.assertTrue(DriverManager.getInstance().getScreenRegistry().get(Catalog.class).isProductHeaderVisible());
+        Assert.assertEquals(server.getSessionCount(), 1);
+    }
+
+    @Test
+    public void elementsOfAScreenThatWasLeftAreStale() {
+        WebElement menuButton = driver.findElement(AppiumBy.accessibilityId("open menu"));
+
+        menuButton.click();
+
+        Assert.assertThrows(StaleElementReferenceException.class, menuButton::click);
+    }
+}
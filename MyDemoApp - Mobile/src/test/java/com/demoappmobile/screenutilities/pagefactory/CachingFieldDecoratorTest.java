@@ -0,0 +1,99 @@
+package com.demoappmobile.screenutilities.pagefactory;
+
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CachingFieldDecoratorTest {
+
+    private final AtomicInteger contextGeneration = new AtomicInteger();
+    private final List<String> lookups = new ArrayList<>();
+    private final List<Boolean> staleOnNextClick = new ArrayList<>();
+    private ElementCache cache;
+    private Screen screen;
+
+    @BeforeMethod
+    public void initScreen() {
+        lookups.clear();
+        staleOnNextClick.clear();
+        cache = new ElementCache(contextGeneration::get);
+        screen = new Screen();
+        PageFactory.initElements(new CachingFieldDecorator(field -> locator(field.getName()), (loader, field) -> null, cache), screen);
+    }
+
+    @Test
+    public void locatesEachElementOnce() {
+        screen.loginButton.click();
+        screen.loginButton.click();
+        screen.loginButton.getText();
+
+        Assert.assertEquals(lookups, List.of("loginButton"));
+        Assert.assertEquals(cache.getMisses(), 1);
+        Assert.assertEquals(cache.getHits(), 2);
+    }
+
+    @Test
+    public void locatesAStaleElementAgainAndRepeatsTheCall() {
+        screen.loginButton.click();
+        staleOnNextClick.add(true);
+
+        screen.loginButton.click();
+
+        Assert.assertEquals(lookups, List.of("loginButton", "loginButton"));
+        Assert.assertEquals(cache.getInvalidations(), 1);
+    }
+
+    @Test
+    public void dropsAllElementsWhenTheContextIsSwitched() {
+        screen.loginButton.click();
+        contextGeneration.incrementAndGet();
+
+        screen.loginButton.click();
+
+        Assert.assertEquals(lookups, List.of("loginButton", "loginButton"));
+        Assert.assertEquals(screen.loginButton.toString(), "locator of loginButton");
+    }
+
+    private ElementLocator locator(String name) {
+        return new ElementLocator() {
+            @Override
+            public WebElement findElement() {
+                lookups.add(name);
+                return element();
+            }
+
+            @Override
+            public List<WebElement> findElements() {
+                return List.of(findElement());
+            }
+
+            @Override
+            public String toString() {
+                return "locator of " + name;
+            }
+        };
+    }
+
+    private WebElement element() {
+        return (WebElement) Proxy.newProxyInstance(WebElement.class.getClassLoader(), new Class<?>[]{WebElement.class}, (proxy, method, args) -> {
+            if (method.getName().equals("click") && !staleOnNextClick.isEmpty()) {
+                staleOnNextClick.clear();
+                throw new StaleElementReferenceException("element is no longer attached");
+            }
+            return method.getName().equals("getText") ? "Login" : null;
+        });
+    }
+
+    private static class Screen {
+        private WebElement loginButton;
+    }
+}
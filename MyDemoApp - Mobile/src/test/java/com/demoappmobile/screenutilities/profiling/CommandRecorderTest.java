@@ -0,0 +1,103 @@
+package com.demoappmobile.screenutilities.profiling;
+
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+public class CommandRecorderTest {
+
+    private static final SessionId SESSION_ID = new SessionId("recorded-session");
+
+    private CommandRecorder recorder;
+
+    @BeforeMethod
+    public void createRecorder() {
+        recorder = new CommandRecorder(FakeScreen.class::equals);
+    }
+
+    @Test
+    public void commandsAreAttributedToTestAndScreenMethods() {
+        recorder.startTest("CatalogTest.opensMenu");
+        new FakeScreen().openMenu();
+        recorder.record(command(DriverCommand.GET_PAGE_SOURCE, Map.of()), response("<hierarchy/>"), null, System.nanoTime(), 3_000_000);
+        recorder.endTest();
+
+        List<Map.Entry<String, Long>> stacks = recorder.foldedStacks();
+        Assert.assertTrue(stacks.contains(Map.entry("CatalogTest.opensMenu;FakeScreen.openMenu;findElement", 2_000L)), stacks.toString());
+        Assert.assertTrue(stacks.contains(Map.entry("CatalogTest.opensMenu;FakeScreen.openMenu;FakeScreen.clickMenu;clickElement", 1_000L)), stacks.toString());
+        Assert.assertTrue(stacks.contains(Map.entry("CatalogTest.opensMenu;getPageSource", 3_000L)), stacks.toString());
+
+        Map<?, ?> test = (Map<?, ?>) ((List<?>) recorder.toReport().get("tests")).get(0);
+        Assert.assertEquals(test.get("test"), "CatalogTest.opensMenu");
+        Assert.assertEquals(test.get("commands"), 3L);
+        Assert.assertEquals(test.get("commandMs"), 6.0);
+        Assert.assertTrue(test.containsKey("frameworkMs"));
+        List<?> screenMethods = (List<?>) recorder.toReport().get("screenMethods");
+        Assert.assertEquals(((Map<?, ?>) screenMethods.get(0)).get("screenMethod"), CommandRecorder.NO_SCREEN);
+        Assert.assertEquals(((Map<?, ?>) screenMethods.get(0)).get("responseChars"), (long) "<hierarchy/>".length());
+        Assert.assertEquals(((Map<?, ?>) screenMethods.get(1)).get("screenMethod"), "FakeScreen.openMenu");
+    }
+
+    @Test
+    public void failuresAndCommandsOutsideOfTestsAreRecorded() {
+        recorder.record(command(DriverCommand.FIND_ELEMENT, Map.of("using", "id", "value", "menu")), null, new TimeoutException(),
+                System.nanoTime(), 1_000_000);
+
+        Map<?, ?> test = (Map<?, ?>) ((List<?>) recorder.toReport().get("tests")).get(0);
+        Assert.assertEquals(test.get("test"), CommandRecorder.NO_TEST);
+        Assert.assertEquals(test.get("failures"), 1L);
+        Assert.assertFalse(test.containsKey("wallMs"));
+    }
+
+    @Test
+    public void reportsAreWrittenAsJsonJsonLinesAndFoldedStacks() throws IOException {
+        recorder.startTest("CatalogTest.opensMenu");
+        new FakeScreen().openMenu();
+        recorder.endTest();
+        Path directory = Files.createTempDirectory("command-recorder").resolve("reports");
+
+        recorder.writeReports(directory);
+
+        Assert.assertTrue(Files.readString(directory.resolve("command-report.json")).contains("\"FakeScreen.openMenu\""));
+        List<String> commands = Files.readAllLines(directory.resolve("commands.jsonl"));
+        Assert.assertEquals(commands.size(), 2);
+        Assert.assertTrue(commands.get(0).contains("\"findElement\""), commands.get(0));
+        Assert.assertTrue(Files.readAllLines(directory.resolve("commands.folded"))
+                               .contains("CatalogTest.opensMenu;FakeScreen.openMenu;findElement 2000"));
+    }
+
+    private static Command command(String name, Map<String, ?> parameters) {
+        return new Command(SESSION_ID, name, parameters);
+    }
+
+    private static Response response(Object value) {
+        Response response = new Response(SESSION_ID);
+        response.setState("success");
+        response.setValue(value);
+        return response;
+    }
+
+    private final class FakeScreen {
+
+        private void openMenu() {
+            recorder.record(command(DriverCommand.FIND_ELEMENT, Map.of("using", "accessibility id", "value", "open menu")),
+                    response(Map.of("element-6066-11e4-a52e-4f735466cecf", "element-1")), null, System.nanoTime(), 2_000_000);
+            clickMenu();
+        }
+
+        private void clickMenu() {
+            recorder.record(command(DriverCommand.CLICK_ELEMENT, Map.of("id", "element-1")), response(null), null, System.nanoTime(), 1_000_000);
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.demoappmobile.screenutilities.profiling;
+
+import com.demoappmobile.screen.nativecontext.Catalog;
+import com.demoappmobile.screenutilities.pagefactory.ScreenMetadata;
+import org.openqa.selenium.remote.Command;
+import org.openqa.selenium.remote.DriverCommand;
+import org.openqa.selenium.remote.Response;
+import org.openqa.selenium.remote.SessionId;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.LockSupport;
+
+public class LocatorProfilerTest {
+
+    private static final SessionId SESSION_ID = new SessionId("profiled-session");
+    private static final String TWITTER_ICON = "//android.widget.ScrollView/android.view.ViewGroup/android.view.ViewGroup[3]/android.widget.ImageView[1]";
+    private static final String PAGE_SOURCE = """
+            <hierarchy>
+              <android.widget.ScrollView>
+                <android.view.ViewGroup>
+                  <android.view.ViewGroup/>
+                  <android.view.ViewGroup/>
+                  <android.view.ViewGroup>
+                    <android.widget.ImageView content-desc="twitter" resource-id="social-twitter"/>
+                  </android.view.ViewGroup>
+                </android.view.ViewGroup>
+              </android.widget.ScrollView>
+            </hierarchy>
+            """;
+
+    private final List<String> executed = new ArrayList<>();
+
+    @Test
+    public void slowestLocatorsComeFirstWithAFasterAlternative() {
+        LocatorProfiler profiler = new LocatorProfiler();
+        profiler.registerScreen(Catalog.class, ScreenMetadata.of(Catalog.class).fieldLocators());
+
+        profiler.profile(find("xpath", TWITTER_ICON), this::execute);
+        profiler.profile(find("xpath", TWITTER_ICON), this::execute);
+        profiler.profile(find("accessibility id", "open menu"), this::execute);
+
+        List<?> locators = (List<?>) profiler.toReport().get("locators");
+        Map<?, ?> slowest = (Map<?, ?>) locators.get(0);
+        Assert.assertEquals(slowest.get("field"), "Catalog.twitterIcon");
+        Assert.assertEquals(slowest.get("suggestion"), "@AndroidFindBy(accessibility = \"twitter\")");
+        Assert.assertEquals(((Map<?, ?>) slowest.get("latencyMs")).get("count"), 2L);
+        Assert.assertEquals(((Map<?, ?>) locators.get(1)).get("field"), "-");
+        // The page source is fetched for the first lookup of the XPath only
+        Assert.assertEquals(executed.stream().filter(DriverCommand.GET_PAGE_SOURCE::equals).count(), 1);
+    }
+
+    @Test
+    public void otherCommandsAreNotProfiled() {
+        LocatorProfiler profiler = new LocatorProfiler();
+
+        profiler.profile(new Command(SESSION_ID, DriverCommand.CLICK_ELEMENT, Map.of("id", "element-1")), this::execute);
+
+        Assert.assertEquals(((List<?>) profiler.toReport().get("locators")).size(), 0);
+    }
+
+    private static Command find(String using, String value) {
+        return new Command(SESSION_ID, DriverCommand.FIND_ELEMENT, Map.of("using", using, "value", value));
+    }
+
+    private Response execute(Command command) {
+        executed.add(command.getName());
+        Response response = new Response(SESSION_ID);
+        response.setState("success");
+        if (command.getName().equals(DriverCommand.GET_PAGE_SOURCE)) {
+            response.setValue(PAGE_SOURCE);
+        } else if ("xpath".equals(command.getParameters().get("using"))) {
+            // XPath lookups are the slow ones on UiAutomator2
+            LockSupport.parkNanos(2_000_000);
+        }
+        return response;
+    }
+}
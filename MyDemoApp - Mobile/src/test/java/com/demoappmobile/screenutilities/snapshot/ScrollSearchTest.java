@@ -0,0 +1,62 @@
+package com.demoappmobile.screenutilities.snapshot;
+
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.Set;
+
+public class ScrollSearchTest {
+
+    private static final By GOOGLE_PIXEL = By.xpath("//android.widget.TextView[@text='Google Pixel 9']");
+
+    private FakeAndroidSession session;
+    private ScrollSearch scrollSearch;
+
+    @BeforeMethod
+    public void createSearch() {
+        session = new FakeAndroidSession();
+        scrollSearch = new ScrollSearch(session.getDriver(), new SnapshotSource(session.getDriver()));
+    }
+
+    @Test
+    public void searchStopsAtTheElement() {
+        session.setScrollPages(list("Honor 10 Lite", "iPad 10.2"), list("iPad 10.2", "iPhone X"), list("iPhone X", "Google Pixel 9"));
+
+        Assert.assertTrue(scrollSearch.scrollUntilDisplayed(GOOGLE_PIXEL, ScrollSearch.Direction.UP, Duration.ofSeconds(5)));
+        Assert.assertEquals(scrollSearch.getSwipeCount(), 2);
+    }
+
+    @Test
+    public void searchStopsAtTheEndOfTheListInsteadOfTheTimeout() {
+        session.setScrollPages(list("Honor 10 Lite", "iPad 10.2"), list("iPad 10.2", "iPhone X"));
+        long start = System.nanoTime();
+
+        Assert.assertFalse(scrollSearch.scrollUntilDisplayed(GOOGLE_PIXEL, ScrollSearch.Direction.UP, Duration.ofSeconds(50)));
+
+        Assert.assertEquals(scrollSearch.getSwipeCount(), 2);
+        Assert.assertTrue(Duration.ofNanos(System.nanoTime() - start).compareTo(Duration.ofSeconds(5)) < 0);
+        Assert.assertEquals(session.getCommands().stream().filter("getCurrentWindowSize"::equals).count(), 1);
+    }
+
+    @Test
+    public void swipeDistanceFollowsTheOverlapOfPositions() {
+        Set<String> position = Set.of("a", "b", "c", "d");
+
+        Assert.assertTrue(ScrollSearch.adaptDistance(0.5, position, Set.of("b", "c", "d", "e")) > 0.5);
+        Assert.assertEquals(ScrollSearch.adaptDistance(0.5, position, Set.of("d", "e", "f", "g")), 0.5);
+        Assert.assertTrue(ScrollSearch.adaptDistance(0.5, position, Set.of("x", "y")) < 0.5);
+        Assert.assertEquals(ScrollSearch.adaptDistance(ScrollSearch.MAX_DISTANCE, position, position), ScrollSearch.MAX_DISTANCE);
+    }
+
+    private static String list(String... models) {
+        StringBuilder pageSource = new StringBuilder("<hierarchy><android.widget.ScrollView>");
+        for (String model : models) {
+            pageSource.append("<android.widget.TextView text=\"").append(model).append("\" displayed=\"true\"/>");
+        }
+        return pageSource.append("</android.widget.ScrollView></hierarchy>").toString();
+    }
+}
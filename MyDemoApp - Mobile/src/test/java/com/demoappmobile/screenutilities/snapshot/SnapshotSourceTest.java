@@ -0,0 +1,84 @@
+package com.demoappmobile.screenutilities.snapshot;
+
+import com.demoappmobile.screenutilities.driver.FakeAndroidSession;
+import io.appium.java_client.AppiumBy;
+import org.openqa.selenium.By;
+import org.testng.Assert;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class SnapshotSourceTest {
+
+    private static final String LOGIN_SCREEN = """
+            <hierarchy>
+              <android.widget.EditText content-desc="Username input field" displayed="true"/>
+              <android.widget.TextView text="Sorry, this user has been locked out." displayed="false"/>
+            </hierarchy>
+            """;
+
+    private FakeAndroidSession session;
+    private SnapshotSource snapshotSource;
+
+    @BeforeMethod
+    public void createSource() {
+        session = new FakeAndroidSession().setPageSource(LOGIN_SCREEN);
+        snapshotSource = new SnapshotSource(session.getDriver());
+    }
+
+    @Test
+    public void snapshotIsReusedUntilTheScreenMayHaveChanged() {
+        PageSourceSnapshot first = snapshotSource.current();
+        session.getDriver().findElement(AppiumBy.accessibilityId("Username input field")).isDisplayed();
+        Assert.assertSame(snapshotSource.current(), first);
+
+        session.getDriver().findElement(AppiumBy.accessibilityId("Login button")).click();
+
+        Assert.assertNotSame(snapshotSource.current(), first);
+        Assert.assertEquals(snapshotSource.getFetchCount(), 2);
+    }
+
+    @Test
+    public void screenChangesOnAnotherThreadOutdateTheSnapshot() throws Exception {
+        PageSourceSnapshot first = snapshotSource.current();
+
+        CompletableFuture.runAsync(() -> session.getDriver().findElement(AppiumBy.accessibilityId("Login button")).click())
+                         .get(5, TimeUnit.SECONDS);
+
+        Assert.assertNotSame(snapshotSource.current(), first);
+    }
+
+    @Test
+    public void screenChangesOfAnotherSessionKeepTheSnapshot() {
+        PageSourceSnapshot first = snapshotSource.current();
+
+        new FakeAndroidSession().getDriver().findElement(AppiumBy.accessibilityId("Login button")).click();
+
+        Assert.assertSame(snapshotSource.current(), first);
+    }
+
+    @Test
+    public void hiddenElementsArePolledWithFreshSnapshots() {
+        By lockedOutMessage = By.xpath("//android.widget.TextView[@text='Sorry, this user has been locked out.']");
+
+        Assert.assertFalse(snapshotSource.waitUntilDisplayed(lockedOutMessage, Duration.ofMillis(50), Duration.ofMillis(10)));
+        Assert.assertTrue(snapshotSource.getFetchCount() > 1);
+
+        session.setPageSource(LOGIN_SCREEN.replace("displayed=\"false\"", "displayed=\"true\""));
+        Assert.assertTrue(snapshotSource.waitUntilDisplayed(lockedOutMessage, Duration.ofSeconds(1), Duration.ofMillis(10)));
+    }
+
+    @Test
+    public void idsWithoutPackageMatchAnyPackage() {
+        PageSourceSnapshot snapshot = PageSourceSnapshot.parse("""
+                <hierarchy><android.widget.TextView resource-id="com.saucelabs.mydemoapp.rn:id/price" text="$29.99"/></hierarchy>
+                """);
+
+        Assert.assertEquals(snapshot.findAttributes(AppiumBy.id("price")).get("text"), "$29.99");
+        Assert.assertNull(snapshot.findAttributes(AppiumBy.id("other:id/price")));
+        Assert.assertFalse(PageSourceSnapshot.supports(AppiumBy.androidUIAutomator("new UiSelector()")));
+    }
+}
@@ -2,21 +2,24 @@ package tests;
 
 import AssertMessages.VisibilityMessage;
 import Setup.BaseTest;
+import com.demoappmobile.screen.nativecontext.Catalog;
 import com.demoappmobile.screen.nativecontext.Login;
 import org.testng.Assert;
 import org.testng.annotations.Test;
-import utilities.CredentialManager;
+import utilities.Account;
+import utilities.AccountRole;
 
 public class LoginToAccount extends BaseTest {
 
-    private Login login;
     @Test
     public void successfulLoginToAccount(){
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        login = catalog.goToLoginScreen();
+        Login login = catalog.goToLoginScreen();
         Assert.assertTrue(login.isLoginScreenHeaderVisible());
-        login.fillUsernameField(CredentialManager.credentialReader("validUsername"));
-        login.fillPasswordField(CredentialManager.credentialReader("validPassword"));
+        Account account = leaseAccount(AccountRole.VALID);
+        login.fillUsernameField(account.username());
+        login.fillPasswordField(account.password());
         catalog = login.loginButtonClick();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
         login = catalog.goToLoginScreen();
@@ -25,36 +28,42 @@ public class LoginToAccount extends BaseTest {
 
     @Test
     public void lockedOutLoginToAccount(){
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        login = catalog.goToLoginScreen();
+        Login login = catalog.goToLoginScreen();
         Assert.assertTrue(login.isLoginScreenHeaderVisible());
-        login.fillUsernameField(CredentialManager.credentialReader("lockeOutUsername"));
-        login.fillPasswordField(CredentialManager.credentialReader("validPassword"));
-        catalog = login.loginButtonClick();
+        Account account = leaseAccount(AccountRole.LOCKED_OUT);
+        login.fillUsernameField(account.username());
+        login.fillPasswordField(account.password());
+        login.loginButtonClick();
         Assert.assertTrue(login.isLockedOutErrorMessageVisible());
     }
 
     @Test
     public void unknownUserLoginToAccount_invalidUsername(){
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        login = catalog.goToLoginScreen();
+        Login login = catalog.goToLoginScreen();
         Assert.assertTrue(login.isLoginScreenHeaderVisible());
-        login.fillUsernameField(CredentialManager.credentialReader("invalidUsername"));
-        login.fillPasswordField(CredentialManager.credentialReader("validPassword"));
-        catalog = login.loginButtonClick();
+        Account account = leaseAccount(AccountRole.UNKNOWN);
+        login.fillUsernameField(account.username());
+        login.fillPasswordField(account.password());
+        login.loginButtonClick();
         Assert.assertTrue(login.isUnknownUserErrorMessageVisible());
     }
 
     @Test
     public void unknownUserLoginToAccount_invalidPassword(){
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        login = catalog.goToLoginScreen();
+        Login login = catalog.goToLoginScreen();
         Assert.assertTrue(login.isLoginScreenHeaderVisible());
-        login.fillUsernameField(CredentialManager.credentialReader("validUsername"));
-        login.fillPasswordField(CredentialManager.credentialReader("invalidPassword"));
-        catalog = login.loginButtonClick();
+        Account account = leaseAccount(AccountRole.WRONG_PASSWORD);
+        login.fillUsernameField(account.username());
+        login.fillPasswordField(account.password());
+        login.loginButtonClick();
         Assert.assertTrue(login.isUnknownUserErrorMessageVisible());
     }
 
 
-}
\ No newline at end of file
+}
@@ -3,19 +3,17 @@ package tests;
 import AssertMessages.VisibilityMessage;
 import Setup.BaseTest;
 import com.demoappmobile.screen.SauceBotVideo;
-import com.demoappmobile.screen.nativecontext.ApiCalls;
+import com.demoappmobile.screen.nativecontext.Catalog;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
 public class SauceVideo extends BaseTest {
 
-    SauceBotVideo sauceBotVideo;
-    ApiCalls apiCalls;
-
     @Test
     public void timestamp() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        sauceBotVideo = catalog.goToSauceBotVideoScreen();
+        SauceBotVideo sauceBotVideo = catalog.goToSauceBotVideoScreen();
         sauceBotVideo.fastForwardButtonClick();
         sauceBotVideo.stopButtonClick();
         String s = sauceBotVideo.getCurrentTimeStamp();
@@ -26,9 +24,10 @@ public class SauceVideo extends BaseTest {
 
 //    @Test
 //    public void apiCalls() {
+//        Catalog catalog = getCatalog();
 //        Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
 //        catalog.twitterButtonClick();
-//        apiCalls = catalog.goToApiCallsScreen();
+//        ApiCalls apiCalls = catalog.goToApiCallsScreen();
 //        Assert.assertTrue(apiCalls.isScreenHeaderVisible(), "Header not visible");
 //        apiCalls.findMobile();
 //
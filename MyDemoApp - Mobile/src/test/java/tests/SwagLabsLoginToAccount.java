@@ -2,96 +2,106 @@ package tests;
 
 import AssertMessages.VisibilityMessage;
 import Setup.BaseTest;
+import com.demoappmobile.screen.nativecontext.Catalog;
 import com.demoappmobile.screen.nativecontext.WebViewScreen;
 import com.demoappmobile.screen.webviewcontext.SwagLabsHome;
 import com.demoappmobile.screen.webviewcontext.SwagLabsLogin;
 import org.testng.Assert;
 import org.testng.annotations.Test;
-import utilities.CredentialManager;
+import utilities.Account;
+import utilities.AccountRole;
 
 public class SwagLabsLoginToAccount extends BaseTest {
 
-    private WebViewScreen webViewScreen;
-    private SwagLabsLogin swagLabsLogin;
-    private SwagLabsHome swagLabsHome;
-
     @Test
     public void loginToSwagLabsValidUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("validUserSwagLabsUsername"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
-        swagLabsHome = swagLabsLogin.loginButtonClick();
+        Account account = leaseAccount(AccountRole.SWAG_LABS_STANDARD);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
+        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
         Assert.assertTrue(swagLabsHome.isScreenHeaderVisible(), VisibilityMessage.headerIsNotVisible("SwagLabs"));
 
     }
 
     @Test
     public void loginToSwagLabsLockedOutUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("lockeOutSwagLabsUsername"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
-        swagLabsHome = swagLabsLogin.loginButtonClick();
+        Account account = leaseAccount(AccountRole.SWAG_LABS_LOCKED_OUT);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
+        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
         catalog.goToLoginScreen();
     }
 
     @Test
     public void loginToSwagLabsProblemUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("problemUserSwagLabsUsername"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
+        Account account = leaseAccount(AccountRole.SWAG_LABS_PROBLEM);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
 
-//        swagLabsHome = swagLabsLogin.loginButtonClick();
+//        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
 //        catalog.goToLoginScreen();
     }
 
     @Test
     public void loginToSwagLabsPerformanceGlitchUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("performanceGlitchUserSwagLabsUsername"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
-        swagLabsHome = swagLabsLogin.loginButtonClick();
+        Account account = leaseAccount(AccountRole.SWAG_LABS_PERFORMANCE_GLITCH);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
+        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
         catalog.goToLoginScreen();
     }
 
     @Test
     public void loginToSwagLabsErrorUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("errorUserSwagLabsUsername"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
-        swagLabsHome = swagLabsLogin.loginButtonClick();
+        Account account = leaseAccount(AccountRole.SWAG_LABS_ERROR);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
+        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
         catalog.goToLoginScreen();
     }
 
     @Test
     public void loginToSwagLabsVisualUser() {
+        Catalog catalog = getCatalog();
         Assert.assertTrue(catalog.isProductHeaderVisible(), VisibilityMessage.headerIsNotVisible("Products"));
-        webViewScreen = catalog.goToWebViewScreen();
+        WebViewScreen webViewScreen = catalog.goToWebViewScreen();
         webViewScreen.fillUrlField(WEB_VIEW_URL);
-        swagLabsLogin = webViewScreen.goToSiteButtonClick();
+        SwagLabsLogin swagLabsLogin = webViewScreen.goToSiteButtonClick();
         Assert.assertTrue(swagLabsLogin.isLoginScreenHeaderVisible());
-        swagLabsLogin.fillUsernameField(CredentialManager.credentialReader("visualUserSwagLabPassword"));
-        swagLabsLogin.fillPasswordField(CredentialManager.credentialReader("validSwagLabPassword"));
-        swagLabsHome = swagLabsLogin.loginButtonClick();
+        Account account = leaseAccount(AccountRole.SWAG_LABS_VISUAL);
+        swagLabsLogin.fillUsernameField(account.username());
+        swagLabsLogin.fillPasswordField(account.password());
+        SwagLabsHome swagLabsHome = swagLabsLogin.loginButtonClick();
         catalog.goToLoginScreen();
     }
 
@@ -0,0 +1,13 @@
+package utilities;
+
+/**
+ * A test account leased from the {@link AccountPool}.
+ */
+public record Account(AccountRole role, String username, String password) {
+
+    @Override
+    public String toString() {
+        // Keeps passwords out of logs and test reports
+        return role + " account " + username;
+    }
+}
@@ -0,0 +1,166 @@
+package utilities;
+
+import com.demoappmobile.Exceptions.NoAccountAvailableException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Leases test accounts to concurrently running tests, so that tests running in parallel never log in with the same
+ * account. The accounts are read from the {@link CredentialStore} on every lease, so accounts added to or removed from
+ * the credentials while the suite runs are picked up.
+ * <p>
+ * A lease of an exclusive role takes an account no other test holds, waiting up to the lease timeout when all of them
+ * are leased; a timeout of zero fails fast instead. Accounts of roles that are not exclusive are handed out without
+ * waiting. Leased accounts are remembered per thread, so the test setup can return all accounts of a test at its end.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * Account account = accountPool.lease(AccountRole.VALID);
+ * login.fillUsernameField(account.username()).fillPasswordField(account.password());
+ * // ... at the end of the test ...
+ * accountPool.releaseAll();
+ * }</pre>
+ */
+public class AccountPool {
+
+    private final CredentialStore credentialStore;
+    private final long leaseTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition accountReturned = lock.newCondition();
+    // Leases are tracked by username, so an account stays leased when its password is changed during the lease
+    private final Map<AccountRole, Set<String>> leasedUsernames = new EnumMap<>(AccountRole.class);
+    private final ThreadLocal<List<Account>> accountsOfThread = ThreadLocal.withInitial(ArrayList::new);
+
+    public AccountPool(CredentialStore credentialStore, Duration leaseTimeout) {
+        this.credentialStore = credentialStore;
+        this.leaseTimeoutNanos = leaseTimeout.toNanos();
+    }
+
+    /**
+     * Leases an account of the role to the calling thread, blocking up to the lease timeout when every account of an
+     * exclusive role is leased.
+     *
+     * @param role The role the account has to have.
+     * @return An account reserved for the caller until it is released.
+     * @throws NoAccountAvailableException If the credentials define no account of the role or none became available in time.
+     */
+    public Account lease(AccountRole role) {
+        long deadline = System.nanoTime() + leaseTimeoutNanos;
+        lock.lock();
+        try {
+            while (true) {
+                List<Account> accounts = accountsOf(role);
+                if (accounts.isEmpty()) {
+                    throw new NoAccountAvailableException("The credentials define no " + role + " account, expected the variable "
+                            + role.getUsernameVariable() + ".");
+                }
+                Account account = role.isExclusive() ? firstFreeAccount(accounts) : accounts.getFirst();
+                if (account != null) {
+                    if (role.isExclusive()) {
+                        leasedUsernames.computeIfAbsent(role, leasedRole -> new HashSet<>()).add(account.username());
+                    }
+                    accountsOfThread.get().add(account);
+                    return account;
+                }
+                long remainingNanos = deadline - System.nanoTime();
+                if (remainingNanos <= 0) {
+                    throw new NoAccountAvailableException("No " + role + " account available within " + Duration.ofNanos(leaseTimeoutNanos)
+                            + ", all " + accounts.size() + " accounts are leased.");
+                }
+                accountReturned.awaitNanos(remainingNanos);
+            }
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new NoAccountAvailableException("Interrupted while waiting for a " + role + " account", interruptedException);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns an account to the pool.
+     *
+     * @param account The account obtained from {@link #lease(AccountRole)}.
+     */
+    public void release(Account account) {
+        accountsOfThread.get().remove(account);
+        lock.lock();
+        try {
+            if (returnAccount(account)) {
+                accountReturned.signalAll();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returns every account the calling thread leased and did not release yet, e.g. at the end of a test.
+     */
+    public void releaseAll() {
+        List<Account> accounts = accountsOfThread.get();
+        if (accounts.isEmpty()) {
+            return;
+        }
+        lock.lock();
+        try {
+            accounts.forEach(this::returnAccount);
+            accountReturned.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        accounts.clear();
+    }
+
+    public int getLeasedAccountCount() {
+        lock.lock();
+        try {
+            return leasedUsernames.values().stream().mapToInt(Set::size).sum();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * @return The accounts of the role defined by the current credentials: the account of the role's variables
+     * followed by the numbered ones, up to the first missing number.
+     */
+    private List<Account> accountsOf(AccountRole role) {
+        Map<String, String> credentials = credentialStore.snapshot();
+        List<Account> accounts = new ArrayList<>();
+        String username = credentials.get(role.getUsernameVariable());
+        String password = credentials.get(role.getPasswordVariable());
+        if (username == null || password == null) {
+            return accounts;
+        }
+        accounts.add(new Account(role, username, password));
+        for (int number = 2; (username = credentials.get(role.getUsernameVariable() + "." + number)) != null; number++) {
+            accounts.add(new Account(role, username, credentials.getOrDefault(role.getPasswordVariable() + "." + number, password)));
+        }
+        return accounts;
+    }
+
+    private Account firstFreeAccount(List<Account> accounts) {
+        for (Account account : accounts) {
+            Set<String> leased = leasedUsernames.get(account.role());
+            if (leased == null || !leased.contains(account.username())) {
+                return account;
+            }
+        }
+        return null;
+    }
+
+    private boolean returnAccount(Account account) {
+        Set<String> leased = leasedUsernames.get(account.role());
+        return leased != null && leased.remove(account.username());
+    }
+}
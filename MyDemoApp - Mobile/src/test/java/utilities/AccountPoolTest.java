@@ -0,0 +1,95 @@
+package utilities;
+
+import com.demoappmobile.Exceptions.NoAccountAvailableException;
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+public class AccountPoolTest {
+
+    private static final Map<String, String> CREDENTIALS = Map.of(
+            "validUsername", "bob@example.com",
+            "validPassword", "10203040",
+            "validUsername.2", "carol@example.com",
+            "validPassword.2", "50607080",
+            "lockeOutUsername", "alice@example.com",
+            "invalidPassword", "wrong-password");
+
+    private final CredentialStore credentialStore = new CredentialStore(List.of(() -> CREDENTIALS));
+
+    @Test
+    public void exclusiveAccountsAreLeasedToOneTestAtATime() throws Exception {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ZERO);
+
+        Account first = accountPool.lease(AccountRole.VALID);
+        Account second = CompletableFuture.supplyAsync(() -> accountPool.lease(AccountRole.VALID)).get(5, TimeUnit.SECONDS);
+
+        Assert.assertEquals(Set.of(first, second), Set.of(new Account(AccountRole.VALID, "bob@example.com", "10203040"),
+                new Account(AccountRole.VALID, "carol@example.com", "50607080")));
+        Assert.assertThrows(NoAccountAvailableException.class, () -> accountPool.lease(AccountRole.VALID));
+    }
+
+    @Test
+    public void leasesWaitUntilAnAccountIsReturned() throws Exception {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ofSeconds(10));
+        Account first = accountPool.lease(AccountRole.VALID);
+        accountPool.lease(AccountRole.VALID);
+
+        CompletableFuture<Account> waiting = CompletableFuture.supplyAsync(() -> accountPool.lease(AccountRole.VALID));
+        Thread.sleep(100);
+        Assert.assertFalse(waiting.isDone());
+        accountPool.release(first);
+
+        Assert.assertEquals(waiting.get(5, TimeUnit.SECONDS), first);
+    }
+
+    @Test
+    public void accountsOfRolesThatCannotLogInAreShared() {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ZERO);
+
+        Account first = accountPool.lease(AccountRole.LOCKED_OUT);
+        Account second = accountPool.lease(AccountRole.LOCKED_OUT);
+
+        Assert.assertEquals(first, second);
+        Assert.assertEquals(first.password(), "10203040");
+        Assert.assertEquals(accountPool.getLeasedAccountCount(), 0);
+    }
+
+    @Test
+    public void wrongPasswordAccountDoesNotHoldAValidAccount() {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ZERO);
+        accountPool.lease(AccountRole.VALID);
+        accountPool.lease(AccountRole.VALID);
+
+        Account account = accountPool.lease(AccountRole.WRONG_PASSWORD);
+
+        Assert.assertEquals(account.username(), "bob@example.com");
+        Assert.assertEquals(account.password(), "wrong-password");
+        Assert.assertEquals(accountPool.getLeasedAccountCount(), 2);
+    }
+
+    @Test
+    public void testEndReturnsAllAccountsOfTheThread() {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ZERO);
+        accountPool.lease(AccountRole.VALID);
+        accountPool.lease(AccountRole.VALID);
+
+        accountPool.releaseAll();
+
+        Assert.assertEquals(accountPool.getLeasedAccountCount(), 0);
+        Assert.assertNotNull(accountPool.lease(AccountRole.VALID));
+    }
+
+    @Test
+    public void undefinedRolesAreReported() {
+        AccountPool accountPool = new AccountPool(credentialStore, Duration.ofSeconds(10));
+
+        Assert.assertThrows(NoAccountAvailableException.class, () -> accountPool.lease(AccountRole.SWAG_LABS_STANDARD));
+    }
+}
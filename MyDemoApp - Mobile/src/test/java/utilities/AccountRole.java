@@ -0,0 +1,49 @@
+package utilities;
+
+/**
+ * The kinds of test accounts, each naming the credential variables its accounts are read from.
+ * <p>
+ * Further accounts of a role are defined by numbered variables, e.g. {@code validUsername.2} with
+ * {@code validPassword.2}; an account without its own numbered password uses the password of the role. Roles whose
+ * login never succeeds are not exclusive: they change no state of the app, so any number of tests share them.
+ */
+public enum AccountRole {
+
+    VALID("validUsername", "validPassword", true),
+    LOCKED_OUT("lockeOutUsername", "validPassword", false),
+    UNKNOWN("invalidUsername", "validPassword", false),
+    // A valid username with a wrong password, which never logs in, so it does not hold one of the valid accounts
+    WRONG_PASSWORD("validUsername", "invalidPassword", false),
+
+    SWAG_LABS_STANDARD("validUserSwagLabsUsername", "validSwagLabPassword", true),
+    SWAG_LABS_LOCKED_OUT("lockeOutSwagLabsUsername", "validSwagLabPassword", false),
+    SWAG_LABS_PROBLEM("problemUserSwagLabsUsername", "validSwagLabPassword", true),
+    SWAG_LABS_PERFORMANCE_GLITCH("performanceGlitchUserSwagLabsUsername", "validSwagLabPassword", true),
+    SWAG_LABS_ERROR("errorUserSwagLabsUsername", "validSwagLabPassword", true),
+    SWAG_LABS_VISUAL("visualUserSwagLabPassword", "validSwagLabPassword", true);
+
+    private final String usernameVariable;
+    private final String passwordVariable;
+    private final boolean exclusive;
+
+    AccountRole(String usernameVariable, String passwordVariable, boolean exclusive) {
+        this.usernameVariable = usernameVariable;
+        this.passwordVariable = passwordVariable;
+        this.exclusive = exclusive;
+    }
+
+    public String getUsernameVariable() {
+        return usernameVariable;
+    }
+
+    public String getPasswordVariable() {
+        return passwordVariable;
+    }
+
+    /**
+     * @return true if an account of this role is leased to one test at a time.
+     */
+    public boolean isExclusive() {
+        return exclusive;
+    }
+}
@@ -2,39 +2,45 @@ package utilities;
 
 import com.demoappmobile.Exceptions.NoSuchCredentialVariableException;
 
-import java.io.FileReader;
-import java.io.IOException;
-import java.util.Properties;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
 
 /**
- * Manages the retrieval of credentials from a properties file.
- * This utility class provides a method to read and return the value of a specified credential variable
- * from a predefined properties file containing sensitive information like usernames, passwords, API keys, etc.
+ * Manages the retrieval of credentials for the tests.
+ * Credentials are read once into a {@link CredentialStore} and reloaded when the credentials file changes. A variable
+ * is taken from, in order of precedence, the system property {@code credential.<name>}, the environment variable
+ * {@code CREDENTIAL_<name>} and the predefined properties file containing sensitive information like usernames,
+ * passwords, API keys, etc.
  */
 public class CredentialManager {
 
     private static final String CREDENTIALS_FILE_PATH = "src/main/resources/credentials.properties";
 
+    private static final CredentialStore credentialStore = new CredentialStore(List.of(
+            CredentialSource.systemProperties("credential."),
+            CredentialSource.environment("CREDENTIAL_"),
+            CredentialSource.propertiesFile(Path.of(CREDENTIALS_FILE_PATH)))).watch();
+
+    // -Daccount.lease.timeout.seconds=0 fails fast instead of waiting when every account of a role is leased
+    private static final AccountPool accountPool = new AccountPool(credentialStore,
+            Duration.ofSeconds(Long.getLong("account.lease.timeout.seconds", 120)));
+
     /**
-     * Reads and returns the value of a specified credential variable from the credentials properties file.
+     * Returns the value of a specified credential variable.
      *
      * @param credentialVariable The name of the credential variable to retrieve the value for.
      * @return The value of the specified credential variable.
-     * @throws NoSuchCredentialVariableException If the specified credential variable does not exist in the properties file.
+     * @throws NoSuchCredentialVariableException If the specified credential variable is not defined by any source.
      */
     public static String credentialReader(String credentialVariable) {
-        String credentialValue = null;
-        try (FileReader reader = new FileReader(CREDENTIALS_FILE_PATH)) {
-            Properties properties = new Properties();
-            properties.load(reader);
-            credentialValue = properties.getProperty(credentialVariable);
-
-            if (credentialValue == null) {
-                throw new NoSuchCredentialVariableException("There is no \"" + credentialVariable + "\" variable in credentials!");
-            }
-        } catch (IOException ioException) {
-            ioException.getStackTrace();
-        }
-        return credentialValue;
+        return credentialStore.get(credentialVariable);
+    }
+
+    /**
+     * @return The pool handing out the accounts defined by the credentials to parallel tests.
+     */
+    public static AccountPool getAccountPool() {
+        return accountPool;
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,90 @@
+package utilities;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+/**
+ * Supplies credential variables to a {@link CredentialStore}. A source is read completely whenever the store loads
+ * or reloads its snapshot, never per lookup.
+ */
+@FunctionalInterface
+public interface CredentialSource {
+
+    /**
+     * @return The credential variables currently defined by this source, by name.
+     * @throws IOException If the source could not be read.
+     */
+    Map<String, String> load() throws IOException;
+
+    /**
+     * @return The file the store watches to reload when it changes, if this source is backed by one.
+     */
+    default Optional<Path> watchedFile() {
+        return Optional.empty();
+    }
+
+    /**
+     * Reads the variables of a properties file. A file that does not exist defines no variables, so credentials can
+     * be supplied by the other sources alone, e.g. on CI.
+     */
+    static CredentialSource propertiesFile(Path file) {
+        return new CredentialSource() {
+            @Override
+            public Map<String, String> load() throws IOException {
+                Properties properties = new Properties();
+                try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+                    properties.load(reader);
+                } catch (NoSuchFileException e) {
+                    return Map.of();
+                }
+                Map<String, String> variables = new HashMap<>();
+                properties.stringPropertyNames().forEach(name -> variables.put(name, properties.getProperty(name)));
+                return variables;
+            }
+
+            @Override
+            public Optional<Path> watchedFile() {
+                return Optional.of(file);
+            }
+        };
+    }
+
+    /**
+     * Reads the environment variables starting with the prefix, named without it, e.g. {@code CREDENTIAL_validPassword}
+     * defines {@code validPassword} for the prefix {@code CREDENTIAL_}.
+     */
+    static CredentialSource environment(String prefix) {
+        return () -> withoutPrefix(System.getenv(), prefix);
+    }
+
+    /**
+     * Reads the system properties starting with the prefix, named without it, e.g. {@code -Dcredential.validPassword=...}
+     * defines {@code validPassword} for the prefix {@code credential.}.
+     */
+    static CredentialSource systemProperties(String prefix) {
+        return () -> {
+            Properties properties = System.getProperties();
+            Map<String, String> variables = new HashMap<>();
+            properties.stringPropertyNames().forEach(name -> variables.put(name, properties.getProperty(name)));
+            return withoutPrefix(variables, prefix);
+        };
+    }
+
+    private static Map<String, String> withoutPrefix(Map<String, String> variables, String prefix) {
+        Map<String, String> matching = new HashMap<>();
+        variables.forEach((name, value) -> {
+            if (name.startsWith(prefix) && name.length() > prefix.length()) {
+                matching.put(name.substring(prefix.length()), value);
+            }
+        });
+        return matching;
+    }
+}
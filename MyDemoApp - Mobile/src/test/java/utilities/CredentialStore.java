@@ -0,0 +1,189 @@
+package utilities;
+
+import com.demoappmobile.Exceptions.NoSuchCredentialVariableException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Holds the credential variables of several {@link CredentialSource}s as one immutable snapshot, loaded on the first
+ * lookup. Lookups are map reads on that snapshot, no matter how many tests ask for credentials.
+ * <p>
+ * Sources are given in order of precedence: a variable defined by several sources takes the value of the first one.
+ * After {@link #watch()}, changes of the sources' files are picked up without restarting the suite. A reload builds a
+ * complete new snapshot and replaces the old one at once, so a lookup sees either all old or all new values. A reload
+ * that fails keeps the previous snapshot.
+ * <p>
+ * Usage Example:
+ * <pre>{@code
+ * CredentialStore store = new CredentialStore(List.of(CredentialSource.systemProperties("credential."),
+ *         CredentialSource.propertiesFile(Path.of("src/main/resources/credentials.properties")))).watch();
+ * String password = store.get("validPassword");
+ * }</pre>
+ */
+public final class CredentialStore implements AutoCloseable {
+
+    private static final Logger logger = LoggerFactory.getLogger(CredentialStore.class);
+    // Saving a file is often a truncation followed by writes, each reported on its own
+    private static final Duration SETTLE_TIME = Duration.ofMillis(100);
+
+    private final List<CredentialSource> sources;
+    private volatile Map<String, String> snapshot;
+    private volatile WatchService watchService;
+
+    /**
+     * @param sources The sources of the credential variables, the one taking precedence first.
+     */
+    public CredentialStore(List<CredentialSource> sources) {
+        this.sources = List.copyOf(sources);
+    }
+
+    /**
+     * @param credentialVariable The name of the credential variable.
+     * @return The value of the variable.
+     * @throws NoSuchCredentialVariableException If no source defines the variable.
+     * @throws UncheckedIOException              If the sources could not be read on the first lookup.
+     */
+    public String get(String credentialVariable) {
+        String credentialValue = snapshot().get(credentialVariable);
+        if (credentialValue == null) {
+            throw new NoSuchCredentialVariableException("There is no \"" + credentialVariable + "\" variable in credentials!");
+        }
+        return credentialValue;
+    }
+
+    /**
+     * @return The value of the variable, or empty if no source defines it.
+     */
+    public Optional<String> find(String credentialVariable) {
+        return Optional.ofNullable(snapshot().get(credentialVariable));
+    }
+
+    /**
+     * @return All credential variables of the current snapshot, by name.
+     */
+    public Map<String, String> snapshot() {
+        Map<String, String> current = snapshot;
+        if (current == null) {
+            synchronized (this) {
+                current = snapshot;
+                if (current == null) {
+                    current = load();
+                    snapshot = current;
+                }
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Reads all sources again and replaces the snapshot.
+     *
+     * @throws UncheckedIOException If a source could not be read; the previous snapshot stays in use.
+     */
+    public synchronized void reload() {
+        snapshot = load();
+    }
+
+    /**
+     * Reloads the snapshot whenever a file of the sources is created or modified, on a daemon thread. Calling it
+     * again has no effect.
+     *
+     * @return This store.
+     * @throws UncheckedIOException If the directories of the files could not be watched.
+     */
+    public synchronized CredentialStore watch() {
+        if (watchService != null) {
+            return this;
+        }
+        Set<Path> watchedFiles = new HashSet<>();
+        sources.forEach(source -> source.watchedFile().ifPresent(file -> watchedFiles.add(file.toAbsolutePath().normalize())));
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+            // Files in directories that do not exist, e.g. when credentials come from the environment on CI, are not watched
+            for (Path directory : watchedFiles.stream().map(Path::getParent).filter(Files::isDirectory).distinct().toList()) {
+                directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE, StandardWatchEventKinds.ENTRY_MODIFY);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not watch the credential files " + watchedFiles, e);
+        }
+        Thread watcher = new Thread(() -> reloadOnChange(watchService, watchedFiles), "credential-watcher");
+        watcher.setDaemon(true);
+        watcher.start();
+        return this;
+    }
+
+    /**
+     * Stops watching the files of the sources. The current snapshot stays usable.
+     */
+    @Override
+    public synchronized void close() {
+        if (watchService != null) {
+            try {
+                watchService.close();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    private Map<String, String> load() {
+        Map<String, String> variables = new HashMap<>();
+        // Sources are applied from the lowest precedence up, so the first source overwrites all others
+        for (CredentialSource source : sources.reversed()) {
+            try {
+                variables.putAll(source.load());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read credentials", e);
+            }
+        }
+        return Map.copyOf(variables);
+    }
+
+    private void reloadOnChange(WatchService watchService, Set<Path> watchedFiles) {
+        try {
+            while (true) {
+                boolean changed = false;
+                // Waits for the first change, then until the file was left alone for the settle time
+                for (WatchKey key = watchService.take(); key != null; key = watchService.poll(SETTLE_TIME.toMillis(), TimeUnit.MILLISECONDS)) {
+                    for (WatchEvent<?> event : key.pollEvents()) {
+                        if (event.context() instanceof Path fileName && watchedFiles.contains(((Path) key.watchable()).resolve(fileName))) {
+                            changed = true;
+                        }
+                    }
+                    key.reset();
+                }
+                if (changed) {
+                    try {
+                        reload();
+                        logger.info("Reloaded credentials after a change of {}", watchedFiles);
+                    } catch (UncheckedIOException e) {
+                        logger.warn("Keeping the previous credentials, reloading failed", e);
+                    }
+                }
+            }
+        } catch (ClosedWatchServiceException e) {
+            // Closed by close()
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package utilities;
+
+import com.demoappmobile.Exceptions.NoSuchCredentialVariableException;
+import org.testng.Assert;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class CredentialStoreTest {
+
+    private Path credentialsFile;
+
+    @BeforeMethod
+    public void createCredentialsFile() throws IOException {
+        credentialsFile = Files.createTempDirectory("credentials").resolve("credentials.properties");
+        Files.writeString(credentialsFile, "validUsername=bob@example.com\nvalidPassword=10203040\n");
+    }
+
+    @AfterMethod(alwaysRun = true)
+    public void deleteCredentialsFile() throws IOException {
+        Files.deleteIfExists(credentialsFile);
+        Files.deleteIfExists(credentialsFile.getParent());
+        System.clearProperty("credential-test.validPassword");
+    }
+
+    @Test
+    public void sourcesAreReadOnceAndTheFirstSourceTakesPrecedence() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialSource countingSource = () -> {
+            loads.incrementAndGet();
+            return Map.of("invalidPassword", "Zxcvb2@");
+        };
+        System.setProperty("credential-test.validPassword", "overridden");
+        CredentialStore store = new CredentialStore(List.of(CredentialSource.systemProperties("credential-test."),
+                countingSource, CredentialSource.propertiesFile(credentialsFile)));
+
+        for (int i = 0; i < 100; i++) {
+            Assert.assertEquals(store.get("validUsername"), "bob@example.com");
+            Assert.assertEquals(store.get("validPassword"), "overridden");
+            Assert.assertEquals(store.get("invalidPassword"), "Zxcvb2@");
+        }
+
+        Assert.assertEquals(loads.get(), 1);
+    }
+
+    @Test
+    public void undefinedVariablesAreReported() {
+        CredentialStore store = new CredentialStore(List.of(CredentialSource.propertiesFile(credentialsFile)));
+
+        Assert.assertTrue(store.find("lockeOutUsername").isEmpty());
+        Assert.assertThrows(NoSuchCredentialVariableException.class, () -> store.get("lockeOutUsername"));
+    }
+
+    @Test
+    public void missingFilesDefineNoVariables() throws IOException {
+        Files.delete(credentialsFile);
+        CredentialStore store = new CredentialStore(List.of(() -> Map.of("validUsername", "ci@example.com"),
+                CredentialSource.propertiesFile(credentialsFile)));
+
+        Assert.assertEquals(store.get("validUsername"), "ci@example.com");
+    }
+
+    @Test
+    public void failedReloadsKeepThePreviousSnapshot() {
+        AtomicInteger loads = new AtomicInteger();
+        CredentialStore store = new CredentialStore(List.of(() -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IOException("Vault not reachable");
+            }
+            return Map.of("validUsername", "bob@example.com");
+        }));
+        store.get("validUsername");
+
+        Assert.assertThrows(UncheckedIOException.class, store::reload);
+        Assert.assertEquals(store.get("validUsername"), "bob@example.com");
+    }
+
+    @Test
+    public void changedFilesAreReloaded() throws IOException, InterruptedException {
+        try (CredentialStore store = new CredentialStore(List.of(CredentialSource.propertiesFile(credentialsFile))).watch()) {
+            Assert.assertEquals(store.get("validPassword"), "10203040");
+
+            Files.writeString(credentialsFile, "validUsername=bob@example.com\nvalidPassword=rotated\n");
+
+            long deadline = System.nanoTime() + 10_000_000_000L;
+            while (!store.find("validPassword").orElse("").equals("rotated") && System.nanoTime() < deadline) {
+                Thread.sleep(20);
+            }
+            Assert.assertEquals(store.get("validPassword"), "rotated");
+            Assert.assertEquals(store.get("validUsername"), "bob@example.com");
+        }
+    }
+}